@@ -3,13 +3,16 @@ package com.assistivehub.controller;
 import com.assistivehub.dto.GitHubRepositoryRequest;
 import com.assistivehub.dto.GitHubRepositoryResponse;
 import com.assistivehub.entity.User;
+import com.assistivehub.integration.github.dto.GitHubRepositorySummary;
 import com.assistivehub.service.GitHubRepositoryService;
 import com.assistivehub.service.UserService;
-import com.assistivehub.util.JwtUtil;
+import com.assistivehub.security.AuthenticatedUser;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
@@ -29,31 +32,11 @@ public class GitHubRepositoryController {
     @Autowired
     private UserService userService;
 
-    @Autowired
-    private JwtUtil jwtUtil;
-
     /**
      * 현재 요청에서 사용자 ID 추출
      */
     private Long getCurrentUserId(HttpServletRequest request) {
-        String token = extractTokenFromRequest(request);
-        if (token == null) {
-            throw new RuntimeException("인증 토큰이 필요합니다.");
-        }
-        String email = jwtUtil.extractUsername(token);
-        User user = userService.findByEmail(email);
-        return user.getId();
-    }
-
-    /**
-     * 요청 헤더에서 JWT 토큰 추출
-     */
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
+        return AuthenticatedUser.current().getUserId();
     }
 
     /**
@@ -241,7 +224,7 @@ public class GitHubRepositoryController {
             HttpServletRequest request) {
         try {
             Long userId = getCurrentUserId(request);
-            List<Map<String, Object>> repositories = gitHubRepositoryService
+            List<GitHubRepositorySummary> repositories = gitHubRepositoryService
                     .fetchGitHubRepositoriesWithStatus(accessToken, userId);
 
             Map<String, Object> result = new HashMap<>();
@@ -256,4 +239,23 @@ public class GitHubRepositoryController {
             return ResponseEntity.badRequest().body(error);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * GitHub 리포지토리 목록 스트리밍 (NDJSON, 페이지를 받는 대로 한 줄에 하나씩 전송)
+     * 인증 실패나 조회 실패는 {"success":false,"message":...} 한 줄을 마지막으로 보내고 끝냅니다.
+     */
+    @GetMapping(value = "/repositories/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Object> streamRepositoriesFromGitHub(
+            @RequestParam String accessToken,
+            HttpServletRequest request) {
+        return Flux.defer(() -> gitHubRepositoryService.streamGitHubRepositoriesWithStatus(accessToken,
+                        getCurrentUserId(request)))
+                .cast(Object.class)
+                .onErrorResume(e -> {
+                    Map<String, Object> error = new HashMap<>();
+                    error.put("success", false);
+                    error.put("message", e.getMessage());
+                    return Flux.just(error);
+                });
+    }
+}
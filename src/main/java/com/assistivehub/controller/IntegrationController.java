@@ -1,10 +1,16 @@
 package com.assistivehub.controller;
 
 import com.assistivehub.entity.IntegratedService;
-import com.assistivehub.entity.User;
+import com.assistivehub.integration.common.client.UpstreamCircuitBreakers;
+import com.assistivehub.integration.common.client.UpstreamRateLimitGovernor;
+import com.assistivehub.integration.common.client.UpstreamResponseCache;
 import com.assistivehub.integration.common.service.IntegrationService;
-import com.assistivehub.service.UserService;
-import com.assistivehub.util.JwtUtil;
+import com.assistivehub.integration.common.sync.IntegrationSyncScheduler;
+import com.assistivehub.integration.github.service.GitHubWebhookService;
+import com.assistivehub.integration.slack.service.SlackEventService;
+import com.assistivehub.security.AdminUsers;
+import com.assistivehub.security.AuthenticatedUser;
+import com.assistivehub.util.IntegrationSettingsCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -24,33 +30,34 @@ public class IntegrationController {
     private IntegrationService integrationService;
 
     @Autowired
-    private UserService userService;
+    private IntegrationSettingsCache settingsCache;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private UpstreamResponseCache upstreamResponseCache;
+
+    @Autowired
+    private UpstreamRateLimitGovernor upstreamRateLimitGovernor;
+
+    @Autowired
+    private UpstreamCircuitBreakers upstreamCircuitBreakers;
+
+    @Autowired
+    private IntegrationSyncScheduler integrationSyncScheduler;
+
+    @Autowired
+    private SlackEventService slackEventService;
+
+    @Autowired
+    private GitHubWebhookService gitHubWebhookService;
+
+    @Autowired
+    private AdminUsers adminUsers;
 
     /**
      * 현재 요청에서 사용자 ID 추출
      */
     private Long getCurrentUserId(HttpServletRequest request) {
-        String token = extractTokenFromRequest(request);
-        if (token == null) {
-            throw new RuntimeException("인증 토큰이 필요합니다.");
-        }
-        String email = jwtUtil.extractUsername(token);
-        User user = userService.findByEmail(email);
-        return user.getId();
-    }
-
-    /**
-     * 요청 헤더에서 JWT 토큰 추출
-     */
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
+        return AuthenticatedUser.current().getUserId();
     }
 
     /**
@@ -111,6 +118,199 @@ public class IntegrationController {
         }
     }
 
+    /**
+     * 복호화된 연동 설정 캐시 통계 조회
+     */
+    @GetMapping("/settings-cache/stats")
+    public ResponseEntity<Map<String, Object>> getSettingsCacheStats(HttpServletRequest httpRequest) {
+        try {
+            getCurrentUserId(httpRequest);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("data", settingsCache.getStats());
+
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * 외부 API 조건부 요청 캐시 통계 조회
+     */
+    @GetMapping("/upstream-cache/stats")
+    public ResponseEntity<Map<String, Object>> getUpstreamCacheStats(HttpServletRequest httpRequest) {
+        try {
+            getCurrentUserId(httpRequest);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("data", upstreamResponseCache.getStats());
+
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * 외부 API 요청 한도 조회 (프로바이더별 요약, 관리자는 토큰별 남은 요청 수까지)
+     */
+    @GetMapping("/upstream-rate-limits")
+    public ResponseEntity<Map<String, Object>> getUpstreamRateLimits(HttpServletRequest httpRequest) {
+        try {
+            Long userId = getCurrentUserId(httpRequest);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("data", upstreamRateLimitGovernor.getStats(adminUsers.isAdmin(userId)));
+
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * 외부 API 호스트별 서킷 브레이커/벌크헤드 상태 조회 (관리자 전용)
+     */
+    @GetMapping("/upstream-circuits")
+    public ResponseEntity<Map<String, Object>> getUpstreamCircuits(HttpServletRequest httpRequest) {
+        try {
+            adminUsers.requireAdmin(getCurrentUserId(httpRequest));
+
+            List<Map<String, Object>> states = upstreamCircuitBreakers.getStates();
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("data", states);
+            result.put("count", states.size());
+
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * 외부 API 서킷 수동 재개 (장애 복구 확인 후, 관리자만)
+     */
+    @PostMapping("/upstream-circuits/reset")
+    public ResponseEntity<Map<String, Object>> resetUpstreamCircuit(
+            @RequestParam String host,
+            HttpServletRequest httpRequest) {
+        try {
+            adminUsers.requireAdmin(getCurrentUserId(httpRequest));
+
+            if (!upstreamCircuitBreakers.reset(host)) {
+                throw new RuntimeException("서킷 정보를 찾을 수 없습니다: " + host);
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("message", "서킷이 재개되었습니다.");
+
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * 백그라운드 동기화 스케줄러 상태 조회
+     */
+    @GetMapping("/sync-scheduler/stats")
+    public ResponseEntity<Map<String, Object>> getSyncSchedulerStats(HttpServletRequest httpRequest) {
+        try {
+            getCurrentUserId(httpRequest);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("data", integrationSyncScheduler.getStats());
+
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * 슬랙 Events API 수신 큐 상태 조회
+     */
+    @GetMapping("/slack-events/stats")
+    public ResponseEntity<Map<String, Object>> getSlackEventStats(HttpServletRequest httpRequest) {
+        try {
+            getCurrentUserId(httpRequest);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("data", slackEventService.getStats());
+
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * 깃허브 웹훅 수신/처리 상태 조회
+     */
+    @GetMapping("/github-webhooks/stats")
+    public ResponseEntity<Map<String, Object>> getGitHubWebhookStats(HttpServletRequest httpRequest) {
+        try {
+            getCurrentUserId(httpRequest);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("data", gitHubWebhookService.getStats());
+
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     /**
      * 연동 활성화/비활성화
      */
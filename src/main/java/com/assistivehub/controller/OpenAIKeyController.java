@@ -3,11 +3,9 @@ package com.assistivehub.controller;
 import com.assistivehub.dto.OpenAIKeyRequest;
 import com.assistivehub.dto.OpenAIKeyResponse;
 import com.assistivehub.dto.OpenAIKeyUpdateRequest;
-import com.assistivehub.entity.User;
 import com.assistivehub.service.OpenAIKeyService;
-import com.assistivehub.service.UserService;
-import com.assistivehub.util.JwtUtil;
 import com.assistivehub.service.OpenAIValidationService;
+import com.assistivehub.security.AuthenticatedUser;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,12 +25,6 @@ public class OpenAIKeyController {
     @Autowired
     private OpenAIKeyService openAIKeyService;
 
-    @Autowired
-    private UserService userService;
-
-    @Autowired
-    private JwtUtil jwtUtil;
-
     @Autowired
     private OpenAIValidationService openAIValidationService;
 
@@ -40,24 +32,7 @@ public class OpenAIKeyController {
      * 현재 요청에서 사용자 ID 추출
      */
     private Long getCurrentUserId(HttpServletRequest request) {
-        String token = extractTokenFromRequest(request);
-        if (token == null) {
-            throw new RuntimeException("인증 토큰이 필요합니다.");
-        }
-        String email = jwtUtil.extractUsername(token);
-        User user = userService.findByEmail(email);
-        return user.getId();
-    }
-
-    /**
-     * 요청 헤더에서 JWT 토큰 추출
-     */
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
+        return AuthenticatedUser.current().getUserId();
     }
 
     /**
@@ -0,0 +1,170 @@
+package com.assistivehub.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 깃허브 리포지토리 활동 (커밋, PR, 이슈, 릴리스)
+ *
+ * 증분 동기화가 JDBC 배치로 (repository_id, activity_type, external_id) 기준 upsert 합니다.
+ * 리포지토리 삭제와 독립적으로 두기 위해 외래 키 대신 repository_id 값만 저장합니다.
+ */
+@Entity
+@Table(name = "github_activities", uniqueConstraints = @UniqueConstraint(name = "uk_github_activity",
+        columnNames = { "repository_id", "activity_type", "external_id" }), indexes = @Index(
+                name = "idx_github_activity_occurred", columnList = "repository_id, occurred_at"))
+public class GitHubActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "repository_id", nullable = false)
+    private Long repositoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "activity_type", nullable = false, length = 20)
+    private ActivityType activityType;
+
+    // 커밋 SHA, PR/이슈 번호, 릴리스 ID
+    @Column(name = "external_id", nullable = false, length = 64)
+    private String externalId;
+
+    @Column(name = "title", length = 500)
+    private String title;
+
+    @Column(name = "author")
+    private String author;
+
+    @Column(name = "url", length = 500)
+    private String url;
+
+    @Column(name = "state", length = 20)
+    private String state;
+
+    @Column(name = "occurred_at")
+    private LocalDateTime occurredAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum ActivityType {
+        COMMIT("커밋"),
+        PULL_REQUEST("풀 리퀘스트"),
+        ISSUE("이슈"),
+        RELEASE("릴리스");
+
+        private final String displayName;
+
+        ActivityType(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getRepositoryId() {
+        return repositoryId;
+    }
+
+    public void setRepositoryId(Long repositoryId) {
+        this.repositoryId = repositoryId;
+    }
+
+    public ActivityType getActivityType() {
+        return activityType;
+    }
+
+    public void setActivityType(ActivityType activityType) {
+        this.activityType = activityType;
+    }
+
+    public String getExternalId() {
+        return externalId;
+    }
+
+    public void setExternalId(String externalId) {
+        this.externalId = externalId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -7,6 +7,12 @@ import java.time.LocalDateTime;
 @Table(name = "github_integrations")
 public class GitHubIntegration {
 
+    // encrypted_settings 문서의 섹션 이름
+    public static final String SECTION_REPOSITORIES = "repositories";
+    public static final String SECTION_WEBHOOKS = "webhooks";
+    public static final String SECTION_NOTIFICATION_SETTINGS = "notificationSettings";
+    public static final String SECTION_SYNC_SETTINGS = "syncSettings";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -46,6 +52,10 @@ public class GitHubIntegration {
     @Column(name = "encrypted_sync_settings", columnDefinition = "TEXT")
     private String encryptedSyncSettings;
 
+    // 모든 설정을 하나로 묶은 암호화 문서 (값이 있으면 개별 암호화 컬럼보다 우선)
+    @Column(name = "encrypted_settings", columnDefinition = "TEXT")
+    private String encryptedSettings;
+
     // 개별 설정들
     @Column(name = "auto_sync_enabled")
     private Boolean autoSyncEnabled = true;
@@ -71,6 +81,13 @@ public class GitHubIntegration {
     @Column(name = "last_sync_at")
     private LocalDateTime lastSyncAt;
 
+    // 백그라운드 동기화 임대 (IntegrationSyncLeases가 직접 갱신, JPA 저장에서는 제외)
+    @Column(name = "sync_lease_owner", insertable = false, updatable = false)
+    private String syncLeaseOwner;
+
+    @Column(name = "sync_lease_until", insertable = false, updatable = false)
+    private LocalDateTime syncLeaseUntil;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -153,6 +170,14 @@ public class GitHubIntegration {
         this.email = email;
     }
 
+    public String getEncryptedSettings() {
+        return encryptedSettings;
+    }
+
+    public void setEncryptedSettings(String encryptedSettings) {
+        this.encryptedSettings = encryptedSettings;
+    }
+
     public String getEncryptedRepositories() {
         return encryptedRepositories;
     }
@@ -249,6 +274,14 @@ public class GitHubIntegration {
         this.lastSyncAt = lastSyncAt;
     }
 
+    public String getSyncLeaseOwner() {
+        return syncLeaseOwner;
+    }
+
+    public LocalDateTime getSyncLeaseUntil() {
+        return syncLeaseUntil;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -85,6 +85,13 @@ public class GitHubRepository {
     @Column(name = "last_sync_at")
     private LocalDateTime lastSyncAt;
 
+    // 백그라운드 동기화 임대 (IntegrationSyncLeases가 직접 갱신, JPA 저장에서는 제외)
+    @Column(name = "sync_lease_owner", insertable = false, updatable = false)
+    private String syncLeaseOwner;
+
+    @Column(name = "sync_lease_until", insertable = false, updatable = false)
+    private LocalDateTime syncLeaseUntil;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -295,6 +302,14 @@ public class GitHubRepository {
         this.lastSyncAt = lastSyncAt;
     }
 
+    public String getSyncLeaseOwner() {
+        return syncLeaseOwner;
+    }
+
+    public LocalDateTime getSyncLeaseUntil() {
+        return syncLeaseUntil;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,106 @@
+package com.assistivehub.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 깃허브 리포지토리별 증분 동기화 위치 (항목 종류별 since 시각 또는 마지막 ID, ETag)
+ */
+@Entity
+@Table(name = "github_sync_cursors", uniqueConstraints = @UniqueConstraint(name = "uk_github_sync_cursor",
+        columnNames = { "repository_id", "resource_type" }))
+public class GitHubSyncCursor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "repository_id", nullable = false)
+    private Long repositoryId;
+
+    // COMMIT, PULL_REQUEST, ISSUE, RELEASE
+    @Column(name = "resource_type", nullable = false, length = 20)
+    private String resourceType;
+
+    @Column(name = "cursor_value")
+    private String cursorValue;
+
+    @Column(name = "etag")
+    private String etag;
+
+    // 최신순 조회를 다 읽지 못했을 때 이어서 읽을 다음 페이지 URL
+    @Column(name = "pending_url", length = 1000)
+    private String pendingUrl;
+
+    // 다 읽지 못한 조회에서 지금까지 본 가장 최근 값 (조회를 마치면 cursor_value가 됨)
+    @Column(name = "pending_value")
+    private String pendingValue;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getRepositoryId() {
+        return repositoryId;
+    }
+
+    public void setRepositoryId(Long repositoryId) {
+        this.repositoryId = repositoryId;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public void setResourceType(String resourceType) {
+        this.resourceType = resourceType;
+    }
+
+    public String getCursorValue() {
+        return cursorValue;
+    }
+
+    public void setCursorValue(String cursorValue) {
+        this.cursorValue = cursorValue;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public String getPendingUrl() {
+        return pendingUrl;
+    }
+
+    public void setPendingUrl(String pendingUrl) {
+        this.pendingUrl = pendingUrl;
+    }
+
+    public String getPendingValue() {
+        return pendingValue;
+    }
+
+    public void setPendingValue(String pendingValue) {
+        this.pendingValue = pendingValue;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
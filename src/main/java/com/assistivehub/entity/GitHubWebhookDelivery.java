@@ -0,0 +1,83 @@
+package com.assistivehub.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 받은 깃허브 웹훅 전송 기록 (X-GitHub-Delivery로 같은 전송을 두 번 처리하지 않게 함)
+ */
+@Entity
+@Table(name = "github_webhook_deliveries", uniqueConstraints = @UniqueConstraint(name = "uk_github_webhook_delivery",
+        columnNames = { "delivery_id" }), indexes = @Index(name = "idx_github_webhook_delivery_received",
+                columnList = "received_at"))
+public class GitHubWebhookDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "delivery_id", nullable = false, length = 64)
+    private String deliveryId;
+
+    @Column(name = "integration_id", nullable = false)
+    private Long integrationId;
+
+    @Column(name = "event", length = 50)
+    private String event;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    // 처리를 마친 시각 (실패하거나 처리 중이면 null)
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getDeliveryId() {
+        return deliveryId;
+    }
+
+    public void setDeliveryId(String deliveryId) {
+        this.deliveryId = deliveryId;
+    }
+
+    public Long getIntegrationId() {
+        return integrationId;
+    }
+
+    public void setIntegrationId(Long integrationId) {
+        this.integrationId = integrationId;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    public void setEvent(String event) {
+        this.event = event;
+    }
+
+    public LocalDateTime getReceivedAt() {
+        return receivedAt;
+    }
+
+    public void setReceivedAt(LocalDateTime receivedAt) {
+        this.receivedAt = receivedAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+}
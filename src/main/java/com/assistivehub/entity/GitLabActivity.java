@@ -0,0 +1,181 @@
+package com.assistivehub.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 깃랩 프로젝트 활동 (커밋, MR, 이슈, 파이프라인 실행)
+ *
+ * 증분 동기화가 JDBC 배치로 (integration_id, project_path, activity_type, external_id) 기준 upsert 합니다.
+ */
+@Entity
+@Table(name = "gitlab_activities", uniqueConstraints = @UniqueConstraint(name = "uk_gitlab_activity",
+        columnNames = { "integration_id", "project_path", "activity_type", "external_id" }), indexes = @Index(
+                name = "idx_gitlab_activity_occurred", columnList = "integration_id, occurred_at"))
+public class GitLabActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "integration_id", nullable = false)
+    private Long integrationId;
+
+    // namespace/project 경로
+    @Column(name = "project_path", nullable = false)
+    private String projectPath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "activity_type", nullable = false, length = 20)
+    private ActivityType activityType;
+
+    // 커밋 SHA, MR/이슈 iid, 파이프라인 ID
+    @Column(name = "external_id", nullable = false, length = 64)
+    private String externalId;
+
+    @Column(name = "title", length = 500)
+    private String title;
+
+    @Column(name = "author")
+    private String author;
+
+    @Column(name = "url", length = 500)
+    private String url;
+
+    @Column(name = "state", length = 20)
+    private String state;
+
+    @Column(name = "occurred_at")
+    private LocalDateTime occurredAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum ActivityType {
+        COMMIT("커밋"),
+        MERGE_REQUEST("머지 리퀘스트"),
+        ISSUE("이슈"),
+        PIPELINE("파이프라인");
+
+        private final String displayName;
+
+        ActivityType(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getIntegrationId() {
+        return integrationId;
+    }
+
+    public void setIntegrationId(Long integrationId) {
+        this.integrationId = integrationId;
+    }
+
+    public String getProjectPath() {
+        return projectPath;
+    }
+
+    public void setProjectPath(String projectPath) {
+        this.projectPath = projectPath;
+    }
+
+    public ActivityType getActivityType() {
+        return activityType;
+    }
+
+    public void setActivityType(ActivityType activityType) {
+        this.activityType = activityType;
+    }
+
+    public String getExternalId() {
+        return externalId;
+    }
+
+    public void setExternalId(String externalId) {
+        this.externalId = externalId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
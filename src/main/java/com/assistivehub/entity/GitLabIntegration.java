@@ -7,6 +7,12 @@ import java.time.LocalDateTime;
 @Table(name = "gitlab_integrations")
 public class GitLabIntegration {
 
+    // encrypted_settings 문서의 섹션 이름
+    public static final String SECTION_PROJECTS = "projects";
+    public static final String SECTION_WEBHOOKS = "webhooks";
+    public static final String SECTION_NOTIFICATION_SETTINGS = "notificationSettings";
+    public static final String SECTION_SYNC_SETTINGS = "syncSettings";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -49,6 +55,10 @@ public class GitLabIntegration {
     @Column(name = "encrypted_sync_settings", columnDefinition = "TEXT")
     private String encryptedSyncSettings;
 
+    // 모든 설정을 하나로 묶은 암호화 문서 (값이 있으면 개별 암호화 컬럼보다 우선)
+    @Column(name = "encrypted_settings", columnDefinition = "TEXT")
+    private String encryptedSettings;
+
     // 개별 설정들
     @Column(name = "auto_sync_enabled")
     private Boolean autoSyncEnabled = true;
@@ -77,6 +87,13 @@ public class GitLabIntegration {
     @Column(name = "last_sync_at")
     private LocalDateTime lastSyncAt;
 
+    // 백그라운드 동기화 임대 (IntegrationSyncLeases가 직접 갱신, JPA 저장에서는 제외)
+    @Column(name = "sync_lease_owner", insertable = false, updatable = false)
+    private String syncLeaseOwner;
+
+    @Column(name = "sync_lease_until", insertable = false, updatable = false)
+    private LocalDateTime syncLeaseUntil;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -167,6 +184,14 @@ public class GitLabIntegration {
         this.gitlabUrl = gitlabUrl;
     }
 
+    public String getEncryptedSettings() {
+        return encryptedSettings;
+    }
+
+    public void setEncryptedSettings(String encryptedSettings) {
+        this.encryptedSettings = encryptedSettings;
+    }
+
     public String getEncryptedProjects() {
         return encryptedProjects;
     }
@@ -271,6 +296,14 @@ public class GitLabIntegration {
         this.lastSyncAt = lastSyncAt;
     }
 
+    public String getSyncLeaseOwner() {
+        return syncLeaseOwner;
+    }
+
+    public LocalDateTime getSyncLeaseUntil() {
+        return syncLeaseUntil;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
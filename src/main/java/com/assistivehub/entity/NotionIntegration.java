@@ -7,6 +7,12 @@ import java.time.LocalDateTime;
 @Table(name = "notion_integrations")
 public class NotionIntegration {
 
+    // encrypted_settings 문서의 섹션 이름
+    public static final String SECTION_DATABASES = "databases";
+    public static final String SECTION_PAGES = "pages";
+    public static final String SECTION_TEMPLATES = "templates";
+    public static final String SECTION_SYNC_SETTINGS = "syncSettings";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -58,6 +64,10 @@ public class NotionIntegration {
     @Column(name = "encrypted_sync_settings", columnDefinition = "TEXT")
     private String encryptedSyncSettings;
 
+    // 모든 설정을 하나로 묶은 암호화 문서 (값이 있으면 개별 암호화 컬럼보다 우선)
+    @Column(name = "encrypted_settings", columnDefinition = "TEXT")
+    private String encryptedSettings;
+
     // 개별 설정들
     @Column(name = "auto_sync_enabled")
     private Boolean autoSyncEnabled = true;
@@ -86,6 +96,13 @@ public class NotionIntegration {
     @Column(name = "last_sync_at")
     private LocalDateTime lastSyncAt;
 
+    // 백그라운드 동기화 임대 (IntegrationSyncLeases가 직접 갱신, JPA 저장에서는 제외)
+    @Column(name = "sync_lease_owner", insertable = false, updatable = false)
+    private String syncLeaseOwner;
+
+    @Column(name = "sync_lease_until", insertable = false, updatable = false)
+    private LocalDateTime syncLeaseUntil;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -176,6 +193,14 @@ public class NotionIntegration {
         this.duplicatedTemplateId = duplicatedTemplateId;
     }
 
+    public String getEncryptedSettings() {
+        return encryptedSettings;
+    }
+
+    public void setEncryptedSettings(String encryptedSettings) {
+        this.encryptedSettings = encryptedSettings;
+    }
+
     public String getEncryptedDatabases() {
         return encryptedDatabases;
     }
@@ -248,6 +273,14 @@ public class NotionIntegration {
         this.lastSyncAt = lastSyncAt;
     }
 
+    public String getSyncLeaseOwner() {
+        return syncLeaseOwner;
+    }
+
+    public LocalDateTime getSyncLeaseUntil() {
+        return syncLeaseUntil;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
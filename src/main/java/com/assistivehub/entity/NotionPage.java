@@ -0,0 +1,174 @@
+package com.assistivehub.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 동기화된 노션 페이지 (메타데이터 + 블록 내용)
+ *
+ * 증분 동기화가 JDBC로 (integration_id, page_id) 기준 upsert 합니다.
+ * 블록 내용은 content_hash가 바뀐 경우에만 다시 씁니다.
+ */
+@Entity
+@Table(name = "notion_pages", uniqueConstraints = @UniqueConstraint(name = "uk_notion_page",
+        columnNames = { "integration_id", "page_id" }))
+public class NotionPage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "integration_id", nullable = false)
+    private Long integrationId;
+
+    @Column(name = "page_id", nullable = false, length = 64)
+    private String pageId;
+
+    // 데이터베이스 항목이면 소속 데이터베이스 ID
+    @Column(name = "database_id", length = 64)
+    private String databaseId;
+
+    @Column(name = "title", length = 500)
+    private String title;
+
+    @Column(name = "url", length = 500)
+    private String url;
+
+    @Column(name = "archived")
+    private Boolean archived = false;
+
+    @Column(name = "last_edited_time")
+    private LocalDateTime lastEditedTime;
+
+    // 최상위 블록 내용의 SHA-256
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "block_content", columnDefinition = "MEDIUMTEXT")
+    private String blockContent;
+
+    @Column(name = "content_synced_at")
+    private LocalDateTime contentSyncedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getIntegrationId() {
+        return integrationId;
+    }
+
+    public void setIntegrationId(Long integrationId) {
+        this.integrationId = integrationId;
+    }
+
+    public String getPageId() {
+        return pageId;
+    }
+
+    public void setPageId(String pageId) {
+        this.pageId = pageId;
+    }
+
+    public String getDatabaseId() {
+        return databaseId;
+    }
+
+    public void setDatabaseId(String databaseId) {
+        this.databaseId = databaseId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public Boolean getArchived() {
+        return archived;
+    }
+
+    public void setArchived(Boolean archived) {
+        this.archived = archived;
+    }
+
+    public LocalDateTime getLastEditedTime() {
+        return lastEditedTime;
+    }
+
+    public void setLastEditedTime(LocalDateTime lastEditedTime) {
+        this.lastEditedTime = lastEditedTime;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getBlockContent() {
+        return blockContent;
+    }
+
+    public void setBlockContent(String blockContent) {
+        this.blockContent = blockContent;
+    }
+
+    public LocalDateTime getContentSyncedAt() {
+        return contentSyncedAt;
+    }
+
+    public void setContentSyncedAt(LocalDateTime contentSyncedAt) {
+        this.contentSyncedAt = contentSyncedAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,70 @@
+package com.assistivehub.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 노션 데이터베이스별 증분 동기화 위치 (마지막으로 본 last_edited_time)
+ */
+@Entity
+@Table(name = "notion_sync_cursors", uniqueConstraints = @UniqueConstraint(name = "uk_notion_sync_cursor",
+        columnNames = { "integration_id", "database_id" }))
+public class NotionSyncCursor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "integration_id", nullable = false)
+    private Long integrationId;
+
+    @Column(name = "database_id", nullable = false, length = 64)
+    private String databaseId;
+
+    @Column(name = "cursor_value")
+    private String cursorValue;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getIntegrationId() {
+        return integrationId;
+    }
+
+    public void setIntegrationId(Long integrationId) {
+        this.integrationId = integrationId;
+    }
+
+    public String getDatabaseId() {
+        return databaseId;
+    }
+
+    public void setDatabaseId(String databaseId) {
+        this.databaseId = databaseId;
+    }
+
+    public String getCursorValue() {
+        return cursorValue;
+    }
+
+    public void setCursorValue(String cursorValue) {
+        this.cursorValue = cursorValue;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
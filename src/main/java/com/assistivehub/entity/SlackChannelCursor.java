@@ -0,0 +1,97 @@
+package com.assistivehub.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 슬랙 연동/채널별 메시지 수집 위치
+ *
+ * latest_ts까지는 모두 수집했고, 조회 범위를 다 읽지 못했으면 pending_cursor에서 이어서 읽습니다.
+ */
+@Entity
+@Table(name = "slack_channel_cursors", uniqueConstraints = @UniqueConstraint(name = "uk_slack_channel_cursor",
+        columnNames = { "integration_id", "channel_id" }))
+public class SlackChannelCursor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "integration_id", nullable = false)
+    private Long integrationId;
+
+    @Column(name = "channel_id", nullable = false, length = 32)
+    private String channelId;
+
+    // 수집을 마친 가장 최근 메시지 ts
+    @Column(name = "latest_ts", length = 32)
+    private String latestTs;
+
+    // 다 읽지 못한 조회의 다음 페이지 커서
+    @Column(name = "pending_cursor", length = 500)
+    private String pendingCursor;
+
+    // 다 읽지 못한 조회에서 지금까지 본 가장 최근 ts (조회를 마치면 latest_ts가 됨)
+    @Column(name = "pending_latest_ts", length = 32)
+    private String pendingLatestTs;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getIntegrationId() {
+        return integrationId;
+    }
+
+    public void setIntegrationId(Long integrationId) {
+        this.integrationId = integrationId;
+    }
+
+    public String getChannelId() {
+        return channelId;
+    }
+
+    public void setChannelId(String channelId) {
+        this.channelId = channelId;
+    }
+
+    public String getLatestTs() {
+        return latestTs;
+    }
+
+    public void setLatestTs(String latestTs) {
+        this.latestTs = latestTs;
+    }
+
+    public String getPendingCursor() {
+        return pendingCursor;
+    }
+
+    public void setPendingCursor(String pendingCursor) {
+        this.pendingCursor = pendingCursor;
+    }
+
+    public String getPendingLatestTs() {
+        return pendingLatestTs;
+    }
+
+    public void setPendingLatestTs(String pendingLatestTs) {
+        this.pendingLatestTs = pendingLatestTs;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -7,6 +7,11 @@ import java.time.LocalDateTime;
 @Table(name = "slack_integrations")
 public class SlackIntegration {
 
+    // encrypted_settings 문서의 섹션 이름
+    public static final String SECTION_MONITORING_CHANNELS = "monitoringChannels";
+    public static final String SECTION_NOTIFICATION_SETTINGS = "notificationSettings";
+    public static final String SECTION_KEYWORDS = "keywords";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -57,6 +62,10 @@ public class SlackIntegration {
     @Column(name = "keywords", columnDefinition = "TEXT")
     private String keywords; // 키워드 목록을 암호화 저장
 
+    // 모든 설정을 하나로 묶은 암호화 문서 (값이 있으면 개별 암호화 컬럼보다 우선)
+    @Column(name = "encrypted_settings", columnDefinition = "TEXT")
+    private String encryptedSettings;
+
     @Column(name = "enable_mentions", nullable = false)
     private Boolean enableMentions = true;
 
@@ -78,6 +87,16 @@ public class SlackIntegration {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "last_sync_at")
+    private LocalDateTime lastSyncAt;
+
+    // 백그라운드 동기화 임대 (IntegrationSyncLeases가 직접 갱신, JPA 저장에서는 제외)
+    @Column(name = "sync_lease_owner", insertable = false, updatable = false)
+    private String syncLeaseOwner;
+
+    @Column(name = "sync_lease_until", insertable = false, updatable = false)
+    private LocalDateTime syncLeaseUntil;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -247,6 +266,14 @@ public class SlackIntegration {
         this.notificationSettings = notificationSettings;
     }
 
+    public String getEncryptedSettings() {
+        return encryptedSettings;
+    }
+
+    public void setEncryptedSettings(String encryptedSettings) {
+        this.encryptedSettings = encryptedSettings;
+    }
+
     public String getKeywords() {
         return keywords;
     }
@@ -286,4 +313,20 @@ public class SlackIntegration {
     public void setEnableThreadReplies(Boolean enableThreadReplies) {
         this.enableThreadReplies = enableThreadReplies;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getLastSyncAt() {
+        return lastSyncAt;
+    }
+
+    public void setLastSyncAt(LocalDateTime lastSyncAt) {
+        this.lastSyncAt = lastSyncAt;
+    }
+
+    public String getSyncLeaseOwner() {
+        return syncLeaseOwner;
+    }
+
+    public LocalDateTime getSyncLeaseUntil() {
+        return syncLeaseUntil;
+    }
+}
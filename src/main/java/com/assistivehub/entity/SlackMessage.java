@@ -4,7 +4,8 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "slack_messages")
+@Table(name = "slack_messages", uniqueConstraints = @UniqueConstraint(name = "uk_slack_message",
+        columnNames = { "integration_id", "channel_id", "message_id" }))
 public class SlackMessage {
 
     @Id
@@ -15,10 +16,11 @@ public class SlackMessage {
     @JoinColumn(name = "integration_id", nullable = false)
     private SlackIntegration slackIntegration;
 
-    @Column(name = "message_id", nullable = false)
+    // 채널 안에서 메시지를 구분하는 Slack ts 값
+    @Column(name = "message_id", nullable = false, length = 32)
     private String messageId;
 
-    @Column(name = "channel_id", nullable = false)
+    @Column(name = "channel_id", nullable = false, length = 32)
     private String channelId;
 
     @Column(name = "channel_name")
@@ -0,0 +1,30 @@
+package com.assistivehub.integration.common.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 원문 대신 메모리 키로 쓰는 SHA-256 해시
+ */
+public final class CredentialHash {
+
+    private CredentialHash() {
+    }
+
+    public static String of(String credential) {
+        if (credential == null) {
+            return "-";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(credential.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("토큰 해시 생성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.assistivehub.integration.common.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import javax.annotation.PostConstruct;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 API 호스트별 서킷 브레이커 + 벌크헤드
+ *
+ * 호스트(자체 호스팅 GitLab은 gitlabUrl의 host:port)마다 동시 호출 수를 제한하고,
+ * 연속 실패(네트워크 오류, 시간 초과, 5xx)가 기준을 넘으면 일정 시간 호출을 즉시 실패시킵니다.
+ * 열린 시간이 지나면 한 건만 시험 호출하고 성공하면 다시 닫습니다.
+ * 동시 호출 슬롯과 call-timeout-ms는 응답 본문을 모두 읽을 때까지 적용되고,
+ * 서킷 성공/실패는 응답 헤더(5xx 여부)와 본문 읽기 오류로 판단합니다.
+ */
+@Component
+public class UpstreamCircuitBreakers implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamCircuitBreakers.class);
+
+    @Value("${upstream.resilience.enabled:true}")
+    private boolean enabled;
+
+    @Value("${upstream.resilience.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${upstream.resilience.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${upstream.resilience.max-concurrent-calls:20}")
+    private int maxConcurrentCalls;
+
+    @Value("${upstream.resilience.call-timeout-ms:15000}")
+    private long callTimeoutMs;
+
+    private Cache<String, Breaker> breakers;
+
+    @PostConstruct
+    public void init() {
+        this.breakers = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterAccess(Duration.ofHours(6))
+                .build();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!enabled) {
+            return next.exchange(request);
+        }
+
+        Breaker breaker = breaker(request.url());
+        try {
+            breaker.acquire(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            return Mono.error(e);
+        }
+
+        // 벌크헤드 슬롯과 제한 시간은 응답 본문을 다 읽을 때까지 유지
+        long deadline = System.currentTimeMillis() + callTimeoutMs;
+        Permit permit = new Permit(breaker);
+
+        return next.exchange(request)
+                .timeout(Duration.ofMillis(callTimeoutMs))
+                .map(response -> {
+                    if (response.statusCode().is5xxServerError()) {
+                        breaker.onFailure(System.currentTimeMillis());
+                    } else {
+                        breaker.onSuccess();
+                    }
+                    permit.holdUntil(deadline);
+                    return response.mutate()
+                            .body(body -> body
+                                    .timeout(Mono.delay(remaining(deadline)), buffer -> Mono.delay(remaining(deadline)))
+                                    .doOnError(e -> {
+                                        // 오류 응답을 만들 때 본문을 다시 구독하므로 한 호출의 실패는 한 번만 기록
+                                        if (permit.markFailed()) {
+                                            breaker.onFailure(System.currentTimeMillis());
+                                        }
+                                    })
+                                    .doFinally(signal -> permit.release()))
+                            .build();
+                })
+                .doOnError(e -> breaker.onFailure(System.currentTimeMillis()))
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        breaker.onCancel();
+                    }
+                    if (!permit.isHeld()) {
+                        permit.release();
+                    }
+                });
+    }
+
+    private static Duration remaining(long deadline) {
+        return Duration.ofMillis(Math.max(0, deadline - System.currentTimeMillis()));
+    }
+
+    /**
+     * 호스트별 서킷 상태 조회
+     */
+    public List<Map<String, Object>> getStates() {
+        List<Map<String, Object>> states = new ArrayList<>();
+        for (Breaker breaker : breakers.asMap().values()) {
+            states.add(breaker.toMap(System.currentTimeMillis()));
+        }
+        return states;
+    }
+
+    /**
+     * 서킷을 강제로 닫음 (장애 복구 후 수동 재개용)
+     */
+    public boolean reset(String host) {
+        Breaker breaker = breakers.getIfPresent(host);
+        if (breaker == null) {
+            return false;
+        }
+        breaker.reset();
+        return true;
+    }
+
+    private Breaker breaker(URI url) {
+        String host = url.getPort() == -1 ? url.getHost() : url.getHost() + ":" + url.getPort();
+        return breakers.get(host, key -> new Breaker(key, maxConcurrentCalls));
+    }
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 한 호스트의 서킷/벌크헤드 상태
+     */
+    private class Breaker {
+        private final String host;
+        private final Semaphore bulkhead;
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean probeInFlight;
+
+        private final LongAdder successCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder rejectedOpenCount = new LongAdder();
+        private final LongAdder rejectedBulkheadCount = new LongAdder();
+
+        private Breaker(String host, int maxConcurrentCalls) {
+            this.host = host;
+            this.bulkhead = new Semaphore(maxConcurrentCalls);
+        }
+
+        private void acquire(long now) {
+            synchronized (this) {
+                if (state == State.OPEN && now - openedAt >= openDurationMs) {
+                    state = State.HALF_OPEN;
+                    probeInFlight = false;
+                }
+                if (state == State.OPEN || (state == State.HALF_OPEN && probeInFlight)) {
+                    rejectedOpenCount.increment();
+                    throw new RuntimeException(host + " 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도하세요.");
+                }
+                if (state == State.HALF_OPEN) {
+                    probeInFlight = true;
+                }
+            }
+            if (!bulkhead.tryAcquire()) {
+                synchronized (this) {
+                    probeInFlight = false;
+                }
+                rejectedBulkheadCount.increment();
+                throw new RuntimeException(host + " 서비스 요청이 너무 많습니다. 잠시 후 다시 시도하세요.");
+            }
+        }
+
+        private void release() {
+            bulkhead.release();
+        }
+
+        private synchronized void onSuccess() {
+            successCount.increment();
+            consecutiveFailures = 0;
+            if (state != State.CLOSED) {
+                log.info("외부 API 서킷 닫힘: {}", host);
+            }
+            state = State.CLOSED;
+            probeInFlight = false;
+        }
+
+        private synchronized void onFailure(long now) {
+            failureCount.increment();
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                if (state != State.OPEN) {
+                    log.warn("외부 API 서킷 열림: {} (연속 실패 {}회)", host, consecutiveFailures);
+                }
+                state = State.OPEN;
+                openedAt = now;
+                probeInFlight = false;
+            }
+        }
+
+        // 구독 취소로 결과를 모르는 시험 호출은 다음 호출이 다시 시험하도록 풀어줌
+        private synchronized void onCancel() {
+            probeInFlight = false;
+        }
+
+        private synchronized void reset() {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            probeInFlight = false;
+        }
+
+        private synchronized Map<String, Object> toMap(long now) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("host", host);
+            map.put("state", state == State.OPEN && now - openedAt >= openDurationMs ? State.HALF_OPEN : state);
+            map.put("consecutiveFailures", consecutiveFailures);
+            map.put("activeCalls", maxConcurrentCalls - bulkhead.availablePermits());
+            map.put("maxConcurrentCalls", maxConcurrentCalls);
+            map.put("successCount", successCount.sum());
+            map.put("failureCount", failureCount.sum());
+            map.put("rejectedOpenCount", rejectedOpenCount.sum());
+            map.put("rejectedBulkheadCount", rejectedBulkheadCount.sum());
+            return map;
+        }
+    }
+
+    /**
+     * 한 호출의 벌크헤드 슬롯 (한 번만 반환하고, 본문 실패도 한 번만 기록)
+     *
+     * 응답 헤더를 받은 뒤에는 본문 스트림이 끝날 때 반환하고,
+     * 본문을 구독하지 않고 버리는 경우에 대비해 제한 시간이 지나면 강제로 반환합니다.
+     */
+    private static class Permit {
+        private final Breaker breaker;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final AtomicBoolean failed = new AtomicBoolean();
+        private volatile boolean held;
+        private volatile Disposable expiry;
+
+        private Permit(Breaker breaker) {
+            this.breaker = breaker;
+        }
+
+        private void holdUntil(long deadline) {
+            held = true;
+            expiry = Mono.delay(remaining(deadline)).subscribe(tick -> release());
+        }
+
+        private boolean isHeld() {
+            return held;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                Disposable timer = expiry;
+                if (timer != null) {
+                    timer.dispose();
+                }
+                breaker.release();
+            }
+        }
+
+        // 처음 실패를 기록하는 경우에만 true
+        private boolean markFailed() {
+            return failed.compareAndSet(false, true);
+        }
+    }
+}
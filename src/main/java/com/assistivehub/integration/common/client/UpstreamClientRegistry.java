@@ -0,0 +1,126 @@
+package com.assistivehub.integration.common.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+
+/**
+ * 외부 API(GitHub, GitLab, Slack, Notion 등)용 WebClient 레지스트리
+ *
+ * base URL마다 WebClient를 한 번만 만들고, 모든 클라이언트가 하나의 Reactor Netty 커넥션 풀을 공유합니다.
+ * 풀은 원격 호스트별로 나뉘므로 max-connections는 호스트당 최대 연결 수입니다.
+ * 자체 호스팅 GitLab처럼 사용자가 입력한 URL도 같은 방식으로 재사용됩니다.
+ * 모든 요청은 UpstreamRateLimitGovernor(토큰별 요청 한도)와 UpstreamCircuitBreakers(호스트별 서킷/동시 호출 제한)를 거칩니다.
+ */
+@Component
+public class UpstreamClientRegistry {
+
+    @Autowired
+    private UpstreamRateLimitGovernor rateLimitGovernor;
+
+    @Autowired
+    private UpstreamCircuitBreakers circuitBreakers;
+
+    @Value("${upstream.http.max-connections-per-host:50}")
+    private int maxConnectionsPerHost;
+
+    @Value("${upstream.http.pending-acquire-timeout-ms:5000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${upstream.http.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    @Value("${upstream.http.max-life-time-ms:300000}")
+    private long maxLifeTimeMs;
+
+    @Value("${upstream.http.evict-interval-ms:30000}")
+    private long evictIntervalMs;
+
+    @Value("${upstream.http.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    @Value("${upstream.http.response-timeout-ms:30000}")
+    private long responseTimeoutMs;
+
+    @Value("${upstream.http.http2-enabled:true}")
+    private boolean http2Enabled;
+
+    @Value("${upstream.http.max-clients:256}")
+    private long maxClients;
+
+    private ConnectionProvider connectionProvider;
+
+    private Cache<String, WebClient> clients;
+
+    @PostConstruct
+    public void init() {
+        this.connectionProvider = ConnectionProvider.builder("upstream")
+                .maxConnections(maxConnectionsPerHost)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(evictIntervalMs))
+                .build();
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .build();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (connectionProvider != null) {
+            connectionProvider.disposeLater().block(Duration.ofSeconds(10));
+        }
+    }
+
+    /**
+     * base URL에 해당하는 공유 WebClient 반환
+     */
+    public WebClient client(String baseUrl) {
+        String key = normalize(baseUrl);
+        return clients.get(key, this::createClient);
+    }
+
+    private WebClient createClient(String baseUrl) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .compress(true);
+
+        // HTTP/2는 TLS(ALPN)로 협상되는 https 호스트에만 사용, 지원하지 않으면 HTTP/1.1로 동작
+        if (http2Enabled && baseUrl.startsWith("https://")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(rateLimitGovernor)
+                .filter(circuitBreakers)
+                .build();
+    }
+
+    private String normalize(String baseUrl) {
+        if (baseUrl == null || baseUrl.trim().isEmpty()) {
+            throw new RuntimeException("외부 API 주소가 필요합니다.");
+        }
+        String url = baseUrl.trim();
+        while (url.endsWith("/")) {
+            url = url.substring(0, url.length() - 1);
+        }
+        return url;
+    }
+}
@@ -0,0 +1,44 @@
+package com.assistivehub.integration.common.client;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 페이지네이션 API 응답 한 페이지 (본문 + 다음 페이지 URL)
+ */
+public final class UpstreamPage<T> {
+
+    // Link: <https://api.github.com/user/repos?page=2>; rel="next", <...>; rel="last"
+    private static final Pattern NEXT_LINK = Pattern.compile("<([^>]+)>\\s*;\\s*rel=\"?next\"?");
+
+    private final T body;
+    private final String nextUrl;
+
+    UpstreamPage(T body, String nextUrl) {
+        this.body = body;
+        this.nextUrl = nextUrl;
+    }
+
+    public T getBody() {
+        return body;
+    }
+
+    /**
+     * 다음 페이지 URL (마지막 페이지면 null)
+     */
+    public String getNextUrl() {
+        return nextUrl;
+    }
+
+    public boolean hasNext() {
+        return nextUrl != null;
+    }
+
+    static String nextLink(String linkHeader) {
+        if (linkHeader == null) {
+            return null;
+        }
+        Matcher matcher = NEXT_LINK.matcher(linkHeader);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
@@ -0,0 +1,329 @@
+package com.assistivehub.integration.common.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 API 요청 한도 관리 (프로바이더 호스트 + 토큰별)
+ *
+ * 응답 헤더(X-RateLimit-*, RateLimit-*, Retry-After)로 남은 요청 수와 초기화 시각을 학습하고,
+ * 다음 응답 전까지는 로컬에서 차감하는 토큰 버킷처럼 동작합니다.
+ * 사용자 요청은 한도가 0이면 즉시 실패하고, 백그라운드 요청(BACKGROUND 속성)은 예약분 아래로 내려가면 초기화까지 미룹니다.
+ * 한도 헤더를 주지 않는 프로바이더(예: Notion 초당 3회)는 paced-hosts로 토큰별 요청 간격을 강제합니다.
+ */
+@Component
+public class UpstreamRateLimitGovernor implements ExchangeFilterFunction {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamRateLimitGovernor.class);
+
+    /**
+     * 백그라운드 요청 표시용 요청 속성: .attribute(UpstreamRateLimitGovernor.BACKGROUND, true)
+     */
+    public static final String BACKGROUND = UpstreamRateLimitGovernor.class.getName() + ".background";
+
+    @Value("${upstream.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${upstream.rate-limit.background-reserve-ratio:0.2}")
+    private double backgroundReserveRatio;
+
+    @Value("${upstream.rate-limit.max-defer-ms:60000}")
+    private long maxDeferMs;
+
+    @Value("${upstream.rate-limit.default-retry-after-seconds:60}")
+    private long defaultRetryAfterSeconds;
+
+    // host:초당 요청 수 목록 (예: api.notion.com:3)
+    @Value("${upstream.rate-limit.paced-hosts:api.notion.com:3}")
+    private String pacedHosts;
+
+    // 호스트별 최소 요청 간격 (ms)
+    private final Map<String, Long> paceIntervals = new HashMap<>();
+
+    private Cache<String, Budget> budgets;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder deferredCount = new LongAdder();
+    private final LongAdder tooManyRequestsCount = new LongAdder();
+    private final LongAdder pacedCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        this.budgets = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterAccess(Duration.ofHours(2))
+                .build();
+
+        for (String entry : pacedHosts.split(",")) {
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0) {
+                continue;
+            }
+            double requestsPerSecond = Double.parseDouble(entry.substring(separator + 1).trim());
+            if (requestsPerSecond > 0) {
+                paceIntervals.put(entry.substring(0, separator).trim(), (long) Math.ceil(1000 / requestsPerSecond));
+            }
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!enabled) {
+            return next.exchange(request);
+        }
+
+        String host = request.url().getHost();
+        String tokenHash = CredentialHash.of(credential(request.headers()));
+        Budget budget = budgets.get(host + " " + tokenHash, key -> new Budget(host, tokenHash));
+        boolean background = Boolean.TRUE.equals(request.attribute(BACKGROUND).orElse(null));
+
+        long waitMillis = budget.acquire(background, backgroundReserveRatio, System.currentTimeMillis());
+        if (waitMillis > 0) {
+            if (!background || waitMillis > maxDeferMs) {
+                rejectedCount.increment();
+                return Mono.error(new RuntimeException(
+                        "외부 API 요청 한도에 도달했습니다. " + ((waitMillis + 999) / 1000) + "초 후 다시 시도하세요."));
+            }
+            deferredCount.increment();
+            return Mono.delay(Duration.ofMillis(waitMillis)).then(Mono.defer(() -> filter(request, next)));
+        }
+
+        Mono<ClientResponse> exchange = Mono.defer(() -> next.exchange(request))
+                .doOnNext(response -> {
+                    int status = response.rawStatusCode();
+                    if (budget.update(response.headers().asHttpHeaders(), status, defaultRetryAfterSeconds,
+                            System.currentTimeMillis())) {
+                        tooManyRequestsCount.increment();
+                        log.warn("외부 API 요청 한도 초과: {} (status={})", host, status);
+                    }
+                });
+
+        Long paceInterval = paceIntervals.get(host);
+        if (paceInterval == null) {
+            return exchange;
+        }
+
+        // 같은 토큰의 요청을 최소 간격으로 줄 세움
+        long paceWaitMillis = budget.reserveSlot(paceInterval, maxDeferMs, System.currentTimeMillis());
+        if (paceWaitMillis <= 0) {
+            return exchange;
+        }
+        if (paceWaitMillis > maxDeferMs) {
+            rejectedCount.increment();
+            return Mono.error(new RuntimeException(
+                    "외부 API 요청 한도에 도달했습니다. " + ((paceWaitMillis + 999) / 1000) + "초 후 다시 시도하세요."));
+        }
+        pacedCount.increment();
+        return Mono.delay(Duration.ofMillis(paceWaitMillis)).then(exchange);
+    }
+
+    /**
+     * 프로바이더별 요청 한도 요약과 거절/지연 통계
+     * 토큰별 상태는 다른 사용자의 토큰 사용량이 드러나므로 includeTokens일 때만 포함합니다.
+     */
+    public Map<String, Object> getStats(boolean includeTokens) {
+        long now = System.currentTimeMillis();
+        Map<String, ProviderSummary> providers = new TreeMap<>();
+        List<Map<String, Object>> budgetList = new ArrayList<>();
+        for (Budget budget : budgets.asMap().values()) {
+            providers.computeIfAbsent(budget.host, ProviderSummary::new).add(budget, now);
+            if (includeTokens) {
+                budgetList.add(budget.toMap());
+            }
+        }
+
+        List<Map<String, Object>> providerList = new ArrayList<>();
+        for (ProviderSummary provider : providers.values()) {
+            providerList.add(provider.toMap());
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("enabled", enabled);
+        result.put("rejectedCount", rejectedCount.sum());
+        result.put("deferredCount", deferredCount.sum());
+        result.put("tooManyRequestsCount", tooManyRequestsCount.sum());
+        result.put("pacedCount", pacedCount.sum()); // 요청 간격 제한으로 잠시 대기한 요청 수
+        result.put("providers", providerList);
+        if (includeTokens) {
+            result.put("budgets", budgetList);
+        }
+        return result;
+    }
+
+    private String credential(HttpHeaders headers) {
+        String authorization = headers.getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization != null) {
+            return authorization;
+        }
+        return headers.getFirst("Private-Token");
+    }
+
+    /**
+     * 한 토큰의 요청 한도 상태
+     */
+    private static class Budget {
+        private final String host;
+        private final String tokenHash;
+        private long limit = -1;
+        private long remaining = -1;
+        private long resetAtMillis;
+        private long blockedUntilMillis;
+        private long nextSlotMillis;
+
+        private Budget(String host, String tokenHash) {
+            this.host = host;
+            this.tokenHash = tokenHash;
+        }
+
+        /**
+         * 요청 가능하면 로컬 잔여량을 차감하고 0, 아니면 기다려야 할 시간(ms) 반환
+         */
+        private synchronized long acquire(boolean background, double reserveRatio, long now) {
+            if (now < blockedUntilMillis) {
+                return blockedUntilMillis - now;
+            }
+            if (remaining < 0 || now >= resetAtMillis) {
+                // 아직 모르거나 초기화 시각이 지남: 다음 응답 헤더로 다시 학습
+                remaining = -1;
+                return 0;
+            }
+            if (remaining <= 0) {
+                return resetAtMillis - now;
+            }
+            if (background && limit > 0 && remaining <= (long) (limit * reserveRatio)) {
+                return resetAtMillis - now;
+            }
+            remaining--;
+            return 0;
+        }
+
+        /**
+         * 다음 요청 시각을 예약하고 그때까지 기다려야 할 시간(ms) 반환
+         * 대기 시간이 maxWaitMillis를 넘으면 예약하지 않음 (거절된 요청이 슬롯을 차지하지 않도록)
+         */
+        private synchronized long reserveSlot(long intervalMillis, long maxWaitMillis, long now) {
+            long slot = Math.max(now, nextSlotMillis);
+            long waitMillis = slot - now;
+            if (waitMillis <= maxWaitMillis) {
+                nextSlotMillis = slot + intervalMillis;
+            }
+            return waitMillis;
+        }
+
+        /**
+         * 응답 헤더로 상태 갱신, 요청 한도 초과 응답이면 true
+         */
+        private synchronized boolean update(HttpHeaders headers, int status, long defaultRetryAfterSeconds, long now) {
+            Long headerLimit = longHeader(headers, "X-RateLimit-Limit", "RateLimit-Limit");
+            Long headerRemaining = longHeader(headers, "X-RateLimit-Remaining", "RateLimit-Remaining");
+            Long headerReset = longHeader(headers, "X-RateLimit-Reset", "RateLimit-Reset");
+
+            if (headerLimit != null) {
+                limit = headerLimit;
+            }
+            if (headerRemaining != null) {
+                remaining = headerRemaining;
+            }
+            if (headerReset != null) {
+                // epoch 초 또는 남은 초(IETF RateLimit 헤더) 모두 허용
+                resetAtMillis = headerReset > 1_000_000_000L ? headerReset * 1000 : now + headerReset * 1000;
+            }
+
+            boolean exhausted = status == 429 || (status == 403 && headerRemaining != null && headerRemaining == 0);
+            if (!exhausted) {
+                return false;
+            }
+
+            Long retryAfter = longHeader(headers, HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null) {
+                blockedUntilMillis = now + retryAfter * 1000;
+            } else if (resetAtMillis > now) {
+                blockedUntilMillis = resetAtMillis;
+            } else {
+                blockedUntilMillis = now + defaultRetryAfterSeconds * 1000;
+            }
+            remaining = 0;
+            return true;
+        }
+
+        private synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new HashMap<>();
+            map.put("provider", host);
+            map.put("token", tokenHash.substring(0, Math.min(8, tokenHash.length())));
+            map.put("limit", limit);
+            map.put("remaining", remaining);
+            map.put("resetAt", resetAtMillis);
+            map.put("blockedUntil", blockedUntilMillis);
+            return map;
+        }
+
+        private static Long longHeader(HttpHeaders headers, String... names) {
+            for (String name : names) {
+                String value = headers.getFirst(name);
+                if (value == null) {
+                    continue;
+                }
+                try {
+                    return Long.parseLong(value.trim());
+                } catch (NumberFormatException e) {
+                    // HTTP-date 형식 등은 무시
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 프로바이더(호스트)별 토큰 한도 요약
+     */
+    private static class ProviderSummary {
+        private final String host;
+        private int tokenCount;
+        private int blockedTokenCount;
+        private long minRemaining = -1;
+
+        private ProviderSummary(String host) {
+            this.host = host;
+        }
+
+        private void add(Budget budget, long now) {
+            synchronized (budget) {
+                tokenCount++;
+                if (budget.blockedUntilMillis > now) {
+                    blockedTokenCount++;
+                }
+                if (budget.remaining >= 0 && (minRemaining < 0 || budget.remaining < minRemaining)) {
+                    minRemaining = budget.remaining;
+                }
+            }
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new HashMap<>();
+            map.put("provider", host);
+            map.put("tokenCount", tokenCount);
+            map.put("blockedTokenCount", blockedTokenCount);
+            map.put("minRemaining", minRemaining); // 한도를 아는 토큰 중 가장 적은 남은 요청 수 (모르면 -1)
+            return map;
+        }
+    }
+}
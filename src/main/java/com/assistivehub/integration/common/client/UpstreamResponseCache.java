@@ -0,0 +1,227 @@
+package com.assistivehub.integration.common.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 외부 API GET 응답 캐시 (ETag / Last-Modified 조건부 요청)
+ *
+ * (토큰 해시, URL)별로 마지막 응답 본문과 검증자를 저장하고, 다음 요청에 If-None-Match / If-Modified-Since를 붙입니다.
+ * 304 응답이면 저장된 본문을 그대로 반환하므로 본문 전송이 없고, GitHub는 304를 rate limit에 포함하지 않습니다.
+ * 같은 요청이 동시에 들어오면 진행 중인 한 번의 호출 결과를 함께 받습니다(single-flight).
+ * 본문은 받은 바이트 그대로 저장하고, 메모리는 본문 크기 합계(max-weight-bytes)로 제한하며 오래 쓰지 않은 항목부터 제거됩니다.
+ */
+@Component
+public class UpstreamResponseCache {
+
+    @Autowired
+    private UpstreamClientRegistry upstreamClients;
+
+    @Value("${upstream.response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${upstream.response-cache.max-weight-bytes:67108864}")
+    private long maxWeightBytes;
+
+    @Value("${upstream.response-cache.single-flight-enabled:true}")
+    private boolean singleFlightEnabled;
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private Cache<String, Entry> entries;
+
+    // 진행 중인 요청 (완료되면 제거)
+    private final ConcurrentHashMap<String, Mono<Entry>> inFlightRequests = new ConcurrentHashMap<>();
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder notModifiedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, Entry entry) -> key.length() + entry.body.length)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 조건부 GET 요청 후 응답 본문 반환 (304면 캐시된 본문)
+     *
+     * @param baseUrl    API base URL
+     * @param uriFunction base URL 기준 경로/쿼리 구성
+     * @param credential 캐시 키를 사용자별로 나누기 위한 토큰 (해시만 저장)
+     * @param headers    인증 등 요청 헤더
+     */
+    public Mono<String> get(String baseUrl, Function<UriBuilder, URI> uriFunction, String credential,
+            Consumer<HttpHeaders> headers) {
+        return exchange(baseUrl, uriFunction, credential, headers)
+                .map(entry -> new String(entry.body, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 조건부 GET 요청 후 응답 본문을 타입 DTO로 디코딩
+     * 본문 바이트에서 바로 필요한 필드만 읽으므로 String/JsonNode 중간 객체를 만들지 않습니다.
+     */
+    public <T> Mono<T> get(String baseUrl, Function<UriBuilder, URI> uriFunction, String credential,
+            Consumer<HttpHeaders> headers, TypeReference<T> type) {
+        return exchange(baseUrl, uriFunction, credential, headers)
+                .flatMap(entry -> Mono.fromCallable(() -> objectMapper.<T>readValue(entry.body, type)));
+    }
+
+    /**
+     * 페이지 단위 조회: 본문과 Link 헤더의 다음 페이지 URL을 함께 반환
+     */
+    public <T> Mono<UpstreamPage<T>> getPage(String baseUrl, Function<UriBuilder, URI> uriFunction,
+            String credential, Consumer<HttpHeaders> headers, TypeReference<T> type) {
+        return exchange(baseUrl, uriFunction, credential, headers)
+                .flatMap(entry -> Mono.fromCallable(() -> new UpstreamPage<T>(
+                        objectMapper.<T>readValue(entry.body, type), UpstreamPage.nextLink(entry.link))));
+    }
+
+    /**
+     * 같은 (토큰 해시, URL) 요청이 이미 진행 중이면 그 결과를 함께 받고, 없으면 새로 요청
+     */
+    private Mono<Entry> exchange(String baseUrl, Function<UriBuilder, URI> uriFunction, String credential,
+            Consumer<HttpHeaders> headers) {
+        URI uri = uriFunction.apply(new DefaultUriBuilderFactory(baseUrl).builder());
+        String key = CredentialHash.of(credential) + " " + uri;
+
+        if (!singleFlightEnabled) {
+            return Mono.defer(() -> request(baseUrl, uri, key, headers));
+        }
+
+        return Mono.defer(() -> {
+            Mono<Entry> inFlight = inFlightRequests.get(key);
+            if (inFlight != null) {
+                coalescedCount.increment();
+                return inFlight;
+            }
+
+            // 끝난 뒤에는 자기 자신일 때만 제거 (그사이 새로 등록된 요청을 지우지 않도록)
+            AtomicReference<Mono<Entry>> self = new AtomicReference<>();
+            Mono<Entry> created = request(baseUrl, uri, key, headers)
+                    .doFinally(signal -> inFlightRequests.remove(key, self.get()))
+                    .cache();
+            self.set(created);
+            inFlight = inFlightRequests.putIfAbsent(key, created);
+            if (inFlight != null) {
+                coalescedCount.increment();
+                return inFlight;
+            }
+            return created;
+        });
+    }
+
+    private Mono<Entry> request(String baseUrl, URI uri, String key, Consumer<HttpHeaders> headers) {
+        Entry cached = enabled ? entries.getIfPresent(key) : null;
+        if (enabled) {
+            requestCount.increment();
+        }
+
+        return upstreamClients.client(baseUrl).get()
+                .uri(uri)
+                .headers(headers)
+                .headers(h -> {
+                    if (cached != null && cached.etag != null) {
+                        h.set(HttpHeaders.IF_NONE_MATCH, cached.etag);
+                    }
+                    if (cached != null && cached.lastModified != null) {
+                        h.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified);
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode() == HttpStatus.NOT_MODIFIED && cached != null) {
+                        notModifiedCount.increment();
+                        return response.releaseBody().thenReturn(cached);
+                    }
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.createException().flatMap(Mono::error);
+                    }
+
+                    HttpHeaders responseHeaders = response.headers().asHttpHeaders();
+                    String etag = responseHeaders.getETag();
+                    String lastModified = responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED);
+                    String link = responseHeaders.getFirst(HttpHeaders.LINK);
+                    return response.bodyToMono(byte[].class)
+                            .defaultIfEmpty(EMPTY_BODY)
+                            .map(body -> {
+                                Entry entry = new Entry(etag, lastModified, link, body);
+                                if (!enabled) {
+                                    return entry;
+                                }
+                                if (etag != null || lastModified != null) {
+                                    entries.put(key, entry);
+                                } else {
+                                    entries.invalidate(key);
+                                }
+                                return entry;
+                            });
+                });
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    /**
+     * 조건부 요청/304/합류/제거 통계
+     */
+    public Map<String, Object> getStats() {
+        long requests = requestCount.sum();
+        long notModified = notModifiedCount.sum();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("enabled", enabled);
+        result.put("requestCount", requests);
+        result.put("notModifiedCount", notModified);
+        result.put("notModifiedRate", requests == 0 ? 0.0 : (double) notModified / requests);
+        result.put("singleFlightEnabled", singleFlightEnabled);
+        result.put("coalescedCount", coalescedCount.sum()); // 진행 중인 요청에 합류하여 줄어든 외부 호출 수
+        result.put("inFlight", inFlightRequests.size());
+        result.put("evictionCount", entries.stats().evictionCount());
+        result.put("size", entries.estimatedSize());
+        result.put("maxWeightBytes", maxWeightBytes);
+        return result;
+    }
+
+    private static class Entry {
+        private final String etag;
+        private final String lastModified;
+        private final String link;
+        private final byte[] body;
+
+        private Entry(String etag, String lastModified, String link, byte[] body) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.link = link;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.assistivehub.integration.common.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.function.Consumer;
+
+/**
+ * 백그라운드 동기화용 외부 API 조회
+ *
+ * 요청에 BACKGROUND 속성을 붙여 사용자 요청용 한도를 남겨두고,
+ * 호출자가 DB에 저장해 둔 ETag로 조건부 요청합니다(서버 재시작 후에도 유지).
+ * 동기화 작업 스레드에서 호출하므로 결과를 기다려서 반환합니다.
+ */
+@Component
+public class UpstreamSyncClient {
+
+    @Autowired
+    private UpstreamClientRegistry upstreamClients;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * 조건부 GET 요청 (etag가 null이면 일반 요청)
+     */
+    public Page get(String baseUrl, URI uri, Consumer<HttpHeaders> headers, String etag) {
+        return upstreamClients.client(baseUrl).get()
+                .uri(uri)
+                .attribute(UpstreamRateLimitGovernor.BACKGROUND, true)
+                .headers(headers)
+                .headers(h -> {
+                    if (etag != null) {
+                        h.set(HttpHeaders.IF_NONE_MATCH, etag);
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode() == HttpStatus.NOT_MODIFIED) {
+                        return response.releaseBody().thenReturn(new Page(true, null, etag, null));
+                    }
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.createException().flatMap(Mono::error);
+                    }
+
+                    HttpHeaders responseHeaders = response.headers().asHttpHeaders();
+                    String responseEtag = responseHeaders.getETag();
+                    String nextUrl = UpstreamPage.nextLink(responseHeaders.getFirst(HttpHeaders.LINK));
+                    return response.bodyToMono(byte[].class)
+                            .flatMap(body -> Mono.fromCallable(() -> objectMapper.readTree(body)))
+                            .map(body -> new Page(false, body, responseEtag, nextUrl));
+                })
+                .block();
+    }
+
+    /**
+     * 본문으로 조건을 보내는 조회용 POST 요청 (예: Notion 데이터베이스 query)
+     */
+    public JsonNode post(String baseUrl, URI uri, Consumer<HttpHeaders> headers, Object body) {
+        return upstreamClients.client(baseUrl).post()
+                .uri(uri)
+                .attribute(UpstreamRateLimitGovernor.BACKGROUND, true)
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .flatMap(response -> Mono.fromCallable(() -> objectMapper.readTree(response)))
+                .block();
+    }
+
+    /**
+     * 대상이 없거나(404) 접근 권한이 없는(403) 응답인지 (삭제/이동되었거나 공유가 해제된 항목은 건너뛰는 데 사용)
+     * 한도 초과 403(남은 요청 수 0)은 다시 시도해야 하므로 제외합니다.
+     */
+    public static boolean isNotAccessible(WebClientResponseException e) {
+        int status = e.getRawStatusCode();
+        return status == 404
+                || (status == 403 && !"0".equals(e.getHeaders().getFirst("X-RateLimit-Remaining")));
+    }
+
+    /**
+     * 조회 결과 한 페이지
+     */
+    public static class Page {
+        private final boolean notModified;
+        private final JsonNode body;
+        private final String etag;
+        private final String nextUrl;
+
+        private Page(boolean notModified, JsonNode body, String etag, String nextUrl) {
+            this.notModified = notModified;
+            this.body = body;
+            this.etag = etag;
+            this.nextUrl = nextUrl;
+        }
+
+        /**
+         * 304 응답 (저장된 ETag 이후 변경 없음)
+         */
+        public boolean isNotModified() {
+            return notModified;
+        }
+
+        public JsonNode getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * Link 헤더의 다음 페이지 URL (마지막 페이지면 null)
+         */
+        public String getNextUrl() {
+            return nextUrl;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.assistivehub.repository.NotionIntegrationRepository;
 import com.assistivehub.repository.GitHubIntegrationRepository;
 import com.assistivehub.repository.GitLabIntegrationRepository;
 import com.assistivehub.repository.GitHubRepositoryRepository;
+import com.assistivehub.util.EncryptionUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -36,6 +37,12 @@ public class IntegrationService {
     @Autowired
     private GitHubRepositoryRepository gitHubRepositoryRepository;
 
+    @Autowired
+    private TokenIdentityService tokenIdentityService;
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
     /**
      * 사용자의 모든 연동 서비스 조회
      */
@@ -122,6 +129,42 @@ public class IntegrationService {
                 .findByUserIdAndId(userId, integrationId)
                 .orElseThrow(() -> new RuntimeException("연동 정보를 찾을 수 없습니다."));
 
+        invalidateTokenIdentity(userId, integration);
         integratedServiceRepository.delete(integration);
     }
+
+    /**
+     * 삭제되는 연동 토큰의 신원 캐시 제거
+     */
+    private void invalidateTokenIdentity(Long userId, IntegratedService integration) {
+        if (integration.getServiceType() == null) {
+            return;
+        }
+        switch (integration.getServiceType()) {
+            case SLACK:
+                try {
+                    if (integration.getAccessToken() != null) {
+                        tokenIdentityService.invalidateSlack(encryptionUtil.decrypt(integration.getAccessToken()));
+                    }
+                } catch (RuntimeException e) {
+                    // 복호화할 수 없는 토큰은 캐시 만료에 맡기고 삭제는 계속 진행
+                }
+                break;
+            case GITHUB:
+                gitHubIntegrationRepository.findByUserIdAndIntegrationId(userId, integration.getId())
+                        .ifPresent(github -> tokenIdentityService.invalidateGitHub(github.getAccessToken()));
+                break;
+            case GITLAB:
+                gitLabIntegrationRepository.findByUserIdAndIntegrationId(userId, integration.getId())
+                        .ifPresent(gitlab -> tokenIdentityService.invalidateGitLab(gitlab.getAccessToken(),
+                                gitlab.getGitlabUrl()));
+                break;
+            case NOTION:
+                notionIntegrationRepository.findByUserIdAndIntegrationId(userId, integration.getId())
+                        .ifPresent(notion -> tokenIdentityService.invalidateNotion(notion.getAccessToken()));
+                break;
+            default:
+                break;
+        }
+    }
 }
\ No newline at end of file
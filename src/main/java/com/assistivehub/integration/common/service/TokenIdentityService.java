@@ -0,0 +1,218 @@
+package com.assistivehub.integration.common.service;
+
+import com.assistivehub.integration.common.client.CredentialHash;
+import com.assistivehub.integration.common.client.UpstreamClientRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 연동 토큰 검증 + 사용자(봇) 정보 조회 공용 서비스
+ *
+ * 프로바이더의 신원 확인 API(GitHub/GitLab /user, Slack auth.test, Notion /users/me)를 토큰당 한 번만 호출하고
+ * 결과를 토큰 해시 기준으로 잠시 캐시합니다. 토큰 검증과 수동 연동 설정이 같은 결과를 재사용합니다.
+ * 네트워크 오류, 한도 초과, 5xx 같은 일시적인 실패는 캐시하지 않습니다.
+ */
+@Service
+public class TokenIdentityService {
+
+    public static final String NOTION_VERSION = "2022-06-28";
+
+    private static final String GITHUB_API = "https://api.github.com";
+    private static final String SLACK_API = "https://slack.com/api";
+    private static final String NOTION_API = "https://api.notion.com/v1";
+
+    @Autowired
+    private UpstreamClientRegistry upstreamClients;
+
+    @Value("${integration.token-identity.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private Cache<String, Identity> cache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * GitHub 토큰 신원 조회 (GET /user)
+     */
+    public Identity github(String token) {
+        return lookup(GITHUB_API, "/user", token,
+                headers -> headers.set(HttpHeaders.AUTHORIZATION, "token " + token),
+                json -> json.has("id"));
+    }
+
+    /**
+     * GitLab 토큰 신원 조회 (GET /api/v4/user, 자체 호스팅 URL 포함)
+     */
+    public Identity gitlab(String token, String gitlabUrl) {
+        return lookup(gitlabApi(gitlabUrl), "/user", token,
+                headers -> headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + token),
+                json -> json.has("id"));
+    }
+
+    /**
+     * 슬랙 토큰 신원 조회 (auth.test)
+     */
+    public Identity slack(String token) {
+        return lookup(SLACK_API, "/auth.test", token,
+                headers -> headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + token),
+                json -> json.path("ok").asBoolean());
+    }
+
+    /**
+     * 노션 토큰 신원 조회 (GET /users/me)
+     */
+    public Identity notion(String token) {
+        return lookup(NOTION_API, "/users/me", token,
+                headers -> {
+                    headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+                    headers.set("Notion-Version", NOTION_VERSION);
+                },
+                json -> json.has("id"));
+    }
+
+    /**
+     * 토큰 교체/연동 해제 시 캐시된 GitHub 신원 정보 제거
+     */
+    public void invalidateGitHub(String token) {
+        invalidate(GITHUB_API, token);
+    }
+
+    /**
+     * 토큰 교체/연동 해제 시 캐시된 GitLab 신원 정보 제거
+     */
+    public void invalidateGitLab(String token, String gitlabUrl) {
+        invalidate(gitlabApi(gitlabUrl), token);
+    }
+
+    /**
+     * 토큰 교체/연동 해제 시 캐시된 슬랙 신원 정보 제거
+     */
+    public void invalidateSlack(String token) {
+        invalidate(SLACK_API, token);
+    }
+
+    /**
+     * 토큰 교체/연동 해제 시 캐시된 노션 신원 정보 제거
+     */
+    public void invalidateNotion(String token) {
+        invalidate(NOTION_API, token);
+    }
+
+    private void invalidate(String baseUrl, String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return;
+        }
+        cache.invalidate(key(baseUrl, token));
+    }
+
+    private String gitlabApi(String gitlabUrl) {
+        return gitlabUrl + "/api/v4";
+    }
+
+    private Identity lookup(String baseUrl, String path, String token, Consumer<HttpHeaders> headers,
+            Predicate<JsonNode> validator) {
+        if (token == null || token.trim().isEmpty()) {
+            return new Identity(false, null, "토큰이 비어있습니다.");
+        }
+
+        String key = key(baseUrl, token);
+        Identity cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Identity identity;
+        boolean definitive = true;
+        try {
+            String response = upstreamClients.client(baseUrl).get()
+                    .uri(path)
+                    .headers(headers)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+
+            JsonNode json = objectMapper.readTree(response);
+            identity = validator.test(json)
+                    ? new Identity(true, json, null)
+                    : new Identity(false, json, json.path("error").asText("유효하지 않은 토큰입니다."));
+
+        } catch (WebClientResponseException e) {
+            int status = e.getRawStatusCode();
+            definitive = status == 401 || status == 403;
+            identity = new Identity(false, null, e.getMessage());
+
+        } catch (Exception e) {
+            definitive = false;
+            identity = new Identity(false, null, e.getMessage());
+        }
+
+        if (definitive) {
+            cache.put(key, identity);
+        }
+        return identity;
+    }
+
+    private String key(String baseUrl, String token) {
+        return baseUrl + " " + CredentialHash.of(token);
+    }
+
+    /**
+     * 토큰 신원 확인 결과
+     */
+    public static class Identity {
+        private final boolean valid;
+        private final JsonNode body;
+        private final String error;
+
+        private Identity(boolean valid, JsonNode body, String error) {
+            this.valid = valid;
+            this.body = body;
+            this.error = error;
+        }
+
+        public boolean isValid() {
+            return valid;
+        }
+
+        /**
+         * 프로바이더 응답 본문 (읽기 전용으로 사용)
+         */
+        public JsonNode getBody() {
+            return body;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        /**
+         * 유효한 토큰의 응답 본문 반환, 아니면 예외
+         */
+        public JsonNode require() {
+            if (!valid) {
+                throw new RuntimeException(error != null ? error : "유효하지 않은 토큰입니다.");
+            }
+            return body;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.assistivehub.integration.common.sync;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 프로바이더별 백그라운드 동기화 작업
+ *
+ * IntegrationSyncScheduler가 동기화 대상을 고르고, 임대를 잡은 연동에 대해서만 sync를 호출합니다.
+ */
+public interface IntegrationSyncHandler {
+
+    /**
+     * 프로바이더 이름 (동시 실행 제한과 통계의 키)
+     */
+    String getProvider();
+
+    /**
+     * 연동 테이블 이름 (sync_lease_owner / sync_lease_until / last_sync_at 컬럼이 있는 테이블)
+     */
+    String getTable();
+
+    /**
+     * 연동 테이블에서 integrated_services.id를 가리키는 컬럼 이름
+     */
+    default String getServiceIdColumn() {
+        return "integrated_service_id";
+    }
+
+    /**
+     * 지금 동기화가 필요한 연동 ID 목록
+     */
+    List<Long> findDueIntegrationIds(LocalDateTime now);
+
+    /**
+     * 한 연동 동기화, 실패하면 예외
+     */
+    void sync(Long integrationId);
+
+    /**
+     * 같은 키끼리 동시 실행 수를 제한할 키 (예: 자체 호스팅 GitLab 주소), 제한이 없으면 null
+     */
+    default String getConcurrencyKey(Long integrationId) {
+        return null;
+    }
+
+    /**
+     * 같은 동시 실행 키의 최대 동시 실행 수
+     */
+    default int getMaxConcurrentPerKey() {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,64 @@
+package com.assistivehub.integration.common.sync;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 연동 동기화 임대 (DB 조건부 UPDATE)
+ *
+ * 임대가 없거나 만료된 행만 UPDATE 조건에 걸리므로, 여러 서버가 같은 연동을 동시에 잡아도 한 곳만 성공합니다.
+ * 임대 컬럼은 엔티티에서 읽기 전용으로 매핑되어 JPA 저장이 값을 덮어쓰지 않습니다.
+ */
+@Component
+public class IntegrationSyncLeases {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 임대 획득 (방금 다른 서버가 동기화를 끝낸 연동은 minLastSyncAt 조건으로 제외)
+     */
+    public boolean acquire(String table, Long id, String owner, LocalDateTime now, LocalDateTime leaseUntil,
+            LocalDateTime minLastSyncAt) {
+        int updated = jdbcTemplate.update("UPDATE " + table
+                + " SET sync_lease_owner = ?, sync_lease_until = ?"
+                + " WHERE id = ? AND (sync_lease_until IS NULL OR sync_lease_until < ?)"
+                + " AND (last_sync_at IS NULL OR last_sync_at < ?)",
+                owner, leaseUntil, id, now, minLastSyncAt);
+        return updated == 1;
+    }
+
+    /**
+     * 동기화 성공: 마지막 동기화 시각 기록 후 임대 해제
+     */
+    public void complete(String table, String serviceIdColumn, Long id, String owner, LocalDateTime syncedAt) {
+        int updated = jdbcTemplate.update("UPDATE " + table
+                + " SET last_sync_at = ?, sync_lease_owner = NULL, sync_lease_until = NULL"
+                + " WHERE id = ? AND sync_lease_owner = ?",
+                syncedAt, id, owner);
+        if (updated == 1) {
+            jdbcTemplate.update("UPDATE integrated_services SET last_sync_at = ?"
+                    + " WHERE id = (SELECT " + serviceIdColumn + " FROM " + table + " WHERE id = ?)",
+                    syncedAt, id);
+        }
+    }
+
+    /**
+     * 동기화 중 임대 연장 (아직 이 서버가 잡고 있을 때만, 잃었으면 false)
+     */
+    public boolean extend(String table, Long id, String owner, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update("UPDATE " + table + " SET sync_lease_until = ? WHERE id = ? AND sync_lease_owner = ?",
+                leaseUntil, id, owner) == 1;
+    }
+
+    /**
+     * 동기화 실패: 임대를 retryAt까지 유지해 바로 다시 잡히지 않게 함
+     */
+    public void backoff(String table, Long id, String owner, LocalDateTime retryAt) {
+        jdbcTemplate.update("UPDATE " + table + " SET sync_lease_until = ? WHERE id = ? AND sync_lease_owner = ?",
+                retryAt, id, owner);
+    }
+}
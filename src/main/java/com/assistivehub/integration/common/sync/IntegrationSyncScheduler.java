@@ -0,0 +1,290 @@
+package com.assistivehub.integration.common.sync;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 자동 동기화 연동의 백그라운드 동기화 스케줄러
+ *
+ * 주기적으로 프로바이더별 동기화 대상을 고르고, DB 임대를 잡은 연동만 작업 풀에 넣습니다.
+ * 실행 시각은 jitter 범위 안에서 무작위로 흩어 같은 시각에 몰리지 않게 하고,
+ * 프로바이더별 동시 실행 수(대기 포함)를 제한하므로 작업 큐도 그 합계 이상 커지지 않습니다.
+ * 핸들러가 동시 실행 키를 주면(예: 같은 GitLab 인스턴스) 키별로도 제한합니다.
+ * 실행 중에는 임대 시간의 1/3마다 임대를 연장해 오래 걸리는 동기화를 다른 서버가 가로채지 않게 합니다.
+ * 실패한 연동은 임대를 실패 대기 시간까지 유지해 바로 다시 시도하지 않습니다.
+ */
+@Service
+public class IntegrationSyncScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(IntegrationSyncScheduler.class);
+
+    @Autowired(required = false)
+    private List<IntegrationSyncHandler> handlers = new ArrayList<>();
+
+    @Autowired
+    private IntegrationSyncLeases leases;
+
+    @Value("${integration.sync.enabled:false}")
+    private boolean enabled;
+
+    @Value("${integration.sync.worker-threads:4}")
+    private int workerThreads;
+
+    @Value("${integration.sync.max-concurrent-per-provider:2}")
+    private int maxConcurrentPerProvider;
+
+    @Value("${integration.sync.jitter-ms:60000}")
+    private long jitterMs;
+
+    @Value("${integration.sync.lease-seconds:900}")
+    private long leaseSeconds;
+
+    @Value("${integration.sync.failure-backoff-seconds:600}")
+    private long failureBackoffSeconds;
+
+    @Value("${integration.sync.min-gap-seconds:300}")
+    private long minGapSeconds;
+
+    private final String nodeId = nodeId();
+
+    private ScheduledThreadPoolExecutor executor;
+
+    // 임대 연장 전용 (작업 스레드가 모두 바빠도 연장이 밀리지 않도록)
+    private ScheduledThreadPoolExecutor heartbeatExecutor;
+
+    private final Map<String, Semaphore> providerPermits = new ConcurrentHashMap<>();
+
+    // 프로바이더 + 동시 실행 키별 제한 (서버 단위)
+    private final Map<String, Semaphore> keyPermits = new ConcurrentHashMap<>();
+
+    private final LongAdder dispatchedCount = new LongAdder();
+    private final LongAdder succeededCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder leaseConflictCount = new LongAdder();
+    private final LongAdder keyLimitedCount = new LongAdder();
+    private final LongAdder leaseLostCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "integration-sync-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+
+        this.heartbeatExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "integration-sync-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeatExecutor.setRemoveOnCancelPolicy(true);
+
+        for (IntegrationSyncHandler handler : handlers) {
+            providerPermits.put(handler.getProvider(), new Semaphore(maxConcurrentPerProvider));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 남은 임대는 만료되면 다른 서버가 이어받음
+        heartbeatExecutor.shutdownNow();
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 주기적으로 동기화 대상 배정 (integration.sync.enabled=true 일 때만)
+     */
+    @Scheduled(fixedDelayString = "${integration.sync.poll-interval-ms:60000}",
+            initialDelayString = "${integration.sync.initial-delay-ms:120000}")
+    public void scheduledSync() {
+        if (enabled) {
+            dispatchDueSyncs();
+        }
+    }
+
+    /**
+     * 프로바이더별 동기화 대상의 임대를 잡고 작업 풀에 넣음
+     *
+     * @return 새로 배정된 연동 개수
+     */
+    public int dispatchDueSyncs() {
+        int dispatched = 0;
+        for (IntegrationSyncHandler handler : handlers) {
+            Semaphore permits = providerPermits.get(handler.getProvider());
+            if (permits.availablePermits() == 0) {
+                continue;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> dueIds;
+            try {
+                dueIds = new ArrayList<>(handler.findDueIntegrationIds(now));
+            } catch (Exception e) {
+                log.warn("동기화 대상 조회 실패: {} ({})", handler.getProvider(), e.getMessage());
+                continue;
+            }
+
+            // 서버마다 다른 순서로 시도해 같은 행의 임대 경쟁을 줄임
+            Collections.shuffle(dueIds);
+
+            for (Long integrationId : dueIds) {
+                if (!permits.tryAcquire()) {
+                    break;
+                }
+
+                Semaphore keyPermit;
+                try {
+                    keyPermit = keyPermit(handler, integrationId);
+                } catch (Exception e) {
+                    permits.release();
+                    log.warn("동기화 대상 조회 실패: {} #{} ({})", handler.getProvider(), integrationId, e.getMessage());
+                    continue;
+                }
+                if (keyPermit != null && !keyPermit.tryAcquire()) {
+                    permits.release();
+                    keyLimitedCount.increment();
+                    continue;
+                }
+
+                long delayMs = jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs) : 0;
+                boolean acquired;
+                try {
+                    acquired = leases.acquire(handler.getTable(), integrationId, nodeId, now,
+                            now.plusSeconds(leaseSeconds).plusNanos(delayMs * 1_000_000),
+                            now.minusSeconds(minGapSeconds));
+                } catch (Exception e) {
+                    release(permits, keyPermit);
+                    log.warn("동기화 임대 획득 실패: {} #{} ({})", handler.getProvider(), integrationId, e.getMessage());
+                    break;
+                }
+
+                if (!acquired) {
+                    release(permits, keyPermit);
+                    leaseConflictCount.increment();
+                    continue;
+                }
+
+                executor.schedule(() -> run(handler, integrationId, permits, keyPermit), delayMs,
+                        TimeUnit.MILLISECONDS);
+                dispatchedCount.increment();
+                dispatched++;
+            }
+        }
+        return dispatched;
+    }
+
+    private void run(IntegrationSyncHandler handler, Long integrationId, Semaphore permits, Semaphore keyPermit) {
+        long heartbeatSeconds = Math.max(1, leaseSeconds / 3);
+        ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleWithFixedDelay(
+                () -> extendLease(handler, integrationId), heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        try {
+            handler.sync(integrationId);
+            leases.complete(handler.getTable(), handler.getServiceIdColumn(), integrationId, nodeId,
+                    LocalDateTime.now());
+            succeededCount.increment();
+
+        } catch (Exception e) {
+            failedCount.increment();
+            log.warn("연동 동기화 실패: {} #{} ({})", handler.getProvider(), integrationId, e.getMessage());
+            try {
+                leases.backoff(handler.getTable(), integrationId, nodeId,
+                        LocalDateTime.now().plusSeconds(failureBackoffSeconds));
+            } catch (Exception backoffError) {
+                log.warn("동기화 임대 갱신 실패: {} #{} ({})", handler.getProvider(), integrationId,
+                        backoffError.getMessage());
+            }
+
+        } finally {
+            heartbeat.cancel(false);
+            release(permits, keyPermit);
+        }
+    }
+
+    private void extendLease(IntegrationSyncHandler handler, Long integrationId) {
+        try {
+            if (!leases.extend(handler.getTable(), integrationId, nodeId,
+                    LocalDateTime.now().plusSeconds(leaseSeconds))) {
+                leaseLostCount.increment();
+                log.warn("동기화 임대를 잃었습니다: {} #{}", handler.getProvider(), integrationId);
+            }
+        } catch (Exception e) {
+            log.warn("동기화 임대 연장 실패: {} #{} ({})", handler.getProvider(), integrationId, e.getMessage());
+        }
+    }
+
+    private Semaphore keyPermit(IntegrationSyncHandler handler, Long integrationId) {
+        String key = handler.getConcurrencyKey(integrationId);
+        if (key == null) {
+            return null;
+        }
+        return keyPermits.computeIfAbsent(handler.getProvider() + " " + key,
+                k -> new Semaphore(handler.getMaxConcurrentPerKey()));
+    }
+
+    private void release(Semaphore permits, Semaphore keyPermit) {
+        if (keyPermit != null) {
+            keyPermit.release();
+        }
+        permits.release();
+    }
+
+    /**
+     * 배정/성공/실패/임대 경쟁 통계와 프로바이더별 실행 중 개수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> running = new HashMap<>();
+        for (Map.Entry<String, Semaphore> entry : providerPermits.entrySet()) {
+            running.put(entry.getKey(), maxConcurrentPerProvider - entry.getValue().availablePermits());
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("enabled", enabled);
+        result.put("nodeId", nodeId);
+        result.put("workerThreads", workerThreads);
+        result.put("maxConcurrentPerProvider", maxConcurrentPerProvider);
+        result.put("running", running); // 실행 중 + jitter 대기 중
+        result.put("dispatchedCount", dispatchedCount.sum());
+        result.put("succeededCount", succeededCount.sum());
+        result.put("failedCount", failedCount.sum());
+        result.put("leaseConflictCount", leaseConflictCount.sum()); // 다른 서버가 이미 잡은 연동
+        result.put("keyLimitedCount", keyLimitedCount.sum()); // 같은 키(인스턴스)의 제한으로 다음 주기로 미룬 연동
+        result.put("leaseLostCount", leaseLostCount.sum()); // 실행 중 임대 연장에 실패한 횟수 (다른 서버가 가져감)
+        return result;
+    }
+
+    private static String nodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -5,10 +5,11 @@ import com.assistivehub.integration.github.dto.GitHubIntegrationResponse;
 import com.assistivehub.integration.github.service.GitHubManualSetupService;
 import com.assistivehub.integration.github.service.GitHubOAuthService;
 import com.assistivehub.integration.github.service.GitHubIntegrationService;
+import com.assistivehub.integration.github.service.GitHubWebhookService;
 import com.assistivehub.entity.GitHubIntegration;
 import com.assistivehub.entity.User;
 import com.assistivehub.service.UserService;
-import com.assistivehub.util.JwtUtil;
+import com.assistivehub.security.AuthenticatedUser;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -35,33 +36,16 @@ public class GitHubIntegrationController {
     private GitHubIntegrationService gitHubIntegrationService;
 
     @Autowired
-    private UserService userService;
+    private GitHubWebhookService gitHubWebhookService;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private UserService userService;
 
     /**
      * 현재 요청에서 사용자 ID 추출
      */
     private Long getCurrentUserId(HttpServletRequest request) {
-        String token = extractTokenFromRequest(request);
-        if (token == null) {
-            throw new RuntimeException("인증 토큰이 필요합니다.");
-        }
-        String email = jwtUtil.extractUsername(token);
-        User user = userService.findByEmail(email);
-        return user.getId();
-    }
-
-    /**
-     * 요청 헤더에서 JWT 토큰 추출
-     */
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
+        return AuthenticatedUser.current().getUserId();
     }
 
     /**
@@ -116,7 +100,7 @@ public class GitHubIntegrationController {
                     .exchangeCodeForToken(user, code, redirectUri);
 
             // Response DTO로 변환
-            GitHubIntegrationResponse response = GitHubIntegrationResponse.fromEntity(integration);
+            GitHubIntegrationResponse response = gitHubIntegrationService.toResponse(integration);
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
@@ -140,6 +124,7 @@ public class GitHubIntegrationController {
     @GetMapping
     public ResponseEntity<Map<String, Object>> getUserGitHubIntegrations(
             @RequestParam(defaultValue = "false") boolean activeOnly,
+            @RequestParam(defaultValue = "true") boolean includeSettings,
             HttpServletRequest httpRequest) {
 
         try {
@@ -152,6 +137,10 @@ public class GitHubIntegrationController {
                 integrations = gitHubIntegrationService.getUserGitHubIntegrations(userId);
             }
 
+            if (!includeSettings) {
+                integrations.forEach(GitHubIntegrationResponse::omitSettings);
+            }
+
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
             result.put("data", integrations);
@@ -322,7 +311,7 @@ public class GitHubIntegrationController {
                     .createManualGitHubIntegration(user, request);
 
             // Response DTO로 변환
-            GitHubIntegrationResponse response = GitHubIntegrationResponse.fromEntity(integration);
+            GitHubIntegrationResponse response = gitHubIntegrationService.toResponse(integration);
 
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
@@ -340,6 +329,50 @@ public class GitHubIntegrationController {
         }
     }
 
+    /**
+     * 깃허브 웹훅 수신 (로그인 대신 연동별 secret 서명으로 확인, 처리는 작업 풀에서 진행하고 바로 202 응답)
+     */
+    @PostMapping("/webhooks/{integrationId}")
+    public ResponseEntity<Map<String, Object>> receiveGitHubWebhook(
+            @PathVariable Long integrationId,
+            @RequestHeader(value = "X-GitHub-Event", required = false) String event,
+            @RequestHeader(value = "X-GitHub-Delivery", required = false) String deliveryId,
+            @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+            @RequestBody byte[] body) {
+
+        try {
+            GitHubWebhookService.Result received = gitHubWebhookService.receive(integrationId, event, deliveryId,
+                    signature, body);
+
+            Map<String, Object> result = new HashMap<>();
+            switch (received) {
+                case INVALID_SIGNATURE:
+                    result.put("success", false);
+                    result.put("message", "웹훅 서명이 올바르지 않습니다.");
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(result);
+                case QUEUE_FULL:
+                    result.put("success", false);
+                    result.put("message", "웹훅 처리 대기열이 가득 찼습니다.");
+                    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(result);
+                case DUPLICATE:
+                    result.put("success", true);
+                    result.put("message", "이미 받은 웹훅 전송입니다.");
+                    return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+                default:
+                    result.put("success", true);
+                    result.put("message", "웹훅을 받았습니다.");
+                    return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+            }
+
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     /**
      * 깃허브 토큰 유효성 검증
      */
@@ -1,15 +1,14 @@
 package com.assistivehub.integration.github.dto;
 
 import com.assistivehub.entity.GitHubIntegration;
-import com.assistivehub.util.EncryptionUtil;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class GitHubIntegrationResponse {
@@ -31,6 +30,10 @@ public class GitHubIntegrationResponse {
     private NotificationSettings notificationSettings;
     private SyncSettings syncSettings;
 
+    // 설정 필드를 처음 조회할 때 한 번만 복호화
+    @JsonIgnore
+    private Supplier<DecryptedSettings> settingsLoader;
+
     // 개별 설정들
     private Boolean autoSyncEnabled;
     private Boolean syncCommits;
@@ -237,7 +240,41 @@ public class GitHubIntegrationResponse {
         }
     }
 
-    // 정적 팩토리 메서드
+    /**
+     * 복호화된 설정 묶음 (캐시 저장용)
+     */
+    public static class DecryptedSettings {
+        private final List<RepositoryInfo> repositories;
+        private final List<WebhookInfo> webhooks;
+        private final NotificationSettings notificationSettings;
+        private final SyncSettings syncSettings;
+
+        public DecryptedSettings(List<RepositoryInfo> repositories, List<WebhookInfo> webhooks,
+                NotificationSettings notificationSettings, SyncSettings syncSettings) {
+            this.repositories = repositories;
+            this.webhooks = webhooks;
+            this.notificationSettings = notificationSettings;
+            this.syncSettings = syncSettings;
+        }
+
+        public List<RepositoryInfo> getRepositories() {
+            return repositories;
+        }
+
+        public List<WebhookInfo> getWebhooks() {
+            return webhooks;
+        }
+
+        public NotificationSettings getNotificationSettings() {
+            return notificationSettings;
+        }
+
+        public SyncSettings getSyncSettings() {
+            return syncSettings;
+        }
+    }
+
+    // 정적 팩토리 메서드 (암호화된 설정 제외)
     public static GitHubIntegrationResponse fromEntity(GitHubIntegration integration) {
         GitHubIntegrationResponse response = new GitHubIntegrationResponse();
 
@@ -268,15 +305,40 @@ public class GitHubIntegrationResponse {
         response.setLastSyncAt(integration.getLastSyncAt());
         response.setCreatedAt(integration.getCreatedAt());
 
-        // 암호화된 설정들 복호화
-        response.setRepositories(decryptRepositories(integration.getEncryptedRepositories()));
-        response.setWebhooks(decryptWebhooks(integration.getEncryptedWebhooks()));
-        response.setNotificationSettings(decryptNotificationSettings(integration.getEncryptedNotificationSettings()));
-        response.setSyncSettings(decryptSyncSettings(integration.getEncryptedSyncSettings()));
+        return response;
+    }
 
+    // 설정 필드는 조회 시점에 복호화하는 정적 팩토리 메서드
+    public static GitHubIntegrationResponse fromEntity(GitHubIntegration integration,
+            Supplier<DecryptedSettings> settingsLoader) {
+        GitHubIntegrationResponse response = fromEntity(integration);
+        response.settingsLoader = settingsLoader;
         return response;
     }
 
+    /**
+     * 설정 필드를 응답에서 제외 (복호화하지 않음)
+     */
+    public void omitSettings() {
+        this.settingsLoader = null;
+    }
+
+    private void loadSettings() {
+        Supplier<DecryptedSettings> loader = this.settingsLoader;
+        if (loader == null) {
+            return;
+        }
+        this.settingsLoader = null;
+
+        DecryptedSettings settings = loader.get();
+        if (settings != null) {
+            this.repositories = settings.getRepositories();
+            this.webhooks = settings.getWebhooks();
+            this.notificationSettings = settings.getNotificationSettings();
+            this.syncSettings = settings.getSyncSettings();
+        }
+    }
+
     // 토큰 마스킹
     private static String maskAccessToken(String token) {
         if (token == null || token.length() < 12) {
@@ -295,69 +357,6 @@ public class GitHubIntegrationResponse {
         }
     }
 
-    // 복호화 헬퍼 메서드들
-    private static List<RepositoryInfo> decryptRepositories(String encrypted) {
-        if (encrypted == null || encrypted.trim().isEmpty()) {
-            return null;
-        }
-
-        try {
-            EncryptionUtil encryptionUtil = new EncryptionUtil();
-            String decrypted = encryptionUtil.decrypt(encrypted);
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(decrypted, new TypeReference<List<RepositoryInfo>>() {
-            });
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private static List<WebhookInfo> decryptWebhooks(String encrypted) {
-        if (encrypted == null || encrypted.trim().isEmpty()) {
-            return null;
-        }
-
-        try {
-            EncryptionUtil encryptionUtil = new EncryptionUtil();
-            String decrypted = encryptionUtil.decrypt(encrypted);
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(decrypted, new TypeReference<List<WebhookInfo>>() {
-            });
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private static NotificationSettings decryptNotificationSettings(String encrypted) {
-        if (encrypted == null || encrypted.trim().isEmpty()) {
-            return null;
-        }
-
-        try {
-            EncryptionUtil encryptionUtil = new EncryptionUtil();
-            String decrypted = encryptionUtil.decrypt(encrypted);
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(decrypted, NotificationSettings.class);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private static SyncSettings decryptSyncSettings(String encrypted) {
-        if (encrypted == null || encrypted.trim().isEmpty()) {
-            return null;
-        }
-
-        try {
-            EncryptionUtil encryptionUtil = new EncryptionUtil();
-            String decrypted = encryptionUtil.decrypt(encrypted);
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(decrypted, SyncSettings.class);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
     // Getters and Setters
     public Long getId() {
         return id;
@@ -440,34 +439,42 @@ public class GitHubIntegrationResponse {
     }
 
     public List<RepositoryInfo> getRepositories() {
+        loadSettings();
         return repositories;
     }
 
     public void setRepositories(List<RepositoryInfo> repositories) {
+        loadSettings();
         this.repositories = repositories;
     }
 
     public List<WebhookInfo> getWebhooks() {
+        loadSettings();
         return webhooks;
     }
 
     public void setWebhooks(List<WebhookInfo> webhooks) {
+        loadSettings();
         this.webhooks = webhooks;
     }
 
     public NotificationSettings getNotificationSettings() {
+        loadSettings();
         return notificationSettings;
     }
 
     public void setNotificationSettings(NotificationSettings notificationSettings) {
+        loadSettings();
         this.notificationSettings = notificationSettings;
     }
 
     public SyncSettings getSyncSettings() {
+        loadSettings();
         return syncSettings;
     }
 
     public void setSyncSettings(SyncSettings syncSettings) {
+        loadSettings();
         this.syncSettings = syncSettings;
     }
 
@@ -0,0 +1,118 @@
+package com.assistivehub.integration.github.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * GitHub API 리포지토리 목록 항목 (GET /user/repos)
+ * 응답에서 필요한 필드만 읽고 같은 이름으로 그대로 직렬화합니다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class GitHubRepositorySummary {
+
+    @JsonProperty("id")
+    private final long id;
+
+    @JsonProperty("name")
+    private final String name;
+
+    @JsonProperty("full_name")
+    private final String fullName;
+
+    @JsonProperty("html_url")
+    private final String htmlUrl;
+
+    @JsonProperty("description")
+    private final String description;
+
+    @JsonProperty("private")
+    private final boolean isPrivate;
+
+    @JsonProperty("language")
+    private final String language;
+
+    @JsonProperty("stargazers_count")
+    private final int stargazersCount;
+
+    @JsonProperty("updated_at")
+    private final String updatedAt;
+
+    // 사용자가 이미 추가한 리포지토리인지 (추가 상태를 포함한 목록에서만 설정)
+    @JsonProperty("is_already_added")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Boolean isAlreadyAdded;
+
+    @JsonCreator
+    public GitHubRepositorySummary(
+            @JsonProperty("id") long id,
+            @JsonProperty("name") String name,
+            @JsonProperty("full_name") String fullName,
+            @JsonProperty("html_url") String htmlUrl,
+            @JsonProperty("description") String description,
+            @JsonProperty("private") boolean isPrivate,
+            @JsonProperty("language") String language,
+            @JsonProperty("stargazers_count") int stargazersCount,
+            @JsonProperty("updated_at") String updatedAt,
+            @JsonProperty("is_already_added") Boolean isAlreadyAdded) {
+        this.id = id;
+        this.name = name;
+        this.fullName = fullName;
+        this.htmlUrl = htmlUrl;
+        this.description = description;
+        this.isPrivate = isPrivate;
+        this.language = language;
+        this.stargazersCount = stargazersCount;
+        this.updatedAt = updatedAt;
+        this.isAlreadyAdded = isAlreadyAdded;
+    }
+
+    /**
+     * 추가 상태를 설정한 복사본 반환
+     */
+    public GitHubRepositorySummary withAlreadyAdded(boolean alreadyAdded) {
+        return new GitHubRepositorySummary(id, name, fullName, htmlUrl, description, isPrivate, language,
+                stargazersCount, updatedAt, alreadyAdded);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getHtmlUrl() {
+        return htmlUrl;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean getIsPrivate() {
+        return isPrivate;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public int getStargazersCount() {
+        return stargazersCount;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Boolean getIsAlreadyAdded() {
+        return isAlreadyAdded;
+    }
+}
@@ -0,0 +1,469 @@
+package com.assistivehub.integration.github.service;
+
+import com.assistivehub.entity.GitHubActivity;
+import com.assistivehub.entity.GitHubRepository;
+import com.assistivehub.integration.common.client.UpstreamSyncClient;
+import com.assistivehub.integration.common.sync.IntegrationSyncHandler;
+import com.assistivehub.repository.GitHubRepositoryRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 깃허브 리포지토리 활동 증분 동기화 (커밋, PR, 이슈, 릴리스)
+ *
+ * 리포지토리/항목 종류별로 저장해 둔 위치(since 시각 또는 마지막 릴리스 ID)와 ETag 이후의 항목만 가져옵니다.
+ * 가져온 활동, 새 위치, last_sync_at은 한 트랜잭션에서 JDBC 배치로 저장하므로 중간에 실패하면 다음 동기화가 같은 위치부터 다시 시작합니다.
+ * 최신순으로 읽는 커밋/PR이 페이지 상한(github.sync.max-pages)에 걸리면 위치는 그대로 두고 다음 동기화가 이어서 읽으며
+ * (커밋은 남은 페이지 URL부터, PR은 처음부터 다시), 범위를 다 읽은 뒤에 위치를 옮깁니다.
+ */
+@Service
+public class GitHubActivitySyncService implements IntegrationSyncHandler {
+
+    private static final String GITHUB_API_URL = "https://api.github.com";
+
+    private static final String UPSERT_ACTIVITY_SQL = "INSERT INTO github_activities"
+            + " (repository_id, activity_type, external_id, title, author, url, state, occurred_at, created_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE title = VALUES(title), state = VALUES(state), updated_at = VALUES(updated_at)";
+
+    private static final String UPSERT_CURSOR_SQL = "INSERT INTO github_sync_cursors"
+            + " (repository_id, resource_type, cursor_value, etag, pending_url, pending_value, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE cursor_value = VALUES(cursor_value), etag = VALUES(etag),"
+            + " pending_url = VALUES(pending_url), pending_value = VALUES(pending_value),"
+            + " updated_at = VALUES(updated_at)";
+
+    @Autowired
+    private GitHubRepositoryRepository gitHubRepositoryRepository;
+
+    @Autowired
+    private UpstreamSyncClient syncClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${integration.sync.interval-minutes:60}")
+    private long intervalMinutes;
+
+    @Value("${github.sync.max-pages:10}")
+    private int maxPages;
+
+    @Value("${github.sync.max-resume-pages:50}")
+    private int maxResumePages;
+
+    @Value("${github.sync.initial-lookback-days:30}")
+    private long initialLookbackDays;
+
+    @Value("${github.sync.batch-size:500}")
+    private int batchSize;
+
+    @Autowired
+    public GitHubActivitySyncService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String getProvider() {
+        return "github-repository";
+    }
+
+    @Override
+    public String getTable() {
+        return "github_repositories";
+    }
+
+    @Override
+    public List<Long> findDueIntegrationIds(LocalDateTime now) {
+        return gitHubRepositoryRepository.findRepositoriesNeedingSync(now.minusMinutes(intervalMinutes)).stream()
+                .map(GitHubRepository::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void sync(Long repositoryId) {
+        GitHubRepository repository = gitHubRepositoryRepository.findById(repositoryId)
+                .orElseThrow(() -> new RuntimeException("리포지토리를 찾을 수 없습니다."));
+
+        Map<String, Cursor> cursors = loadCursors(repositoryId);
+        SyncResult result = new SyncResult();
+        String fullName = repository.getRepositoryFullName();
+        String token = repository.getAccessToken();
+
+        if (Boolean.TRUE.equals(repository.getSyncCommits())) {
+            syncCommits(fullName, token, cursors.get(GitHubActivity.ActivityType.COMMIT.name()), result);
+        }
+        if (Boolean.TRUE.equals(repository.getSyncPullRequests())) {
+            syncPullRequests(fullName, token, cursors.get(GitHubActivity.ActivityType.PULL_REQUEST.name()), result);
+        }
+        if (Boolean.TRUE.equals(repository.getSyncIssues())) {
+            syncIssues(fullName, token, cursors.get(GitHubActivity.ActivityType.ISSUE.name()), result);
+        }
+        if (Boolean.TRUE.equals(repository.getSyncReleases())) {
+            syncReleases(fullName, token, cursors.get(GitHubActivity.ActivityType.RELEASE.name()), result);
+        }
+
+        save(repositoryId, result);
+    }
+
+    /**
+     * 웹훅 이벤트(push, pull_request, issues)의 활동 저장
+     * 동기화 위치는 건드리지 않으므로 웹훅이 빠뜨린 항목은 다음 폴링이 채우고, 겹친 항목은 upsert로 한 행만 남습니다.
+     */
+    public void applyWebhookEvent(Long repositoryId, String event, JsonNode payload) {
+        GitHubRepository repository = gitHubRepositoryRepository.findById(repositoryId)
+                .orElseThrow(() -> new RuntimeException("리포지토리를 찾을 수 없습니다."));
+
+        List<ActivityRow> activities = new ArrayList<>();
+        if ("push".equals(event) && Boolean.TRUE.equals(repository.getSyncCommits())) {
+            for (JsonNode commit : payload.path("commits")) {
+                activities.add(new ActivityRow(GitHubActivity.ActivityType.COMMIT, commit.path("id").asText(),
+                        firstLine(commit.path("message").asText()), commit.path("author").path("name").asText(null),
+                        commit.path("url").asText(null), null, commit.path("timestamp").asText(null)));
+            }
+        } else if ("pull_request".equals(event) && Boolean.TRUE.equals(repository.getSyncPullRequests())) {
+            JsonNode item = payload.path("pull_request");
+            activities.add(new ActivityRow(GitHubActivity.ActivityType.PULL_REQUEST, item.path("number").asText(),
+                    item.path("title").asText(null), item.path("user").path("login").asText(null),
+                    item.path("html_url").asText(null),
+                    item.path("merged_at").isTextual() ? "merged" : item.path("state").asText(null),
+                    item.path("created_at").asText(null)));
+        } else if ("issues".equals(event) && Boolean.TRUE.equals(repository.getSyncIssues())
+                && !payload.path("issue").has("pull_request")) {
+            JsonNode item = payload.path("issue");
+            activities.add(new ActivityRow(GitHubActivity.ActivityType.ISSUE, item.path("number").asText(),
+                    item.path("title").asText(null), item.path("user").path("login").asText(null),
+                    item.path("html_url").asText(null), item.path("state").asText(null),
+                    item.path("created_at").asText(null)));
+        }
+
+        if (!activities.isEmpty()) {
+            upsertActivities(repositoryId, activities, Timestamp.valueOf(LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * 리포지토리 삭제 시 저장된 활동과 동기화 위치 제거
+     */
+    public void deleteActivities(Long repositoryId) {
+        jdbcTemplate.update("DELETE FROM github_activities WHERE repository_id = ?", repositoryId);
+        jdbcTemplate.update("DELETE FROM github_sync_cursors WHERE repository_id = ?", repositoryId);
+    }
+
+    /**
+     * 커밋: since 이후 커밋 (최신순), 위치는 가장 최근 커밋 시각
+     */
+    private void syncCommits(String fullName, String token, Cursor cursor, SyncResult result) {
+        String since = cursor != null && cursor.value != null ? cursor.value : initialSince();
+        boolean resuming = cursor != null && cursor.pendingUrl != null;
+        URI uri = resuming ? URI.create(cursor.pendingUrl) : UriComponentsBuilder.fromHttpUrl(GITHUB_API_URL)
+                .path("/repos/{fullName}/commits")
+                .queryParam("since", since)
+                .queryParam("per_page", 100)
+                .buildAndExpand(fullName).toUri();
+
+        Fetched fetched = fetchAll(token, uri, resuming ? null : etag(cursor), maxPages, item -> false);
+        String newest = resuming && cursor.pendingValue != null ? cursor.pendingValue : since;
+        for (JsonNode item : fetched.items) {
+            JsonNode commit = item.path("commit");
+            String committedAt = commit.path("committer").path("date").asText(null);
+            result.activities.add(new ActivityRow(GitHubActivity.ActivityType.COMMIT, item.path("sha").asText(),
+                    firstLine(commit.path("message").asText()), commit.path("author").path("name").asText(null),
+                    item.path("html_url").asText(null), null, committedAt));
+            if (committedAt != null && committedAt.compareTo(newest) > 0) {
+                newest = committedAt;
+            }
+        }
+        result.cursors.put(GitHubActivity.ActivityType.COMMIT.name(), nextCursor(since, newest, fetched, resuming));
+    }
+
+    /**
+     * PR: 수정 시각 최신순으로 읽다가 저장된 위치에 닿으면 중단 (PR 목록 API에는 since가 없음)
+     * 페이지 상한에 걸리면 남은 페이지 URL 대신 지금까지 본 가장 최근 값만 저장하고, 다음 동기화는 처음부터
+     * max-resume-pages까지 다시 읽습니다. 그 사이 수정된 PR이 맨 앞으로 옮겨가 페이지 경계가 밀려도 빠지는 항목이 없고,
+     * 다시 읽은 항목은 upsert로 덮어씁니다.
+     */
+    private void syncPullRequests(String fullName, String token, Cursor cursor, SyncResult result) {
+        String since = cursor != null && cursor.value != null ? cursor.value : initialSince();
+        boolean resuming = cursor != null && (cursor.pendingValue != null || cursor.pendingUrl != null);
+        URI uri = UriComponentsBuilder.fromHttpUrl(GITHUB_API_URL)
+                .path("/repos/{fullName}/pulls")
+                .queryParam("state", "all")
+                .queryParam("sort", "updated")
+                .queryParam("direction", "desc")
+                .queryParam("per_page", 100)
+                .buildAndExpand(fullName).toUri();
+
+        Fetched fetched = fetchAll(token, uri, resuming ? null : etag(cursor), resuming ? maxResumePages : maxPages,
+                item -> item.path("updated_at").asText("").compareTo(since) <= 0);
+        String newest = resuming && cursor.pendingValue != null ? cursor.pendingValue : since;
+        for (JsonNode item : fetched.items) {
+            String updatedAt = item.path("updated_at").asText(null);
+            result.activities.add(new ActivityRow(GitHubActivity.ActivityType.PULL_REQUEST,
+                    item.path("number").asText(), item.path("title").asText(null),
+                    item.path("user").path("login").asText(null), item.path("html_url").asText(null),
+                    item.path("merged_at").isTextual() ? "merged" : item.path("state").asText(null),
+                    item.path("created_at").asText(null)));
+            if (updatedAt != null && updatedAt.compareTo(newest) > 0) {
+                newest = updatedAt;
+            }
+        }
+        result.cursors.put(GitHubActivity.ActivityType.PULL_REQUEST.name(), fetched.nextUrl != null
+                ? new Cursor(since, null, null, newest)
+                : new Cursor(newest, resuming ? null : fetched.etag, null, null));
+    }
+
+    /**
+     * 이슈: since 이후 수정된 이슈 (오래된 순), PR로 만들어진 이슈는 제외
+     */
+    private void syncIssues(String fullName, String token, Cursor cursor, SyncResult result) {
+        String since = cursor != null && cursor.value != null ? cursor.value : initialSince();
+        URI uri = UriComponentsBuilder.fromHttpUrl(GITHUB_API_URL)
+                .path("/repos/{fullName}/issues")
+                .queryParam("state", "all")
+                .queryParam("since", since)
+                .queryParam("sort", "updated")
+                .queryParam("direction", "asc")
+                .queryParam("per_page", 100)
+                .buildAndExpand(fullName).toUri();
+
+        Fetched fetched = fetchAll(token, uri, etag(cursor), maxPages, item -> false);
+        String newest = since;
+        for (JsonNode item : fetched.items) {
+            String updatedAt = item.path("updated_at").asText(null);
+            if (updatedAt != null && updatedAt.compareTo(newest) > 0) {
+                newest = updatedAt;
+            }
+            if (item.has("pull_request")) {
+                continue;
+            }
+            result.activities.add(new ActivityRow(GitHubActivity.ActivityType.ISSUE, item.path("number").asText(),
+                    item.path("title").asText(null), item.path("user").path("login").asText(null),
+                    item.path("html_url").asText(null), item.path("state").asText(null),
+                    item.path("created_at").asText(null)));
+        }
+        result.cursors.put(GitHubActivity.ActivityType.ISSUE.name(), new Cursor(newest, fetched.etag, null, null));
+    }
+
+    /**
+     * 릴리스: 최신순으로 읽다가 마지막으로 본 릴리스 ID에 닿으면 중단 (첫 동기화는 첫 페이지만)
+     */
+    private void syncReleases(String fullName, String token, Cursor cursor, SyncResult result) {
+        long lastSeenId = cursor != null && cursor.value != null ? Long.parseLong(cursor.value) : -1;
+        URI uri = UriComponentsBuilder.fromHttpUrl(GITHUB_API_URL)
+                .path("/repos/{fullName}/releases")
+                .queryParam("per_page", 100)
+                .buildAndExpand(fullName).toUri();
+
+        Fetched fetched = fetchAll(token, uri, etag(cursor), lastSeenId < 0 ? 1 : maxPages,
+                item -> lastSeenId >= 0 && item.path("id").asLong() <= lastSeenId);
+        long newestId = lastSeenId;
+        for (JsonNode item : fetched.items) {
+            long id = item.path("id").asLong();
+            String name = item.path("name").asText("");
+            result.activities.add(new ActivityRow(GitHubActivity.ActivityType.RELEASE, String.valueOf(id),
+                    name.isEmpty() ? item.path("tag_name").asText(null) : name,
+                    item.path("author").path("login").asText(null), item.path("html_url").asText(null),
+                    item.path("draft").asBoolean() ? "draft" : "published",
+                    item.path("published_at").asText(item.path("created_at").asText(null))));
+            newestId = Math.max(newestId, id);
+        }
+        result.cursors.put(GitHubActivity.ActivityType.RELEASE.name(),
+                new Cursor(newestId >= 0 ? String.valueOf(newestId) : null, fetched.etag, null, null));
+    }
+
+    /**
+     * 최신순 조회의 다음 위치
+     * 범위를 다 읽었으면 본 것 중 가장 최근 값으로 옮기고, 페이지 상한에 걸렸으면 위치는 그대로 두고
+     * 남은 페이지 URL과 지금까지 본 가장 최근 값을 저장합니다. (이어 읽은 조회의 ETag는 첫 페이지 것이 아니라 저장하지 않음)
+     */
+    private static Cursor nextCursor(String since, String newest, Fetched fetched, boolean resuming) {
+        if (fetched.nextUrl != null) {
+            return new Cursor(since, null, fetched.nextUrl.toString(), newest);
+        }
+        return new Cursor(newest, resuming ? null : fetched.etag, null, null);
+    }
+
+    private static String etag(Cursor cursor) {
+        return cursor != null ? cursor.etag : null;
+    }
+
+    /**
+     * Link 헤더를 따라 페이지를 읽고 stopAt에 닿은 항목부터는 버림
+     * 첫 페이지는 저장된 ETag로 조건부 요청하며, 304면 빈 결과와 기존 ETag를 반환합니다.
+     * 페이지 상한에 걸려 남은 페이지가 있으면 그 URL을 nextUrl로 반환합니다.
+     */
+    private Fetched fetchAll(String token, URI firstUri, String storedEtag, int pageLimit,
+            Predicate<JsonNode> stopAt) {
+        List<JsonNode> items = new ArrayList<>();
+        URI uri = firstUri;
+        String firstEtag = null;
+
+        for (int page = 0; page < pageLimit && uri != null; page++) {
+            UpstreamSyncClient.Page response = syncClient.get(GITHUB_API_URL, uri,
+                    headers -> headers.set(HttpHeaders.AUTHORIZATION, "token " + token),
+                    page == 0 ? storedEtag : null);
+
+            if (response.isNotModified()) {
+                return new Fetched(items, storedEtag, null);
+            }
+            if (page == 0) {
+                firstEtag = response.getEtag();
+            }
+
+            for (JsonNode item : response.getBody()) {
+                if (stopAt.test(item)) {
+                    return new Fetched(items, firstEtag, null);
+                }
+                items.add(item);
+            }
+            uri = response.getNextUrl() != null ? URI.create(response.getNextUrl()) : null;
+        }
+        return new Fetched(items, firstEtag, uri);
+    }
+
+    private Map<String, Cursor> loadCursors(Long repositoryId) {
+        Map<String, Cursor> cursors = new HashMap<>();
+        jdbcTemplate.query("SELECT resource_type, cursor_value, etag, pending_url, pending_value"
+                + " FROM github_sync_cursors WHERE repository_id = ?", rs -> {
+                    cursors.put(rs.getString("resource_type"), new Cursor(rs.getString("cursor_value"),
+                            rs.getString("etag"), rs.getString("pending_url"), rs.getString("pending_value")));
+                }, repositoryId);
+        return cursors;
+    }
+
+    /**
+     * 활동 upsert, 위치 갱신, last_sync_at 기록을 한 트랜잭션으로 저장
+     */
+    private void save(Long repositoryId, SyncResult result) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.execute(status -> {
+            upsertActivities(repositoryId, result.activities, now);
+
+            List<Object[]> cursorRows = new ArrayList<>();
+            for (Map.Entry<String, Cursor> entry : result.cursors.entrySet()) {
+                Cursor cursor = entry.getValue();
+                cursorRows.add(new Object[] { repositoryId, entry.getKey(), cursor.value, cursor.etag,
+                        cursor.pendingUrl, cursor.pendingValue, now });
+            }
+            if (!cursorRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_CURSOR_SQL, cursorRows);
+            }
+
+            jdbcTemplate.update("UPDATE github_repositories SET last_sync_at = ? WHERE id = ?", now, repositoryId);
+            return null;
+        });
+    }
+
+    private void upsertActivities(Long repositoryId, List<ActivityRow> activities, Timestamp now) {
+        List<Object[]> rows = new ArrayList<>();
+        for (ActivityRow activity : activities) {
+            rows.add(new Object[] { repositoryId, activity.type.name(), activity.externalId,
+                    truncate(activity.title, 500), activity.author, truncate(activity.url, 500), activity.state,
+                    toTimestamp(activity.occurredAt), now, now });
+            if (rows.size() >= batchSize) {
+                jdbcTemplate.batchUpdate(UPSERT_ACTIVITY_SQL, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_ACTIVITY_SQL, rows);
+        }
+    }
+
+    private String initialSince() {
+        return Instant.now().truncatedTo(ChronoUnit.SECONDS).minus(initialLookbackDays, ChronoUnit.DAYS).toString();
+    }
+
+    // REST API는 UTC(Z), 웹훅 push의 커밋 시각은 +09:00 같은 오프셋 형식
+    private static Timestamp toTimestamp(String isoTime) {
+        if (isoTime == null || isoTime.isEmpty()) {
+            return null;
+        }
+        Instant instant = OffsetDateTime.parse(isoTime).toInstant();
+        return Timestamp.valueOf(LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
+    }
+
+    private static String firstLine(String message) {
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static class Cursor {
+        private final String value;
+        private final String etag;
+        private final String pendingUrl;
+        private final String pendingValue;
+
+        private Cursor(String value, String etag, String pendingUrl, String pendingValue) {
+            this.value = value;
+            this.etag = etag;
+            this.pendingUrl = pendingUrl;
+            this.pendingValue = pendingValue;
+        }
+    }
+
+    private static class Fetched {
+        private final List<JsonNode> items;
+        private final String etag;
+        private final URI nextUrl;
+
+        private Fetched(List<JsonNode> items, String etag, URI nextUrl) {
+            this.items = items;
+            this.etag = etag;
+            this.nextUrl = nextUrl;
+        }
+    }
+
+    private static class ActivityRow {
+        private final GitHubActivity.ActivityType type;
+        private final String externalId;
+        private final String title;
+        private final String author;
+        private final String url;
+        private final String state;
+        private final String occurredAt;
+
+        private ActivityRow(GitHubActivity.ActivityType type, String externalId, String title, String author,
+                String url, String state, String occurredAt) {
+            this.type = type;
+            this.externalId = externalId;
+            this.title = title;
+            this.author = author;
+            this.url = url;
+            this.state = state;
+            this.occurredAt = occurredAt;
+        }
+    }
+
+    private static class SyncResult {
+        private final List<ActivityRow> activities = new ArrayList<>();
+        private final Map<String, Cursor> cursors = new HashMap<>();
+    }
+}
@@ -2,9 +2,17 @@ package com.assistivehub.integration.github.service;
 
 import com.assistivehub.entity.GitHubIntegration;
 import com.assistivehub.entity.IntegratedService;
+import com.assistivehub.integration.common.service.TokenIdentityService;
 import com.assistivehub.integration.github.dto.GitHubIntegrationResponse;
 import com.assistivehub.repository.GitHubIntegrationRepository;
 import com.assistivehub.repository.IntegratedServiceRepository;
+import com.assistivehub.util.EncryptedSettingsDocument;
+import com.assistivehub.util.EncryptionUtil;
+import com.assistivehub.util.IntegrationSettingsCache;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,12 +25,90 @@ import java.util.stream.Collectors;
 @Transactional
 public class GitHubIntegrationService {
 
+    private static final Logger log = LoggerFactory.getLogger(GitHubIntegrationService.class);
+
     @Autowired
     private GitHubIntegrationRepository gitHubIntegrationRepository;
 
     @Autowired
     private IntegratedServiceRepository integratedServiceRepository;
 
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    private TokenIdentityService tokenIdentityService;
+
+    @Autowired
+    private IntegrationSettingsCache settingsCache;
+
+    @Autowired
+    private EncryptedSettingsDocument settingsDocument;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * 응답 생성 (설정 필드는 조회될 때 복호화, updated_at이 같으면 캐시 재사용)
+     */
+    public GitHubIntegrationResponse toResponse(GitHubIntegration integration) {
+        return GitHubIntegrationResponse.fromEntity(integration,
+                () -> settingsCache.get(IntegrationSettingsCache.GITHUB, integration.getId(),
+                        integration.getUpdatedAt(), () -> decryptSettings(integration)));
+    }
+
+    /**
+     * 암호화된 설정 복호화 (설정 문서가 있으면 한 번만 복호화)
+     * 어느 항목이든 복호화에 실패하면 null을 반환해 설정 캐시에 저장되지 않게 합니다.
+     */
+    private GitHubIntegrationResponse.DecryptedSettings decryptSettings(GitHubIntegration integration) {
+        try {
+            if (integration.getEncryptedSettings() != null) {
+                EncryptedSettingsDocument.Sections sections = settingsDocument.open(integration.getEncryptedSettings());
+                return new GitHubIntegrationResponse.DecryptedSettings(
+                        sections.get(GitHubIntegration.SECTION_REPOSITORIES,
+                                new TypeReference<List<GitHubIntegrationResponse.RepositoryInfo>>() {
+                                }),
+                        sections.get(GitHubIntegration.SECTION_WEBHOOKS,
+                                new TypeReference<List<GitHubIntegrationResponse.WebhookInfo>>() {
+                                }),
+                        sections.get(GitHubIntegration.SECTION_NOTIFICATION_SETTINGS,
+                                GitHubIntegrationResponse.NotificationSettings.class),
+                        sections.get(GitHubIntegration.SECTION_SYNC_SETTINGS,
+                                GitHubIntegrationResponse.SyncSettings.class));
+            }
+
+            return new GitHubIntegrationResponse.DecryptedSettings(
+                    decryptColumn(integration.getEncryptedRepositories(),
+                            new TypeReference<List<GitHubIntegrationResponse.RepositoryInfo>>() {
+                            }),
+                    decryptColumn(integration.getEncryptedWebhooks(),
+                            new TypeReference<List<GitHubIntegrationResponse.WebhookInfo>>() {
+                            }),
+                    decryptColumn(integration.getEncryptedNotificationSettings(),
+                            new TypeReference<GitHubIntegrationResponse.NotificationSettings>() {
+                            }),
+                    decryptColumn(integration.getEncryptedSyncSettings(),
+                            new TypeReference<GitHubIntegrationResponse.SyncSettings>() {
+                            }));
+        } catch (Exception e) {
+            // 복호화 실패해도 기본 정보는 반환
+            log.warn("깃허브 설정 복호화 실패: #{} ({})", integration.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private <T> T decryptColumn(String encrypted, TypeReference<T> type) {
+        if (encrypted == null || encrypted.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(encryptionUtil.decrypt(encrypted), type);
+        } catch (Exception e) {
+            throw new RuntimeException("설정 정보 복호화 실패: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 사용자의 모든 GitHub 연동 조회
      */
@@ -30,7 +116,7 @@ public class GitHubIntegrationService {
     public List<GitHubIntegrationResponse> getUserGitHubIntegrations(Long userId) {
         List<GitHubIntegration> integrations = gitHubIntegrationRepository.findByUserId(userId);
         return integrations.stream()
-                .map(GitHubIntegrationResponse::fromEntity)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -41,7 +127,7 @@ public class GitHubIntegrationService {
     public List<GitHubIntegrationResponse> getActiveUserGitHubIntegrations(Long userId) {
         List<GitHubIntegration> integrations = gitHubIntegrationRepository.findActiveByUserId(userId);
         return integrations.stream()
-                .map(GitHubIntegrationResponse::fromEntity)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -58,7 +144,7 @@ public class GitHubIntegrationService {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
 
-        return GitHubIntegrationResponse.fromEntity(integration);
+        return toResponse(integration);
     }
 
     /**
@@ -75,6 +161,8 @@ public class GitHubIntegrationService {
 
         // IntegratedService도 함께 삭제
         IntegratedService integratedService = integration.getIntegratedService();
+        settingsCache.invalidate(IntegrationSettingsCache.GITHUB, integration.getId());
+        tokenIdentityService.invalidateGitHub(integration.getAccessToken());
         gitHubIntegrationRepository.delete(integration);
         integratedServiceRepository.delete(integratedService);
     }
@@ -97,7 +185,7 @@ public class GitHubIntegrationService {
 
         integratedServiceRepository.save(integratedService);
 
-        return GitHubIntegrationResponse.fromEntity(integration);
+        return toResponse(integration);
     }
 
     /**
@@ -113,9 +201,8 @@ public class GitHubIntegrationService {
                 throw new RuntimeException("접근 권한이 없습니다.");
             }
 
-            // TODO: 실제 GitHub API 호출로 토큰 유효성 검증
-            // 현재는 단순히 토큰 존재 여부만 확인
-            return integration.getAccessToken() != null && !integration.getAccessToken().trim().isEmpty();
+            // 토큰 검증 결과는 TokenIdentityService에서 잠시 캐시됨
+            return tokenIdentityService.github(integration.getAccessToken()).isValid();
 
         } catch (Exception e) {
             return false;
@@ -6,18 +6,21 @@ import com.assistivehub.entity.GitHubIntegration;
 import com.assistivehub.entity.User;
 import com.assistivehub.repository.IntegratedServiceRepository;
 import com.assistivehub.repository.GitHubIntegrationRepository;
+import com.assistivehub.util.EncryptedSettingsDocument;
+import com.assistivehub.integration.common.service.TokenIdentityService;
 import com.assistivehub.util.EncryptionUtil;
+import com.assistivehub.util.IntegrationSettingsCache;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -32,13 +35,18 @@ public class GitHubManualSetupService {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
-    private final WebClient webClient;
+    @Autowired
+    private TokenIdentityService tokenIdentityService;
+
+    @Autowired
+    private IntegrationSettingsCache settingsCache;
+
+    @Autowired
+    private EncryptedSettingsDocument settingsDocument;
+
     private final ObjectMapper objectMapper;
 
     public GitHubManualSetupService() {
-        this.webClient = WebClient.builder()
-                .baseUrl("https://api.github.com")
-                .build();
         this.objectMapper = new ObjectMapper();
     }
 
@@ -46,20 +54,7 @@ public class GitHubManualSetupService {
      * 깃허브 토큰 유효성 검증
      */
     public boolean validateGitHubToken(String token) {
-        try {
-            String response = webClient.get()
-                    .uri("/user")
-                    .header(HttpHeaders.AUTHORIZATION, "token " + token)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode responseJson = objectMapper.readTree(response);
-            return responseJson.has("id");
-
-        } catch (Exception e) {
-            return false;
-        }
+        return tokenIdentityService.github(token).isValid();
     }
 
     /**
@@ -67,14 +62,7 @@ public class GitHubManualSetupService {
      */
     public GitHubUserInfo getGitHubUserInfo(String token) {
         try {
-            String response = webClient.get()
-                    .uri("/user")
-                    .header(HttpHeaders.AUTHORIZATION, "token " + token)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode responseJson = objectMapper.readTree(response);
+            JsonNode responseJson = tokenIdentityService.github(token).require();
 
             GitHubUserInfo userInfo = new GitHubUserInfo();
             userInfo.setGithubUserId(responseJson.get("id").asText());
@@ -121,6 +109,11 @@ public class GitHubManualSetupService {
     private GitHubIntegration updateExistingManualIntegration(GitHubIntegration integration,
             GitHubManualSetupRequest request, GitHubUserInfo tokenInfo) {
 
+        // 교체되는 이전 토큰의 신원 캐시 제거
+        if (!request.getAccessToken().equals(integration.getAccessToken())) {
+            tokenIdentityService.invalidateGitHub(integration.getAccessToken());
+        }
+
         // 기본 정보 업데이트
         integration.setUsername(tokenInfo.getUsername());
         integration.setAccessToken(request.getAccessToken());
@@ -130,19 +123,7 @@ public class GitHubManualSetupService {
         integration.setEmail(tokenInfo.getEmail());
 
         // 암호화된 설정 정보 업데이트
-        if (request.getRepositories() != null) {
-            integration.setEncryptedRepositories(encryptRepositories(request.getRepositories()));
-        }
-        if (request.getWebhooks() != null) {
-            integration.setEncryptedWebhooks(encryptWebhooks(request.getWebhooks()));
-        }
-        if (request.getNotificationSettings() != null) {
-            integration
-                    .setEncryptedNotificationSettings(encryptNotificationSettings(request.getNotificationSettings()));
-        }
-        if (request.getSyncSettings() != null) {
-            integration.setEncryptedSyncSettings(encryptSyncSettings(request.getSyncSettings()));
-        }
+        applyEncryptedSettings(integration, request);
 
         // 개별 설정 업데이트
         integration.setAutoSyncEnabled(request.getAutoSyncEnabled());
@@ -153,7 +134,9 @@ public class GitHubManualSetupService {
         integration.setNotificationEnabled(request.getNotificationEnabled());
         integration.setWebhookEnabled(request.getWebhookEnabled());
 
-        return gitHubIntegrationRepository.save(integration);
+        GitHubIntegration savedIntegration = gitHubIntegrationRepository.save(integration);
+        settingsCache.invalidate(IntegrationSettingsCache.GITHUB, savedIntegration.getId());
+        return savedIntegration;
     }
 
     /**
@@ -184,19 +167,7 @@ public class GitHubManualSetupService {
         integration.setEmail(tokenInfo.getEmail());
 
         // 암호화된 설정 정보 저장
-        if (request.getRepositories() != null) {
-            integration.setEncryptedRepositories(encryptRepositories(request.getRepositories()));
-        }
-        if (request.getWebhooks() != null) {
-            integration.setEncryptedWebhooks(encryptWebhooks(request.getWebhooks()));
-        }
-        if (request.getNotificationSettings() != null) {
-            integration
-                    .setEncryptedNotificationSettings(encryptNotificationSettings(request.getNotificationSettings()));
-        }
-        if (request.getSyncSettings() != null) {
-            integration.setEncryptedSyncSettings(encryptSyncSettings(request.getSyncSettings()));
-        }
+        applyEncryptedSettings(integration, request);
 
         // 개별 설정
         integration.setAutoSyncEnabled(request.getAutoSyncEnabled());
@@ -210,6 +181,70 @@ public class GitHubManualSetupService {
         return gitHubIntegrationRepository.save(integration);
     }
 
+    /**
+     * 요청의 설정을 암호화하여 저장
+     * 설정 문서를 사용하면 하나의 문서로 합치고, 아니면 개별 컬럼에 저장합니다.
+     */
+    private void applyEncryptedSettings(GitHubIntegration integration, GitHubManualSetupRequest request) {
+        if (!settingsDocument.isEnabled() && integration.getEncryptedSettings() == null) {
+            if (request.getRepositories() != null) {
+                integration.setEncryptedRepositories(encryptRepositories(request.getRepositories()));
+            }
+            if (request.getWebhooks() != null) {
+                integration.setEncryptedWebhooks(encryptWebhooks(request.getWebhooks()));
+            }
+            if (request.getNotificationSettings() != null) {
+                integration.setEncryptedNotificationSettings(
+                        encryptNotificationSettings(request.getNotificationSettings()));
+            }
+            if (request.getSyncSettings() != null) {
+                integration.setEncryptedSyncSettings(encryptSyncSettings(request.getSyncSettings()));
+            }
+            return;
+        }
+
+        // 요청에 없는 섹션은 기존 값 유지
+        Map<String, String> legacyColumns = new LinkedHashMap<>();
+        legacyColumns.put(GitHubIntegration.SECTION_REPOSITORIES, integration.getEncryptedRepositories());
+        legacyColumns.put(GitHubIntegration.SECTION_WEBHOOKS, integration.getEncryptedWebhooks());
+        legacyColumns.put(GitHubIntegration.SECTION_NOTIFICATION_SETTINGS, integration.getEncryptedNotificationSettings());
+        legacyColumns.put(GitHubIntegration.SECTION_SYNC_SETTINGS, integration.getEncryptedSyncSettings());
+
+        Map<String, Object> sections = settingsDocument.currentSections(integration.getEncryptedSettings(),
+                legacyColumns);
+        if (request.getRepositories() != null) {
+            sections.put(GitHubIntegration.SECTION_REPOSITORIES, request.getRepositories());
+        }
+        if (request.getWebhooks() != null) {
+            sections.put(GitHubIntegration.SECTION_WEBHOOKS, request.getWebhooks());
+        }
+        if (request.getNotificationSettings() != null) {
+            sections.put(GitHubIntegration.SECTION_NOTIFICATION_SETTINGS, request.getNotificationSettings());
+        }
+        if (request.getSyncSettings() != null) {
+            sections.put(GitHubIntegration.SECTION_SYNC_SETTINGS, request.getSyncSettings());
+        }
+
+        if (settingsDocument.isEnabled()) {
+            integration.setEncryptedSettings(settingsDocument.seal(sections));
+            integration.setEncryptedRepositories(null);
+            integration.setEncryptedWebhooks(null);
+            integration.setEncryptedNotificationSettings(null);
+            integration.setEncryptedSyncSettings(null);
+        } else {
+            // 문서 사용을 끈 경우 개별 컬럼으로 되돌림
+            integration.setEncryptedRepositories(
+                    settingsDocument.sealSection(sections.get(GitHubIntegration.SECTION_REPOSITORIES)));
+            integration.setEncryptedWebhooks(
+                    settingsDocument.sealSection(sections.get(GitHubIntegration.SECTION_WEBHOOKS)));
+            integration.setEncryptedNotificationSettings(
+                    settingsDocument.sealSection(sections.get(GitHubIntegration.SECTION_NOTIFICATION_SETTINGS)));
+            integration.setEncryptedSyncSettings(
+                    settingsDocument.sealSection(sections.get(GitHubIntegration.SECTION_SYNC_SETTINGS)));
+            integration.setEncryptedSettings(null);
+        }
+    }
+
     // 암호화/복호화 헬퍼 메서드들
     private String encryptRepositories(List<GitHubManualSetupRequest.RepositoryInfo> repositories) {
         try {
@@ -5,6 +5,8 @@ import com.assistivehub.entity.GitHubIntegration;
 import com.assistivehub.entity.User;
 import com.assistivehub.repository.IntegratedServiceRepository;
 import com.assistivehub.repository.GitHubIntegrationRepository;
+import com.assistivehub.integration.common.client.UpstreamClientRegistry;
+import com.assistivehub.integration.common.service.TokenIdentityService;
 import com.assistivehub.util.EncryptionUtil;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,15 +46,25 @@ public class GitHubOAuthService {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
-    private final WebClient webClient;
+    @Autowired
+    private UpstreamClientRegistry upstreamClients;
+
+    @Autowired
+    private TokenIdentityService tokenIdentityService;
+
+    private WebClient webClient;
     private final ObjectMapper objectMapper;
 
     public GitHubOAuthService() {
-        this.webClient = WebClient.builder()
-                .baseUrl("https://github.com")
+        this.objectMapper = new ObjectMapper();
+    }
+
+    @PostConstruct
+    public void init() {
+        this.webClient = upstreamClients.client("https://github.com")
+                .mutate()
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
-        this.objectMapper = new ObjectMapper();
     }
 
     /**
@@ -99,9 +112,7 @@ public class GitHubOAuthService {
             String scope = tokenJson.has("scope") ? tokenJson.get("scope").asText() : "";
 
             // 2. 사용자 정보 조회
-            WebClient apiClient = WebClient.builder()
-                    .baseUrl("https://api.github.com")
-                    .build();
+            WebClient apiClient = upstreamClients.client("https://api.github.com");
 
             String userInfoResponse = apiClient.get()
                     .uri("/user")
@@ -221,6 +232,7 @@ public class GitHubOAuthService {
             // 연동 비활성화
             integration.getIntegratedService().setIsActive(false);
             gitHubIntegrationRepository.save(integration);
+            tokenIdentityService.invalidateGitHub(integration.getAccessToken());
 
         } catch (Exception e) {
             throw new RuntimeException("깃허브 연동 해제 실패: " + e.getMessage(), e);
@@ -231,23 +243,6 @@ public class GitHubOAuthService {
      * 연동 유효성 검증
      */
     public boolean validateIntegration(GitHubIntegration integration) {
-        try {
-            WebClient apiClient = WebClient.builder()
-                    .baseUrl("https://api.github.com")
-                    .build();
-
-            String response = apiClient.get()
-                    .uri("/user")
-                    .header(HttpHeaders.AUTHORIZATION, "token " + integration.getAccessToken())
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode responseJson = objectMapper.readTree(response);
-            return responseJson.has("id");
-
-        } catch (Exception e) {
-            return false;
-        }
+        return tokenIdentityService.github(integration.getAccessToken()).isValid();
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.assistivehub.integration.github.service;
+
+import com.assistivehub.entity.GitHubIntegration;
+import com.assistivehub.integration.common.service.TokenIdentityService;
+import com.assistivehub.integration.common.sync.IntegrationSyncHandler;
+import com.assistivehub.repository.GitHubIntegrationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 깃허브 연동 백그라운드 동기화
+ */
+@Service
+public class GitHubSyncService implements IntegrationSyncHandler {
+
+    @Autowired
+    private GitHubIntegrationRepository gitHubIntegrationRepository;
+
+    @Autowired
+    private TokenIdentityService tokenIdentityService;
+
+    @Value("${integration.sync.interval-minutes:60}")
+    private long intervalMinutes;
+
+    @Override
+    public String getProvider() {
+        return "github";
+    }
+
+    @Override
+    public String getTable() {
+        return "github_integrations";
+    }
+
+    @Override
+    public List<Long> findDueIntegrationIds(LocalDateTime now) {
+        return gitHubIntegrationRepository.findIntegrationsNeedingSync(now.minusMinutes(intervalMinutes)).stream()
+                .map(GitHubIntegration::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void sync(Long integrationId) {
+        GitHubIntegration integration = gitHubIntegrationRepository.findById(integrationId)
+                .orElseThrow(() -> new RuntimeException("GitHub 연동을 찾을 수 없습니다."));
+
+        // 토큰이 아직 유효한지 확인
+        tokenIdentityService.github(integration.getAccessToken()).require();
+    }
+}
@@ -0,0 +1,301 @@
+package com.assistivehub.integration.github.service;
+
+import com.assistivehub.entity.GitHubIntegration;
+import com.assistivehub.repository.GitHubIntegrationRepository;
+import com.assistivehub.util.EncryptedSettingsDocument;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 깃허브 웹훅 수신
+ *
+ * 연동별 웹훅 secret(복호화 결과를 캐시)으로 X-Hub-Signature-256을 확인하고, X-GitHub-Delivery를 기록해 같은 전송은 한 번만 받습니다.
+ * 요청 스레드는 기록 후 바로 202로 응답하고, push/pull_request/issues 이벤트는 작업 풀에서 활동 저장소에 반영합니다.
+ * 처리에 실패하거나 작업 큐가 가득 차면 전송 기록을 지워 GitHub에서 다시 보낸 전송을 받을 수 있게 합니다.
+ */
+@Service
+public class GitHubWebhookService {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubWebhookService.class);
+
+    private static final List<String> ACTIVITY_EVENTS = Arrays.asList("push", "pull_request", "issues");
+
+    // 서명이 맞지 않을 때 secret을 다시 읽는 최소 간격 (잘못된 요청이 몰려도 DB 조회가 늘지 않게)
+    private static final long MIN_SECRET_RELOAD_MS = 30000;
+
+    @Autowired
+    private GitHubIntegrationRepository gitHubIntegrationRepository;
+
+    @Autowired
+    private GitHubActivitySyncService activitySyncService;
+
+    @Autowired
+    private EncryptedSettingsDocument settingsDocument;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${github.webhooks.worker-threads:2}")
+    private int workerThreads;
+
+    @Value("${github.webhooks.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${github.webhooks.secret-cache-ttl-seconds:300}")
+    private long secretCacheTtlSeconds;
+
+    @Value("${github.webhooks.delivery-retention-days:7}")
+    private long deliveryRetentionDays;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ThreadPoolExecutor executor;
+
+    // 연동 ID -> 활성 웹훅 secret 목록
+    private LoadingCache<Long, Secrets> secrets;
+
+    private final LongAdder receivedCount = new LongAdder();
+    private final LongAdder invalidSignatureCount = new LongAdder();
+    private final LongAdder duplicateCount = new LongAdder();
+    private final LongAdder queueFullCount = new LongAdder();
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    /**
+     * 수신 결과
+     */
+    public enum Result {
+        ACCEPTED, DUPLICATE, INVALID_SIGNATURE, QUEUE_FULL
+    }
+
+    @PostConstruct
+    public void init() {
+        this.secrets = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(Duration.ofSeconds(secretCacheTtlSeconds))
+                .build(this::loadSecrets);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "github-webhook-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 서명 확인, 전송 기록, 작업 풀 배정 (처리는 기다리지 않음)
+     */
+    public Result receive(Long integrationId, String event, String deliveryId, String signature, byte[] body) {
+        if (deliveryId == null || deliveryId.trim().isEmpty()) {
+            throw new RuntimeException("X-GitHub-Delivery 헤더가 없습니다.");
+        }
+        receivedCount.increment();
+
+        if (!verifySignature(integrationId, signature, body)) {
+            invalidSignatureCount.increment();
+            return Result.INVALID_SIGNATURE;
+        }
+
+        int inserted = jdbcTemplate.update("INSERT IGNORE INTO github_webhook_deliveries"
+                + " (delivery_id, integration_id, event, received_at) VALUES (?, ?, ?, ?)",
+                deliveryId, integrationId, event, Timestamp.valueOf(LocalDateTime.now()));
+        if (inserted == 0) {
+            duplicateCount.increment();
+            return Result.DUPLICATE;
+        }
+
+        try {
+            executor.execute(() -> process(integrationId, event, deliveryId, body));
+        } catch (RejectedExecutionException e) {
+            queueFullCount.increment();
+            forgetDelivery(deliveryId);
+            return Result.QUEUE_FULL;
+        }
+        return Result.ACCEPTED;
+    }
+
+    /**
+     * 오래된 전송 기록 정리 (GitHub이 다시 보내는 기간보다 길게 보관)
+     */
+    @Scheduled(fixedDelayString = "${github.webhooks.cleanup-interval-ms:3600000}")
+    public void purgeOldDeliveries() {
+        try {
+            jdbcTemplate.update("DELETE FROM github_webhook_deliveries WHERE received_at < ?",
+                    Timestamp.valueOf(LocalDateTime.now().minusDays(deliveryRetentionDays)));
+        } catch (Exception e) {
+            log.warn("깃허브 웹훅 전송 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이벤트의 리포지토리 중 이 연동에 등록된 리포지토리에 활동 반영
+     */
+    private void process(Long integrationId, String event, String deliveryId, byte[] body) {
+        try {
+            if (ACTIVITY_EVENTS.contains(event)) {
+                JsonNode payload = objectMapper.readTree(body);
+                String fullName = payload.path("repository").path("full_name").asText("");
+
+                List<Long> repositoryIds = jdbcTemplate.queryForList("SELECT id FROM github_repositories"
+                        + " WHERE repository_full_name = ? AND integrated_service_id ="
+                        + " (SELECT integrated_service_id FROM github_integrations WHERE id = ?)",
+                        Long.class, fullName, integrationId);
+                for (Long repositoryId : repositoryIds) {
+                    activitySyncService.applyWebhookEvent(repositoryId, event, payload);
+                }
+            }
+
+            jdbcTemplate.update("UPDATE github_webhook_deliveries SET processed_at = ? WHERE delivery_id = ?",
+                    Timestamp.valueOf(LocalDateTime.now()), deliveryId);
+            processedCount.increment();
+
+        } catch (Exception e) {
+            failedCount.increment();
+            log.warn("깃허브 웹훅 처리 실패: #{} {} {} ({})", integrationId, event, deliveryId, e.getMessage());
+            forgetDelivery(deliveryId);
+        }
+    }
+
+    private void forgetDelivery(String deliveryId) {
+        try {
+            jdbcTemplate.update("DELETE FROM github_webhook_deliveries WHERE delivery_id = ?", deliveryId);
+        } catch (Exception e) {
+            log.warn("깃허브 웹훅 전송 기록 삭제 실패: {} ({})", deliveryId, e.getMessage());
+        }
+    }
+
+    /**
+     * X-Hub-Signature-256 확인 (sha256=HMAC-SHA256(secret, 본문))
+     * 캐시된 secret과 맞지 않으면 secret이 바뀌었을 수 있어 한 번 다시 읽어 확인합니다.
+     */
+    private boolean verifySignature(Long integrationId, String signature, byte[] body) {
+        if (signature == null || !signature.startsWith("sha256=")) {
+            return false;
+        }
+        Secrets cached = secrets.get(integrationId);
+        if (matches(cached.values, signature, body)) {
+            return true;
+        }
+        if (System.currentTimeMillis() - cached.loadedAtMillis < MIN_SECRET_RELOAD_MS) {
+            return false;
+        }
+        secrets.invalidate(integrationId);
+        return matches(secrets.get(integrationId).values, signature, body);
+    }
+
+    private boolean matches(List<String> candidates, String signature, byte[] body) {
+        byte[] expected = signature.getBytes(StandardCharsets.UTF_8);
+        for (String secret : candidates) {
+            if (MessageDigest.isEqual(sign(secret, body).getBytes(StandardCharsets.UTF_8), expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String sign(String secret, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            StringBuilder signature = new StringBuilder("sha256=");
+            for (byte b : mac.doFinal(body)) {
+                signature.append(String.format("%02x", b));
+            }
+            return signature.toString();
+        } catch (Exception e) {
+            throw new RuntimeException("웹훅 서명 계산 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 웹훅이 켜진 활성 연동의 활성 웹훅 secret (없으면 빈 목록)
+     */
+    private Secrets loadSecrets(Long integrationId) {
+        List<String> result = new ArrayList<>();
+        GitHubIntegration integration = gitHubIntegrationRepository.findWebhookEnabledById(integrationId)
+                .orElse(null);
+        if (integration == null) {
+            return new Secrets(result);
+        }
+
+        Map<String, String> legacyColumns = new LinkedHashMap<>();
+        legacyColumns.put(GitHubIntegration.SECTION_WEBHOOKS, integration.getEncryptedWebhooks());
+        Object webhooks = settingsDocument.currentSections(integration.getEncryptedSettings(), legacyColumns)
+                .get(GitHubIntegration.SECTION_WEBHOOKS);
+        if (webhooks instanceof JsonNode) {
+            for (JsonNode webhook : (JsonNode) webhooks) {
+                String secret = webhook.path("secret").asText("");
+                if (!secret.isEmpty() && webhook.path("active").asBoolean(true)) {
+                    result.add(secret);
+                }
+            }
+        }
+        return new Secrets(result);
+    }
+
+    /**
+     * 수신/처리 통계와 작업 풀 상태
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("workerThreads", workerThreads);
+        result.put("activeWorkers", executor.getActiveCount());
+        result.put("queueSize", executor.getQueue().size());
+        result.put("queueCapacity", queueCapacity);
+        result.put("receivedCount", receivedCount.sum());
+        result.put("invalidSignatureCount", invalidSignatureCount.sum());
+        result.put("duplicateCount", duplicateCount.sum()); // 이미 받은 X-GitHub-Delivery
+        result.put("queueFullCount", queueFullCount.sum());
+        result.put("processedCount", processedCount.sum());
+        result.put("failedCount", failedCount.sum());
+        return result;
+    }
+
+    private static class Secrets {
+        private final List<String> values;
+        private final long loadedAtMillis = System.currentTimeMillis();
+
+        private Secrets(List<String> values) {
+            this.values = values;
+        }
+    }
+}
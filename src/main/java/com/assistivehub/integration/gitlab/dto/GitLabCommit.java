@@ -0,0 +1,88 @@
+package com.assistivehub.integration.gitlab.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * GitLab API 커밋 목록 항목 (GET /projects/:id/repository/commits)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class GitLabCommit {
+
+    @JsonProperty("id")
+    private final String id;
+
+    @JsonProperty("short_id")
+    private final String shortId;
+
+    @JsonProperty("title")
+    private final String title;
+
+    @JsonProperty("message")
+    private final String message;
+
+    @JsonProperty("author_name")
+    private final String authorName;
+
+    @JsonProperty("author_email")
+    private final String authorEmail;
+
+    @JsonProperty("created_at")
+    private final String createdAt;
+
+    @JsonProperty("web_url")
+    private final String webUrl;
+
+    @JsonCreator
+    public GitLabCommit(
+            @JsonProperty("id") String id,
+            @JsonProperty("short_id") String shortId,
+            @JsonProperty("title") String title,
+            @JsonProperty("message") String message,
+            @JsonProperty("author_name") String authorName,
+            @JsonProperty("author_email") String authorEmail,
+            @JsonProperty("created_at") String createdAt,
+            @JsonProperty("web_url") String webUrl) {
+        this.id = id;
+        this.shortId = shortId;
+        this.title = title;
+        this.message = message;
+        this.authorName = authorName;
+        this.authorEmail = authorEmail;
+        this.createdAt = createdAt;
+        this.webUrl = webUrl;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getShortId() {
+        return shortId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public String getAuthorEmail() {
+        return authorEmail;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getWebUrl() {
+        return webUrl;
+    }
+}
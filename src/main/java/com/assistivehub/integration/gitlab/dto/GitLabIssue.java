@@ -0,0 +1,100 @@
+package com.assistivehub.integration.gitlab.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * GitLab API 이슈 목록 항목 (GET /projects/:id/issues)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class GitLabIssue {
+
+    @JsonProperty("id")
+    private final long id;
+
+    @JsonProperty("iid")
+    private final int iid;
+
+    @JsonProperty("title")
+    private final String title;
+
+    @JsonProperty("description")
+    private final String description;
+
+    @JsonProperty("state")
+    private final String state;
+
+    @JsonProperty("created_at")
+    private final String createdAt;
+
+    @JsonProperty("updated_at")
+    private final String updatedAt;
+
+    @JsonProperty("web_url")
+    private final String webUrl;
+
+    // 작성자 정보 (없으면 생략)
+    @JsonProperty("author")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final GitLabUserSummary author;
+
+    @JsonCreator
+    public GitLabIssue(
+            @JsonProperty("id") long id,
+            @JsonProperty("iid") int iid,
+            @JsonProperty("title") String title,
+            @JsonProperty("description") String description,
+            @JsonProperty("state") String state,
+            @JsonProperty("created_at") String createdAt,
+            @JsonProperty("updated_at") String updatedAt,
+            @JsonProperty("web_url") String webUrl,
+            @JsonProperty("author") GitLabUserSummary author) {
+        this.id = id;
+        this.iid = iid;
+        this.title = title;
+        this.description = description != null ? description : "";
+        this.state = state;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.webUrl = webUrl;
+        this.author = author;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public int getIid() {
+        return iid;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public String getWebUrl() {
+        return webUrl;
+    }
+
+    public GitLabUserSummary getAuthor() {
+        return author;
+    }
+}
@@ -0,0 +1,118 @@
+package com.assistivehub.integration.gitlab.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * GitLab API 머지 리퀘스트 목록 항목 (GET /projects/:id/merge_requests)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class GitLabMergeRequest {
+
+    @JsonProperty("id")
+    private final long id;
+
+    @JsonProperty("iid")
+    private final int iid;
+
+    @JsonProperty("title")
+    private final String title;
+
+    @JsonProperty("description")
+    private final String description;
+
+    @JsonProperty("state")
+    private final String state;
+
+    @JsonProperty("created_at")
+    private final String createdAt;
+
+    @JsonProperty("updated_at")
+    private final String updatedAt;
+
+    @JsonProperty("web_url")
+    private final String webUrl;
+
+    @JsonProperty("source_branch")
+    private final String sourceBranch;
+
+    @JsonProperty("target_branch")
+    private final String targetBranch;
+
+    // 작성자 정보 (없으면 생략)
+    @JsonProperty("author")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final GitLabUserSummary author;
+
+    @JsonCreator
+    public GitLabMergeRequest(
+            @JsonProperty("id") long id,
+            @JsonProperty("iid") int iid,
+            @JsonProperty("title") String title,
+            @JsonProperty("description") String description,
+            @JsonProperty("state") String state,
+            @JsonProperty("created_at") String createdAt,
+            @JsonProperty("updated_at") String updatedAt,
+            @JsonProperty("web_url") String webUrl,
+            @JsonProperty("source_branch") String sourceBranch,
+            @JsonProperty("target_branch") String targetBranch,
+            @JsonProperty("author") GitLabUserSummary author) {
+        this.id = id;
+        this.iid = iid;
+        this.title = title;
+        this.description = description != null ? description : "";
+        this.state = state;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.webUrl = webUrl;
+        this.sourceBranch = sourceBranch;
+        this.targetBranch = targetBranch;
+        this.author = author;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public int getIid() {
+        return iid;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public String getWebUrl() {
+        return webUrl;
+    }
+
+    public String getSourceBranch() {
+        return sourceBranch;
+    }
+
+    public String getTargetBranch() {
+        return targetBranch;
+    }
+
+    public GitLabUserSummary getAuthor() {
+        return author;
+    }
+}
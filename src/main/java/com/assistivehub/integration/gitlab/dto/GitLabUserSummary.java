@@ -0,0 +1,43 @@
+package com.assistivehub.integration.gitlab.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * GitLab 이슈/머지 리퀘스트 작성자 정보
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class GitLabUserSummary {
+
+    @JsonProperty("name")
+    private final String name;
+
+    @JsonProperty("username")
+    private final String username;
+
+    @JsonProperty("avatar_url")
+    private final String avatarUrl;
+
+    @JsonCreator
+    public GitLabUserSummary(
+            @JsonProperty("name") String name,
+            @JsonProperty("username") String username,
+            @JsonProperty("avatar_url") String avatarUrl) {
+        this.name = name;
+        this.username = username;
+        this.avatarUrl = avatarUrl != null ? avatarUrl : "";
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getAvatarUrl() {
+        return avatarUrl;
+    }
+}
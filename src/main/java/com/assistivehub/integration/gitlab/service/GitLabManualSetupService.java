@@ -6,17 +6,20 @@ import com.assistivehub.entity.GitLabIntegration;
 import com.assistivehub.entity.User;
 import com.assistivehub.repository.IntegratedServiceRepository;
 import com.assistivehub.repository.GitLabIntegrationRepository;
+import com.assistivehub.util.EncryptedSettingsDocument;
+import com.assistivehub.integration.common.service.TokenIdentityService;
 import com.assistivehub.util.EncryptionUtil;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Objects;
 
 @Service
 public class GitLabManualSetupService {
@@ -30,6 +33,12 @@ public class GitLabManualSetupService {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
+    @Autowired
+    private TokenIdentityService tokenIdentityService;
+
+    @Autowired
+    private EncryptedSettingsDocument settingsDocument;
+
     private final ObjectMapper objectMapper;
 
     public GitLabManualSetupService() {
@@ -40,24 +49,7 @@ public class GitLabManualSetupService {
      * 깃랩 토큰 유효성 검증
      */
     public boolean validateGitLabToken(String token, String gitlabUrl) {
-        try {
-            WebClient webClient = WebClient.builder()
-                    .baseUrl(gitlabUrl + "/api/v4")
-                    .build();
-
-            String response = webClient.get()
-                    .uri("/user")
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode responseJson = objectMapper.readTree(response);
-            return responseJson.has("id");
-
-        } catch (Exception e) {
-            return false;
-        }
+        return tokenIdentityService.gitlab(token, gitlabUrl).isValid();
     }
 
     /**
@@ -65,18 +57,7 @@ public class GitLabManualSetupService {
      */
     public GitLabUserInfo getGitLabUserInfo(String token, String gitlabUrl) {
         try {
-            WebClient webClient = WebClient.builder()
-                    .baseUrl(gitlabUrl + "/api/v4")
-                    .build();
-
-            String response = webClient.get()
-                    .uri("/user")
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode responseJson = objectMapper.readTree(response);
+            JsonNode responseJson = tokenIdentityService.gitlab(token, gitlabUrl).require();
 
             GitLabUserInfo userInfo = new GitLabUserInfo();
             userInfo.setGitlabUserId(responseJson.get("id").asText());
@@ -123,6 +104,12 @@ public class GitLabManualSetupService {
     private GitLabIntegration updateExistingManualIntegration(GitLabIntegration integration,
             GitLabManualSetupRequest request, GitLabUserInfo tokenInfo) {
 
+        // 교체되는 이전 토큰(또는 GitLab 주소)의 신원 캐시 제거
+        if (!request.getAccessToken().equals(integration.getAccessToken())
+                || !Objects.equals(request.getGitlabUrl(), integration.getGitlabUrl())) {
+            tokenIdentityService.invalidateGitLab(integration.getAccessToken(), integration.getGitlabUrl());
+        }
+
         // 기본 정보 업데이트
         integration.setUsername(tokenInfo.getUsername());
         integration.setAccessToken(request.getAccessToken());
@@ -133,19 +120,7 @@ public class GitLabManualSetupService {
         integration.setGitlabUrl(request.getGitlabUrl());
 
         // 암호화된 설정 정보 업데이트
-        if (request.getProjects() != null) {
-            integration.setEncryptedProjects(encryptProjects(request.getProjects()));
-        }
-        if (request.getWebhooks() != null) {
-            integration.setEncryptedWebhooks(encryptWebhooks(request.getWebhooks()));
-        }
-        if (request.getNotificationSettings() != null) {
-            integration
-                    .setEncryptedNotificationSettings(encryptNotificationSettings(request.getNotificationSettings()));
-        }
-        if (request.getSyncSettings() != null) {
-            integration.setEncryptedSyncSettings(encryptSyncSettings(request.getSyncSettings()));
-        }
+        applyEncryptedSettings(integration, request);
 
         // 개별 설정 업데이트
         integration.setAutoSyncEnabled(request.getAutoSyncEnabled());
@@ -189,19 +164,7 @@ public class GitLabManualSetupService {
         integration.setGitlabUrl(request.getGitlabUrl());
 
         // 암호화된 설정 정보 저장
-        if (request.getProjects() != null) {
-            integration.setEncryptedProjects(encryptProjects(request.getProjects()));
-        }
-        if (request.getWebhooks() != null) {
-            integration.setEncryptedWebhooks(encryptWebhooks(request.getWebhooks()));
-        }
-        if (request.getNotificationSettings() != null) {
-            integration
-                    .setEncryptedNotificationSettings(encryptNotificationSettings(request.getNotificationSettings()));
-        }
-        if (request.getSyncSettings() != null) {
-            integration.setEncryptedSyncSettings(encryptSyncSettings(request.getSyncSettings()));
-        }
+        applyEncryptedSettings(integration, request);
 
         // 개별 설정
         integration.setAutoSyncEnabled(request.getAutoSyncEnabled());
@@ -216,6 +179,70 @@ public class GitLabManualSetupService {
         return gitLabIntegrationRepository.save(integration);
     }
 
+    /**
+     * 요청의 설정을 암호화하여 저장
+     * 설정 문서를 사용하면 하나의 문서로 합치고, 아니면 개별 컬럼에 저장합니다.
+     */
+    private void applyEncryptedSettings(GitLabIntegration integration, GitLabManualSetupRequest request) {
+        if (!settingsDocument.isEnabled() && integration.getEncryptedSettings() == null) {
+            if (request.getProjects() != null) {
+                integration.setEncryptedProjects(encryptProjects(request.getProjects()));
+            }
+            if (request.getWebhooks() != null) {
+                integration.setEncryptedWebhooks(encryptWebhooks(request.getWebhooks()));
+            }
+            if (request.getNotificationSettings() != null) {
+                integration.setEncryptedNotificationSettings(
+                        encryptNotificationSettings(request.getNotificationSettings()));
+            }
+            if (request.getSyncSettings() != null) {
+                integration.setEncryptedSyncSettings(encryptSyncSettings(request.getSyncSettings()));
+            }
+            return;
+        }
+
+        // 요청에 없는 섹션은 기존 값 유지
+        Map<String, String> legacyColumns = new LinkedHashMap<>();
+        legacyColumns.put(GitLabIntegration.SECTION_PROJECTS, integration.getEncryptedProjects());
+        legacyColumns.put(GitLabIntegration.SECTION_WEBHOOKS, integration.getEncryptedWebhooks());
+        legacyColumns.put(GitLabIntegration.SECTION_NOTIFICATION_SETTINGS, integration.getEncryptedNotificationSettings());
+        legacyColumns.put(GitLabIntegration.SECTION_SYNC_SETTINGS, integration.getEncryptedSyncSettings());
+
+        Map<String, Object> sections = settingsDocument.currentSections(integration.getEncryptedSettings(),
+                legacyColumns);
+        if (request.getProjects() != null) {
+            sections.put(GitLabIntegration.SECTION_PROJECTS, request.getProjects());
+        }
+        if (request.getWebhooks() != null) {
+            sections.put(GitLabIntegration.SECTION_WEBHOOKS, request.getWebhooks());
+        }
+        if (request.getNotificationSettings() != null) {
+            sections.put(GitLabIntegration.SECTION_NOTIFICATION_SETTINGS, request.getNotificationSettings());
+        }
+        if (request.getSyncSettings() != null) {
+            sections.put(GitLabIntegration.SECTION_SYNC_SETTINGS, request.getSyncSettings());
+        }
+
+        if (settingsDocument.isEnabled()) {
+            integration.setEncryptedSettings(settingsDocument.seal(sections));
+            integration.setEncryptedProjects(null);
+            integration.setEncryptedWebhooks(null);
+            integration.setEncryptedNotificationSettings(null);
+            integration.setEncryptedSyncSettings(null);
+        } else {
+            // 문서 사용을 끈 경우 개별 컬럼으로 되돌림
+            integration.setEncryptedProjects(
+                    settingsDocument.sealSection(sections.get(GitLabIntegration.SECTION_PROJECTS)));
+            integration.setEncryptedWebhooks(
+                    settingsDocument.sealSection(sections.get(GitLabIntegration.SECTION_WEBHOOKS)));
+            integration.setEncryptedNotificationSettings(
+                    settingsDocument.sealSection(sections.get(GitLabIntegration.SECTION_NOTIFICATION_SETTINGS)));
+            integration.setEncryptedSyncSettings(
+                    settingsDocument.sealSection(sections.get(GitLabIntegration.SECTION_SYNC_SETTINGS)));
+            integration.setEncryptedSettings(null);
+        }
+    }
+
     // 암호화 헬퍼 메서드들
     private String encryptProjects(Object projects) {
         try {
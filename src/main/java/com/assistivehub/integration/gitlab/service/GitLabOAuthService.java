@@ -5,6 +5,8 @@ import com.assistivehub.entity.GitLabIntegration;
 import com.assistivehub.entity.User;
 import com.assistivehub.repository.IntegratedServiceRepository;
 import com.assistivehub.repository.GitLabIntegrationRepository;
+import com.assistivehub.integration.common.client.UpstreamClientRegistry;
+import com.assistivehub.integration.common.service.TokenIdentityService;
 import com.assistivehub.util.EncryptionUtil;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -46,6 +48,12 @@ public class GitLabOAuthService {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
+    @Autowired
+    private UpstreamClientRegistry upstreamClients;
+
+    @Autowired
+    private TokenIdentityService tokenIdentityService;
+
     private final ObjectMapper objectMapper;
 
     public GitLabOAuthService() {
@@ -72,9 +80,7 @@ public class GitLabOAuthService {
     @Transactional
     public GitLabIntegration exchangeCodeForToken(User user, String code, String redirectUri) {
         try {
-            WebClient webClient = WebClient.builder()
-                    .baseUrl(gitlabUrl)
-                    .build();
+            WebClient webClient = upstreamClients.client(gitlabUrl);
 
             // 1. 액세스 토큰 요청
             Map<String, String> tokenRequest = new HashMap<>();
@@ -102,9 +108,7 @@ public class GitLabOAuthService {
             String scope = tokenJson.has("scope") ? tokenJson.get("scope").asText() : "";
 
             // 2. 사용자 정보 조회
-            WebClient apiClient = WebClient.builder()
-                    .baseUrl(gitlabUrl + "/api/v4")
-                    .build();
+            WebClient apiClient = upstreamClients.client(gitlabUrl + "/api/v4");
 
             String userInfoResponse = apiClient.get()
                     .uri("/user")
@@ -227,6 +231,7 @@ public class GitLabOAuthService {
             // 연동 비활성화
             integration.getIntegratedService().setIsActive(false);
             gitLabIntegrationRepository.save(integration);
+            tokenIdentityService.invalidateGitLab(integration.getAccessToken(), integration.getGitlabUrl());
 
         } catch (Exception e) {
             throw new RuntimeException("깃랩 연동 해제 실패: " + e.getMessage(), e);
@@ -237,24 +242,7 @@ public class GitLabOAuthService {
      * 연동 유효성 검증
      */
     public boolean validateIntegration(GitLabIntegration integration) {
-        try {
-            WebClient apiClient = WebClient.builder()
-                    .baseUrl(integration.getGitlabUrl() + "/api/v4")
-                    .build();
-
-            String response = apiClient.get()
-                    .uri("/user")
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + integration.getAccessToken())
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode responseJson = objectMapper.readTree(response);
-            return responseJson.has("id");
-
-        } catch (Exception e) {
-            return false;
-        }
+        return tokenIdentityService.gitlab(integration.getAccessToken(), integration.getGitlabUrl()).isValid();
     }
 
     /**
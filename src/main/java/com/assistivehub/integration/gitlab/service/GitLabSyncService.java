@@ -0,0 +1,392 @@
+package com.assistivehub.integration.gitlab.service;
+
+import com.assistivehub.entity.GitLabActivity;
+import com.assistivehub.entity.GitLabIntegration;
+import com.assistivehub.integration.common.client.UpstreamSyncClient;
+import com.assistivehub.integration.common.sync.IntegrationSyncHandler;
+import com.assistivehub.repository.GitLabIntegrationRepository;
+import com.assistivehub.util.EncryptedSettingsDocument;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 깃랩 연동 백그라운드 증분 동기화 (커밋, MR, 이슈, 파이프라인 실행)
+ *
+ * 연동 설정의 프로젝트마다 항목 종류별로 저장해 둔 updated_after(커밋은 since) 위치와 ETag 이후의 항목만 가져오고,
+ * 가져온 활동, 새 위치, last_sync_at을 한 트랜잭션에서 JDBC 배치로 저장합니다.
+ * 같은 GitLab 주소(gitlabUrl)의 연동은 서버마다 max-concurrent-per-instance 개까지만 동시에 동기화합니다.
+ * 삭제/이동되었거나 권한이 없어진 프로젝트(404/403)는 그 항목만 건너뛰고 나머지 프로젝트는 계속 동기화합니다.
+ */
+@Service
+public class GitLabSyncService implements IntegrationSyncHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(GitLabSyncService.class);
+
+    private static final String UPSERT_ACTIVITY_SQL = "INSERT INTO gitlab_activities"
+            + " (integration_id, project_path, activity_type, external_id, title, author, url, state, occurred_at,"
+            + " created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE title = VALUES(title), state = VALUES(state), updated_at = VALUES(updated_at)";
+
+    private static final String UPSERT_CURSOR_SQL = "INSERT INTO gitlab_sync_cursors"
+            + " (integration_id, project_path, resource_type, cursor_value, etag, pending_url, pending_value,"
+            + " updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE cursor_value = VALUES(cursor_value), etag = VALUES(etag),"
+            + " pending_url = VALUES(pending_url), pending_value = VALUES(pending_value),"
+            + " updated_at = VALUES(updated_at)";
+
+    @Autowired
+    private GitLabIntegrationRepository gitLabIntegrationRepository;
+
+    @Autowired
+    private EncryptedSettingsDocument settingsDocument;
+
+    @Autowired
+    private UpstreamSyncClient syncClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${integration.sync.interval-minutes:60}")
+    private long intervalMinutes;
+
+    @Value("${gitlab.sync.max-concurrent-per-instance:2}")
+    private int maxConcurrentPerInstance;
+
+    @Value("${gitlab.sync.max-pages:10}")
+    private int maxPages;
+
+    @Value("${gitlab.sync.initial-lookback-days:30}")
+    private long initialLookbackDays;
+
+    @Value("${gitlab.sync.batch-size:500}")
+    private int batchSize;
+
+    @Autowired
+    public GitLabSyncService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String getProvider() {
+        return "gitlab";
+    }
+
+    @Override
+    public String getTable() {
+        return "gitlab_integrations";
+    }
+
+    @Override
+    public List<Long> findDueIntegrationIds(LocalDateTime now) {
+        return gitLabIntegrationRepository.findIntegrationsNeedingSync(now.minusMinutes(intervalMinutes)).stream()
+                .map(GitLabIntegration::getId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 같은 GitLab 인스턴스끼리 동시 실행 수 제한
+     */
+    @Override
+    public String getConcurrencyKey(Long integrationId) {
+        String gitlabUrl = jdbcTemplate.queryForObject("SELECT gitlab_url FROM gitlab_integrations WHERE id = ?",
+                String.class, integrationId);
+        return gitlabUrl == null ? null : gitlabUrl.toLowerCase();
+    }
+
+    @Override
+    public int getMaxConcurrentPerKey() {
+        return maxConcurrentPerInstance;
+    }
+
+    @Override
+    public void sync(Long integrationId) {
+        GitLabIntegration integration = gitLabIntegrationRepository.findById(integrationId)
+                .orElseThrow(() -> new RuntimeException("GitLab 연동을 찾을 수 없습니다."));
+
+        String apiUrl = integration.getGitlabUrl() + "/api/v4";
+        String token = integration.getAccessToken();
+        Map<String, Cursor> cursors = loadCursors(integrationId);
+        SyncResult result = new SyncResult();
+
+        for (String projectPath : syncProjectPaths(integration)) {
+            if (Boolean.TRUE.equals(integration.getSyncCommits())) {
+                syncResource(apiUrl, token, projectPath, GitLabActivity.ActivityType.COMMIT, "/repository/commits",
+                        "since", cursors, result);
+            }
+            if (Boolean.TRUE.equals(integration.getSyncMergeRequests())) {
+                syncResource(apiUrl, token, projectPath, GitLabActivity.ActivityType.MERGE_REQUEST,
+                        "/merge_requests", "updated_after", cursors, result);
+            }
+            if (Boolean.TRUE.equals(integration.getSyncIssues())) {
+                syncResource(apiUrl, token, projectPath, GitLabActivity.ActivityType.ISSUE, "/issues",
+                        "updated_after", cursors, result);
+            }
+            if (Boolean.TRUE.equals(integration.getSyncPipelines())) {
+                syncResource(apiUrl, token, projectPath, GitLabActivity.ActivityType.PIPELINE, "/pipelines",
+                        "updated_after", cursors, result);
+            }
+        }
+
+        save(integrationId, result);
+    }
+
+    /**
+     * 연동 설정의 프로젝트 중 동기화가 켜진 프로젝트 경로 (namespace/project)
+     */
+    private List<String> syncProjectPaths(GitLabIntegration integration) {
+        Map<String, String> legacyColumns = new LinkedHashMap<>();
+        legacyColumns.put(GitLabIntegration.SECTION_PROJECTS, integration.getEncryptedProjects());
+        Object projects = settingsDocument.currentSections(integration.getEncryptedSettings(), legacyColumns)
+                .get(GitLabIntegration.SECTION_PROJECTS);
+
+        List<String> paths = new ArrayList<>();
+        if (!(projects instanceof JsonNode)) {
+            return paths;
+        }
+        for (JsonNode project : (JsonNode) projects) {
+            if (!project.path("syncEnabled").asBoolean(true)) {
+                continue;
+            }
+            String path = project.path("fullName").asText("");
+            if (path.isEmpty() && project.hasNonNull("namespace")) {
+                path = project.path("namespace").asText() + "/" + project.path("name").asText();
+            }
+            if (!path.isEmpty()) {
+                paths.add(path);
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * 한 프로젝트의 한 항목 종류를 저장된 위치 이후만 조회
+     * 나머지는 수정 시각 오래된 순(updated_after)이라 페이지 상한에 걸려도 본 곳까지 위치를 옮기면 다음 동기화가 이어서 읽습니다.
+     * 커밋은 최신순(since)이라 페이지 상한에 걸리면 위치는 그대로 두고 남은 페이지 URL을 저장해 범위를 다 읽은 뒤에 옮깁니다.
+     */
+    private void syncResource(String apiUrl, String token, String projectPath, GitLabActivity.ActivityType type,
+            String resourcePath, String sinceParam, Map<String, Cursor> cursors, SyncResult result) {
+        String cursorKey = projectPath + " " + type.name();
+        Cursor cursor = cursors.get(cursorKey);
+        String since = cursor != null && cursor.value != null ? cursor.value : initialSince();
+        boolean newestFirst = type == GitLabActivity.ActivityType.COMMIT;
+        boolean resuming = newestFirst && cursor != null && cursor.pendingUrl != null;
+
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(apiUrl)
+                .path("/projects/{projectPath}" + resourcePath)
+                .queryParam(sinceParam, "{since}")
+                .queryParam("per_page", 100);
+        if (type != GitLabActivity.ActivityType.COMMIT) {
+            builder.queryParam("order_by", "updated_at").queryParam("sort", "asc");
+        }
+        if (type == GitLabActivity.ActivityType.MERGE_REQUEST || type == GitLabActivity.ActivityType.ISSUE) {
+            builder.queryParam("scope", "all");
+        }
+        // 프로젝트 경로의 '/'까지 인코딩 (group%2Fproject)
+        URI uri = resuming ? URI.create(cursor.pendingUrl)
+                : builder.encode().buildAndExpand(projectPath, since).toUri();
+
+        String storedEtag = cursor != null && !resuming ? cursor.etag : null;
+        String firstEtag = storedEtag;
+        Instant newest = Instant.parse(resuming && cursor.pendingValue != null ? cursor.pendingValue : since);
+
+        List<ActivityRow> activities = new ArrayList<>();
+        try {
+            for (int page = 0; page < maxPages && uri != null; page++) {
+                UpstreamSyncClient.Page response = syncClient.get(apiUrl, uri,
+                        headers -> headers.set("Private-Token", token), page == 0 ? storedEtag : null);
+                if (response.isNotModified()) {
+                    uri = null;
+                    break;
+                }
+                if (page == 0 && !resuming) {
+                    firstEtag = response.getEtag();
+                }
+
+                for (JsonNode item : response.getBody()) {
+                    activities.add(toActivity(projectPath, type, item));
+                    Instant updatedAt = parseTime(type == GitLabActivity.ActivityType.COMMIT
+                            ? item.path("committed_date").asText(null)
+                            : item.path("updated_at").asText(null));
+                    if (updatedAt != null && updatedAt.isAfter(newest)) {
+                        newest = updatedAt;
+                    }
+                }
+                uri = response.getNextUrl() != null ? URI.create(response.getNextUrl()) : null;
+            }
+        } catch (WebClientResponseException e) {
+            if (!UpstreamSyncClient.isNotAccessible(e)) {
+                throw e;
+            }
+            // 이 프로젝트/항목만 건너뜀 (위치는 그대로)
+            log.warn("깃랩 프로젝트 조회 건너뜀: {} {} (status={})", projectPath, type, e.getRawStatusCode());
+            return;
+        }
+        result.activities.addAll(activities);
+
+        if (newestFirst && uri != null) {
+            // 페이지 상한에 걸림: 같은 since로 남은 페이지를 다음 동기화에서 이어서 읽음
+            result.cursors.put(cursorKey, new Cursor(projectPath, type.name(), since, null, uri.toString(),
+                    newest.toString()));
+        } else {
+            result.cursors.put(cursorKey, new Cursor(projectPath, type.name(), newest.toString(), firstEtag, null,
+                    null));
+        }
+    }
+
+    private ActivityRow toActivity(String projectPath, GitLabActivity.ActivityType type, JsonNode item) {
+        switch (type) {
+            case COMMIT:
+                return new ActivityRow(projectPath, type, item.path("id").asText(), item.path("title").asText(null),
+                        item.path("author_name").asText(null), item.path("web_url").asText(null), null,
+                        item.path("committed_date").asText(null));
+            case PIPELINE:
+                return new ActivityRow(projectPath, type, item.path("id").asText(), item.path("ref").asText(null),
+                        item.path("user").path("username").asText(null), item.path("web_url").asText(null),
+                        item.path("status").asText(null), item.path("created_at").asText(null));
+            default:
+                return new ActivityRow(projectPath, type, item.path("iid").asText(), item.path("title").asText(null),
+                        item.path("author").path("username").asText(null), item.path("web_url").asText(null),
+                        item.path("state").asText(null), item.path("created_at").asText(null));
+        }
+    }
+
+    private Map<String, Cursor> loadCursors(Long integrationId) {
+        Map<String, Cursor> cursors = new HashMap<>();
+        jdbcTemplate.query("SELECT project_path, resource_type, cursor_value, etag, pending_url, pending_value"
+                + " FROM gitlab_sync_cursors WHERE integration_id = ?", rs -> {
+                    Cursor cursor = new Cursor(rs.getString("project_path"), rs.getString("resource_type"),
+                            rs.getString("cursor_value"), rs.getString("etag"), rs.getString("pending_url"),
+                            rs.getString("pending_value"));
+                    cursors.put(cursor.projectPath + " " + cursor.resourceType, cursor);
+                }, integrationId);
+        return cursors;
+    }
+
+    /**
+     * 활동 upsert, 위치 갱신, last_sync_at 기록을 한 트랜잭션으로 저장
+     */
+    private void save(Long integrationId, SyncResult result) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.execute(status -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (ActivityRow activity : result.activities) {
+                rows.add(new Object[] { integrationId, activity.projectPath, activity.type.name(), activity.externalId,
+                        truncate(activity.title, 500), activity.author, truncate(activity.url, 500), activity.state,
+                        toTimestamp(activity.occurredAt), now, now });
+                if (rows.size() >= batchSize) {
+                    jdbcTemplate.batchUpdate(UPSERT_ACTIVITY_SQL, rows);
+                    rows.clear();
+                }
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_ACTIVITY_SQL, rows);
+            }
+
+            List<Object[]> cursorRows = new ArrayList<>();
+            for (Cursor cursor : result.cursors.values()) {
+                cursorRows.add(new Object[] { integrationId, cursor.projectPath, cursor.resourceType, cursor.value,
+                        cursor.etag, cursor.pendingUrl, cursor.pendingValue, now });
+            }
+            if (!cursorRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_CURSOR_SQL, cursorRows);
+            }
+
+            jdbcTemplate.update("UPDATE gitlab_integrations SET last_sync_at = ? WHERE id = ?", now, integrationId);
+            return null;
+        });
+    }
+
+    private String initialSince() {
+        return Instant.now().truncatedTo(ChronoUnit.SECONDS).minus(initialLookbackDays, ChronoUnit.DAYS).toString();
+    }
+
+    // GitLab은 2024-01-01T00:00:00.000Z 또는 +09:00 같은 오프셋 형식을 함께 사용
+    private static Instant parseTime(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return OffsetDateTime.parse(value).toInstant();
+    }
+
+    private static Timestamp toTimestamp(String value) {
+        Instant instant = parseTime(value);
+        return instant == null ? null : Timestamp.valueOf(LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static class Cursor {
+        private final String projectPath;
+        private final String resourceType;
+        private final String value;
+        private final String etag;
+        private final String pendingUrl;
+        private final String pendingValue;
+
+        private Cursor(String projectPath, String resourceType, String value, String etag, String pendingUrl,
+                String pendingValue) {
+            this.projectPath = projectPath;
+            this.resourceType = resourceType;
+            this.value = value;
+            this.etag = etag;
+            this.pendingUrl = pendingUrl;
+            this.pendingValue = pendingValue;
+        }
+    }
+
+    private static class ActivityRow {
+        private final String projectPath;
+        private final GitLabActivity.ActivityType type;
+        private final String externalId;
+        private final String title;
+        private final String author;
+        private final String url;
+        private final String state;
+        private final String occurredAt;
+
+        private ActivityRow(String projectPath, GitLabActivity.ActivityType type, String externalId, String title,
+                String author, String url, String state, String occurredAt) {
+            this.projectPath = projectPath;
+            this.type = type;
+            this.externalId = externalId;
+            this.title = title;
+            this.author = author;
+            this.url = url;
+            this.state = state;
+            this.occurredAt = occurredAt;
+        }
+    }
+
+    private static class SyncResult {
+        private final List<ActivityRow> activities = new ArrayList<>();
+        private final Map<String, Cursor> cursors = new HashMap<>();
+    }
+}
@@ -3,9 +3,12 @@ package com.assistivehub.integration.notion.dto;
 import com.assistivehub.entity.NotionIntegration;
 import com.assistivehub.integration.notion.dto.NotionManualSetupRequest;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class NotionIntegrationResponse {
 
@@ -22,11 +25,19 @@ public class NotionIntegrationResponse {
     private Boolean isActive;
 
     // 복호화된 설정 정보들
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<NotionManualSetupRequest.DatabaseInfo> databases;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<NotionManualSetupRequest.PageInfo> pages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<NotionManualSetupRequest.TemplateInfo> templates;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private NotionManualSetupRequest.SyncSettings syncSettings;
 
+    // 설정 필드를 처음 조회할 때 한 번만 복호화
+    @JsonIgnore
+    private Supplier<Settings> settingsLoader;
+
     // 개별 설정들
     private Boolean autoSyncEnabled;
     private Integer syncIntervalMinutes;
@@ -182,34 +193,42 @@ public class NotionIntegrationResponse {
     }
 
     public List<NotionManualSetupRequest.DatabaseInfo> getDatabases() {
+        loadSettings();
         return databases;
     }
 
     public void setDatabases(List<NotionManualSetupRequest.DatabaseInfo> databases) {
+        loadSettings();
         this.databases = databases;
     }
 
     public List<NotionManualSetupRequest.PageInfo> getPages() {
+        loadSettings();
         return pages;
     }
 
     public void setPages(List<NotionManualSetupRequest.PageInfo> pages) {
+        loadSettings();
         this.pages = pages;
     }
 
     public List<NotionManualSetupRequest.TemplateInfo> getTemplates() {
+        loadSettings();
         return templates;
     }
 
     public void setTemplates(List<NotionManualSetupRequest.TemplateInfo> templates) {
+        loadSettings();
         this.templates = templates;
     }
 
     public NotionManualSetupRequest.SyncSettings getSyncSettings() {
+        loadSettings();
         return syncSettings;
     }
 
     public void setSyncSettings(NotionManualSetupRequest.SyncSettings syncSettings) {
+        loadSettings();
         this.syncSettings = syncSettings;
     }
 
@@ -268,4 +287,71 @@ public class NotionIntegrationResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
\ No newline at end of file
+
+    /**
+     * 설정 필드 조회 시점에 복호화하도록 로더 지정
+     */
+    @JsonIgnore
+    public void setSettingsLoader(Supplier<Settings> settingsLoader) {
+        this.settingsLoader = settingsLoader;
+    }
+
+    /**
+     * 설정 필드를 응답에서 제외 (복호화하지 않음)
+     */
+    public void omitSettings() {
+        this.settingsLoader = null;
+    }
+
+    private void loadSettings() {
+        Supplier<Settings> loader = this.settingsLoader;
+        if (loader == null) {
+            return;
+        }
+        this.settingsLoader = null;
+
+        Settings settings = loader.get();
+        if (settings != null) {
+            this.databases = settings.getDatabases();
+            this.pages = settings.getPages();
+            this.templates = settings.getTemplates();
+            this.syncSettings = settings.getSyncSettings();
+        }
+    }
+
+    /**
+     * 복호화된 설정 묶음
+     */
+    public static class Settings {
+        private final List<NotionManualSetupRequest.DatabaseInfo> databases;
+        private final List<NotionManualSetupRequest.PageInfo> pages;
+        private final List<NotionManualSetupRequest.TemplateInfo> templates;
+        private final NotionManualSetupRequest.SyncSettings syncSettings;
+
+        public Settings(List<NotionManualSetupRequest.DatabaseInfo> databases,
+                List<NotionManualSetupRequest.PageInfo> pages,
+                List<NotionManualSetupRequest.TemplateInfo> templates,
+                NotionManualSetupRequest.SyncSettings syncSettings) {
+            this.databases = databases;
+            this.pages = pages;
+            this.templates = templates;
+            this.syncSettings = syncSettings;
+        }
+
+        public List<NotionManualSetupRequest.DatabaseInfo> getDatabases() {
+            return databases;
+        }
+
+        public List<NotionManualSetupRequest.PageInfo> getPages() {
+            return pages;
+        }
+
+        public List<NotionManualSetupRequest.TemplateInfo> getTemplates() {
+            return templates;
+        }
+
+        public NotionManualSetupRequest.SyncSettings getSyncSettings() {
+            return syncSettings;
+        }
+    }
+}
@@ -7,19 +7,23 @@ import com.assistivehub.entity.NotionIntegration;
 import com.assistivehub.entity.User;
 import com.assistivehub.repository.IntegratedServiceRepository;
 import com.assistivehub.repository.NotionIntegrationRepository;
+import com.assistivehub.util.EncryptedSettingsDocument;
+import com.assistivehub.integration.common.service.TokenIdentityService;
 import com.assistivehub.util.EncryptionUtil;
+import com.assistivehub.util.IntegrationSettingsCache;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 public class NotionManualSetupService {
@@ -33,13 +37,18 @@ public class NotionManualSetupService {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
-    private final WebClient webClient;
+    @Autowired
+    private TokenIdentityService tokenIdentityService;
+
+    @Autowired
+    private IntegrationSettingsCache settingsCache;
+
+    @Autowired
+    private EncryptedSettingsDocument settingsDocument;
+
     private final ObjectMapper objectMapper;
 
     public NotionManualSetupService() {
-        this.webClient = WebClient.builder()
-                .baseUrl("https://api.notion.com/v1")
-                .build();
         this.objectMapper = new ObjectMapper();
     }
 
@@ -47,21 +56,7 @@ public class NotionManualSetupService {
      * 노션 토큰 유효성 검증
      */
     public boolean validateNotionToken(String token) {
-        try {
-            String response = webClient.get()
-                    .uri("/users/me")
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .header("Notion-Version", "2022-06-28")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode responseJson = objectMapper.readTree(response);
-            return responseJson.has("id");
-
-        } catch (Exception e) {
-            return false;
-        }
+        return tokenIdentityService.notion(token).isValid();
     }
 
     /**
@@ -69,15 +64,7 @@ public class NotionManualSetupService {
      */
     public NotionUserInfo getNotionUserInfo(String token) {
         try {
-            String response = webClient.get()
-                    .uri("/users/me")
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .header("Notion-Version", "2022-06-28")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode responseJson = objectMapper.readTree(response);
+            JsonNode responseJson = tokenIdentityService.notion(token).require();
 
             NotionUserInfo userInfo = new NotionUserInfo();
             userInfo.setBotId(responseJson.get("id").asText());
@@ -123,6 +110,11 @@ public class NotionManualSetupService {
     private NotionIntegrationResponse updateExistingManualIntegration(NotionIntegration integration,
             NotionManualSetupRequest request, NotionUserInfo tokenInfo) {
 
+        // 교체되는 이전 토큰의 신원 캐시 제거
+        if (!request.getAccessToken().equals(integration.getAccessToken())) {
+            tokenIdentityService.invalidateNotion(integration.getAccessToken());
+        }
+
         // 기본 정보 업데이트
         integration.setWorkspaceName(request.getWorkspaceName());
         integration.setAccessToken(request.getAccessToken());
@@ -131,18 +123,7 @@ public class NotionManualSetupService {
         integration.setWorkspaceId(tokenInfo.getWorkspaceId());
 
         // 암호화된 설정 정보 업데이트
-        if (request.getDatabases() != null) {
-            integration.setEncryptedDatabases(encryptDatabases(request.getDatabases()));
-        }
-        if (request.getPages() != null) {
-            integration.setEncryptedPages(encryptPages(request.getPages()));
-        }
-        if (request.getTemplates() != null) {
-            integration.setEncryptedTemplates(encryptTemplates(request.getTemplates()));
-        }
-        if (request.getSyncSettings() != null) {
-            integration.setEncryptedSyncSettings(encryptSyncSettings(request.getSyncSettings()));
-        }
+        applyEncryptedSettings(integration, request);
 
         // 개별 설정 업데이트
         integration.setAutoSyncEnabled(request.getAutoSyncEnabled());
@@ -151,6 +132,7 @@ public class NotionManualSetupService {
         integration.setTemplateAutoApply(request.getTemplateAutoApply());
 
         NotionIntegration savedIntegration = notionIntegrationRepository.save(integration);
+        settingsCache.invalidate(IntegrationSettingsCache.NOTION, savedIntegration.getId());
         return createResponseWithDecryptedData(savedIntegration);
     }
 
@@ -182,18 +164,7 @@ public class NotionManualSetupService {
         integration.setDuplicatedTemplateId(request.getDuplicatedTemplateId());
 
         // 암호화된 설정 정보 저장
-        if (request.getDatabases() != null) {
-            integration.setEncryptedDatabases(encryptDatabases(request.getDatabases()));
-        }
-        if (request.getPages() != null) {
-            integration.setEncryptedPages(encryptPages(request.getPages()));
-        }
-        if (request.getTemplates() != null) {
-            integration.setEncryptedTemplates(encryptTemplates(request.getTemplates()));
-        }
-        if (request.getSyncSettings() != null) {
-            integration.setEncryptedSyncSettings(encryptSyncSettings(request.getSyncSettings()));
-        }
+        applyEncryptedSettings(integration, request);
 
         // 개별 설정
         integration.setAutoSyncEnabled(request.getAutoSyncEnabled());
@@ -205,24 +176,122 @@ public class NotionManualSetupService {
         return createResponseWithDecryptedData(savedIntegration);
     }
 
+    /**
+     * 사용자의 노션 연동 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public List<NotionIntegrationResponse> getUserNotionIntegrations(Long userId, boolean activeOnly) {
+        List<NotionIntegration> integrations = activeOnly
+                ? notionIntegrationRepository.findActiveByUserId(userId)
+                : notionIntegrationRepository.findByUserId(userId);
+        return integrations.stream()
+                .map(this::createResponseWithDecryptedData)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 복호화된 데이터로 응답 생성
      */
     public NotionIntegrationResponse createResponseWithDecryptedData(NotionIntegration integration) {
         NotionIntegrationResponse response = new NotionIntegrationResponse(integration);
 
+        // 설정 필드는 조회될 때 복호화 (updated_at이 같으면 캐시 재사용)
+        response.setSettingsLoader(() -> settingsCache.get(IntegrationSettingsCache.NOTION, integration.getId(),
+                integration.getUpdatedAt(), () -> decryptSettings(integration)));
+
+        return response;
+    }
+
+    private NotionIntegrationResponse.Settings decryptSettings(NotionIntegration integration) {
         try {
-            // 암호화된 설정들 복호화
-            response.setDatabases(decryptDatabases(integration.getEncryptedDatabases()));
-            response.setPages(decryptPages(integration.getEncryptedPages()));
-            response.setTemplates(decryptTemplates(integration.getEncryptedTemplates()));
-            response.setSyncSettings(decryptSyncSettings(integration.getEncryptedSyncSettings()));
+            if (integration.getEncryptedSettings() != null) {
+                EncryptedSettingsDocument.Sections sections = settingsDocument.open(integration.getEncryptedSettings());
+                return new NotionIntegrationResponse.Settings(
+                        sections.get(NotionIntegration.SECTION_DATABASES,
+                                new TypeReference<List<NotionManualSetupRequest.DatabaseInfo>>() {
+                                }),
+                        sections.get(NotionIntegration.SECTION_PAGES,
+                                new TypeReference<List<NotionManualSetupRequest.PageInfo>>() {
+                                }),
+                        sections.get(NotionIntegration.SECTION_TEMPLATES,
+                                new TypeReference<List<NotionManualSetupRequest.TemplateInfo>>() {
+                                }),
+                        sections.get(NotionIntegration.SECTION_SYNC_SETTINGS,
+                                NotionManualSetupRequest.SyncSettings.class));
+            }
+
+            return new NotionIntegrationResponse.Settings(
+                    decryptDatabases(integration.getEncryptedDatabases()),
+                    decryptPages(integration.getEncryptedPages()),
+                    decryptTemplates(integration.getEncryptedTemplates()),
+                    decryptSyncSettings(integration.getEncryptedSyncSettings()));
         } catch (Exception e) {
             // 복호화 실패 시 기본 정보만 반환
             System.err.println("노션 설정 복호화 실패: " + e.getMessage());
+            return null;
         }
+    }
 
-        return response;
+    /**
+     * 요청의 설정을 암호화하여 저장
+     * 설정 문서를 사용하면 하나의 문서로 합치고, 아니면 개별 컬럼에 저장합니다.
+     */
+    private void applyEncryptedSettings(NotionIntegration integration, NotionManualSetupRequest request) {
+        if (!settingsDocument.isEnabled() && integration.getEncryptedSettings() == null) {
+            if (request.getDatabases() != null) {
+                integration.setEncryptedDatabases(encryptDatabases(request.getDatabases()));
+            }
+            if (request.getPages() != null) {
+                integration.setEncryptedPages(encryptPages(request.getPages()));
+            }
+            if (request.getTemplates() != null) {
+                integration.setEncryptedTemplates(encryptTemplates(request.getTemplates()));
+            }
+            if (request.getSyncSettings() != null) {
+                integration.setEncryptedSyncSettings(encryptSyncSettings(request.getSyncSettings()));
+            }
+            return;
+        }
+
+        // 요청에 없는 섹션은 기존 값 유지
+        Map<String, String> legacyColumns = new LinkedHashMap<>();
+        legacyColumns.put(NotionIntegration.SECTION_DATABASES, integration.getEncryptedDatabases());
+        legacyColumns.put(NotionIntegration.SECTION_PAGES, integration.getEncryptedPages());
+        legacyColumns.put(NotionIntegration.SECTION_TEMPLATES, integration.getEncryptedTemplates());
+        legacyColumns.put(NotionIntegration.SECTION_SYNC_SETTINGS, integration.getEncryptedSyncSettings());
+
+        Map<String, Object> sections = settingsDocument.currentSections(integration.getEncryptedSettings(),
+                legacyColumns);
+        if (request.getDatabases() != null) {
+            sections.put(NotionIntegration.SECTION_DATABASES, request.getDatabases());
+        }
+        if (request.getPages() != null) {
+            sections.put(NotionIntegration.SECTION_PAGES, request.getPages());
+        }
+        if (request.getTemplates() != null) {
+            sections.put(NotionIntegration.SECTION_TEMPLATES, request.getTemplates());
+        }
+        if (request.getSyncSettings() != null) {
+            sections.put(NotionIntegration.SECTION_SYNC_SETTINGS, request.getSyncSettings());
+        }
+
+        if (settingsDocument.isEnabled()) {
+            integration.setEncryptedSettings(settingsDocument.seal(sections));
+            integration.setEncryptedDatabases(null);
+            integration.setEncryptedPages(null);
+            integration.setEncryptedTemplates(null);
+            integration.setEncryptedSyncSettings(null);
+        } else {
+            // 문서 사용을 끈 경우 개별 컬럼으로 되돌림
+            integration.setEncryptedDatabases(
+                    settingsDocument.sealSection(sections.get(NotionIntegration.SECTION_DATABASES)));
+            integration.setEncryptedPages(settingsDocument.sealSection(sections.get(NotionIntegration.SECTION_PAGES)));
+            integration.setEncryptedTemplates(
+                    settingsDocument.sealSection(sections.get(NotionIntegration.SECTION_TEMPLATES)));
+            integration.setEncryptedSyncSettings(
+                    settingsDocument.sealSection(sections.get(NotionIntegration.SECTION_SYNC_SETTINGS)));
+            integration.setEncryptedSettings(null);
+        }
     }
 
     // 암호화/복호화 헬퍼 메서드들
@@ -243,7 +312,7 @@ public class NotionManualSetupService {
             return objectMapper.readValue(json, new TypeReference<List<NotionManualSetupRequest.DatabaseInfo>>() {
             });
         } catch (Exception e) {
-            return null;
+            throw new RuntimeException("데이터베이스 정보 복호화 실패: " + e.getMessage(), e);
         }
     }
 
@@ -264,7 +333,7 @@ public class NotionManualSetupService {
             return objectMapper.readValue(json, new TypeReference<List<NotionManualSetupRequest.PageInfo>>() {
             });
         } catch (Exception e) {
-            return null;
+            throw new RuntimeException("페이지 정보 복호화 실패: " + e.getMessage(), e);
         }
     }
 
@@ -285,7 +354,7 @@ public class NotionManualSetupService {
             return objectMapper.readValue(json, new TypeReference<List<NotionManualSetupRequest.TemplateInfo>>() {
             });
         } catch (Exception e) {
-            return null;
+            throw new RuntimeException("템플릿 정보 복호화 실패: " + e.getMessage(), e);
         }
     }
 
@@ -305,7 +374,7 @@ public class NotionManualSetupService {
             String json = encryptionUtil.decrypt(encrypted);
             return objectMapper.readValue(json, NotionManualSetupRequest.SyncSettings.class);
         } catch (Exception e) {
-            return null;
+            throw new RuntimeException("동기화 설정 복호화 실패: " + e.getMessage(), e);
         }
     }
 
@@ -5,6 +5,8 @@ import com.assistivehub.entity.NotionIntegration;
 import com.assistivehub.entity.User;
 import com.assistivehub.repository.IntegratedServiceRepository;
 import com.assistivehub.repository.NotionIntegrationRepository;
+import com.assistivehub.integration.common.client.UpstreamClientRegistry;
+import com.assistivehub.integration.common.service.TokenIdentityService;
 import com.assistivehub.util.EncryptionUtil;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.HashMap;
@@ -44,16 +47,24 @@ public class NotionOAuthService {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
-    private final WebClient webClient;
+    @Autowired
+    private UpstreamClientRegistry upstreamClients;
+
+    @Autowired
+    private TokenIdentityService tokenIdentityService;
+
+    private WebClient webClient;
     private final ObjectMapper objectMapper;
 
     public NotionOAuthService() {
-        this.webClient = WebClient.builder()
-                .baseUrl("https://api.notion.com/v1")
-                .build();
         this.objectMapper = new ObjectMapper();
     }
 
+    @PostConstruct
+    public void init() {
+        this.webClient = upstreamClients.client("https://api.notion.com/v1");
+    }
+
     /**
      * 노션 OAuth 인증 URL 생성
      */
@@ -219,6 +230,7 @@ public class NotionOAuthService {
             // 연동 비활성화
             integration.getIntegratedService().setIsActive(false);
             notionIntegrationRepository.save(integration);
+            tokenIdentityService.invalidateNotion(integration.getAccessToken());
 
         } catch (Exception e) {
             throw new RuntimeException("노션 연동 해제 실패: " + e.getMessage(), e);
@@ -229,20 +241,6 @@ public class NotionOAuthService {
      * 연동 유효성 검증
      */
     public boolean validateIntegration(NotionIntegration integration) {
-        try {
-            String response = webClient.get()
-                    .uri("/users/me")
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + integration.getAccessToken())
-                    .header("Notion-Version", "2022-06-28")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode responseJson = objectMapper.readTree(response);
-            return responseJson.has("id");
-
-        } catch (Exception e) {
-            return false;
-        }
+        return tokenIdentityService.notion(integration.getAccessToken()).isValid();
     }
 }
\ No newline at end of file
@@ -0,0 +1,422 @@
+package com.assistivehub.integration.notion.service;
+
+import com.assistivehub.entity.NotionIntegration;
+import com.assistivehub.integration.common.client.UpstreamSyncClient;
+import com.assistivehub.integration.common.service.TokenIdentityService;
+import com.assistivehub.integration.common.sync.IntegrationSyncHandler;
+import com.assistivehub.repository.NotionIntegrationRepository;
+import com.assistivehub.util.EncryptedSettingsDocument;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 노션 연동 백그라운드 증분 동기화 (연동별 syncIntervalMinutes 주기)
+ *
+ * 데이터베이스는 저장된 last_edited_time 위치 이후 수정된 항목만 query하고, 설정된 페이지는 last_edited_time이 바뀐 경우만 반영합니다.
+ * 블록 내용은 바뀐 페이지에 대해서만 읽고, 내용 해시가 같으면 다시 쓰지 않습니다.
+ * 노션의 토큰당 초당 3회 제한은 UpstreamRateLimitGovernor의 paced-hosts 설정이 모든 노션 호출에 함께 적용합니다.
+ * 삭제되었거나 공유가 해제된 데이터베이스/페이지(404/403)는 위치를 그대로 두고 그 항목만 건너뜁니다.
+ */
+@Service
+public class NotionSyncService implements IntegrationSyncHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(NotionSyncService.class);
+
+    private static final int MIN_INTERVAL_MINUTES = 5;
+
+    private static final String NOTION_API_URL = "https://api.notion.com/v1";
+
+    private static final String UPSERT_PAGE_SQL = "INSERT INTO notion_pages"
+            + " (integration_id, page_id, database_id, title, url, archived, last_edited_time, created_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE database_id = VALUES(database_id), title = VALUES(title), url = VALUES(url),"
+            + " archived = VALUES(archived), last_edited_time = VALUES(last_edited_time), updated_at = VALUES(updated_at)";
+
+    private static final String UPDATE_CONTENT_SQL = "UPDATE notion_pages"
+            + " SET content_hash = ?, block_content = ?, content_synced_at = ? WHERE integration_id = ? AND page_id = ?";
+
+    private static final String UPSERT_CURSOR_SQL = "INSERT INTO notion_sync_cursors"
+            + " (integration_id, database_id, cursor_value, updated_at) VALUES (?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE cursor_value = VALUES(cursor_value), updated_at = VALUES(updated_at)";
+
+    @Autowired
+    private NotionIntegrationRepository notionIntegrationRepository;
+
+    @Autowired
+    private EncryptedSettingsDocument settingsDocument;
+
+    @Autowired
+    private UpstreamSyncClient syncClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${notion.sync.max-pages:10}")
+    private int maxPages;
+
+    @Autowired
+    public NotionSyncService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String getProvider() {
+        return "notion";
+    }
+
+    @Override
+    public String getTable() {
+        return "notion_integrations";
+    }
+
+    @Override
+    public List<Long> findDueIntegrationIds(LocalDateTime now) {
+        // 가장 짧은 주기 기준으로 조회한 뒤 연동별 주기로 다시 거름
+        return notionIntegrationRepository.findIntegrationsNeedingSync(now.minusMinutes(MIN_INTERVAL_MINUTES)).stream()
+                .filter(integration -> integration.getLastSyncAt() == null
+                        || !integration.getLastSyncAt().plusMinutes(intervalMinutes(integration)).isAfter(now))
+                .map(NotionIntegration::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void sync(Long integrationId) {
+        NotionIntegration integration = notionIntegrationRepository.findById(integrationId)
+                .orElseThrow(() -> new RuntimeException("노션 연동을 찾을 수 없습니다."));
+
+        String token = integration.getAccessToken();
+        Consumer<HttpHeaders> headers = h -> {
+            h.set(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+            h.set("Notion-Version", TokenIdentityService.NOTION_VERSION);
+        };
+
+        Map<String, StoredPage> storedPages = loadStoredPages(integrationId);
+        Map<String, String> cursors = loadCursors(integrationId);
+        SyncResult result = new SyncResult();
+
+        if (Boolean.TRUE.equals(integration.getSyncDatabases())) {
+            for (String databaseId : syncEnabledIds(integration, NotionIntegration.SECTION_DATABASES, "databaseId")) {
+                try {
+                    syncDatabase(databaseId, cursors.get(databaseId), headers, result);
+                } catch (WebClientResponseException e) {
+                    skipIfNotAccessible(e, integrationId, "database", databaseId);
+                }
+            }
+        }
+        if (Boolean.TRUE.equals(integration.getSyncPages())) {
+            for (String pageId : syncEnabledIds(integration, NotionIntegration.SECTION_PAGES, "pageId")) {
+                URI uri = UriComponentsBuilder.fromHttpUrl(NOTION_API_URL).path("/pages/{pageId}")
+                        .buildAndExpand(pageId).toUri();
+                try {
+                    result.pages.add(toPageRow(syncClient.get(NOTION_API_URL, uri, headers, null).getBody()));
+                } catch (WebClientResponseException e) {
+                    skipIfNotAccessible(e, integrationId, "page", pageId);
+                }
+            }
+        }
+
+        // last_edited_time이 저장된 값과 같은 페이지는 건너뜀 (노션 시각은 분 단위라 경계 항목이 다시 조회될 수 있음)
+        boolean syncBlocks = Boolean.TRUE.equals(integration.getSyncBlocks());
+        List<PageRow> changedPages = new ArrayList<>();
+        for (PageRow page : result.pages) {
+            StoredPage stored = storedPages.get(page.pageId);
+            boolean unchanged = stored != null && page.lastEditedTime != null
+                    && page.lastEditedTime.equals(stored.lastEditedTime)
+                    && (!syncBlocks || stored.contentHash != null);
+            if (!unchanged) {
+                changedPages.add(page);
+            }
+        }
+
+        if (syncBlocks) {
+            for (PageRow page : changedPages) {
+                if (page.archived) {
+                    continue;
+                }
+                String content;
+                try {
+                    content = fetchBlockContent(page.pageId, headers);
+                } catch (WebClientResponseException e) {
+                    // 블록 내용만 건너뜀 (저장된 내용과 해시는 그대로)
+                    skipIfNotAccessible(e, integrationId, "blocks", page.pageId);
+                    continue;
+                }
+                String hash = sha256(content);
+                StoredPage stored = storedPages.get(page.pageId);
+                if (stored == null || !hash.equals(stored.contentHash)) {
+                    result.contents.put(page.pageId, new String[] { hash, content });
+                }
+            }
+        }
+
+        save(integrationId, changedPages, result);
+    }
+
+    private void skipIfNotAccessible(WebClientResponseException e, Long integrationId, String kind, String id) {
+        if (!UpstreamSyncClient.isNotAccessible(e)) {
+            throw e;
+        }
+        log.warn("노션 {} 조회 건너뜀: #{} {} (status={})", kind, integrationId, id, e.getRawStatusCode());
+    }
+
+    /**
+     * 데이터베이스 항목 중 저장된 위치 이후 수정된 항목 (수정 시각 오래된 순, 첫 동기화는 조건 없이 처음부터)
+     * 중간에 실패하면 이 데이터베이스의 항목과 위치는 결과에 넣지 않습니다.
+     */
+    private void syncDatabase(String databaseId, String since, Consumer<HttpHeaders> headers, SyncResult result) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(NOTION_API_URL).path("/databases/{databaseId}/query")
+                .buildAndExpand(databaseId).toUri();
+
+        Map<String, Object> sort = new LinkedHashMap<>();
+        sort.put("timestamp", "last_edited_time");
+        sort.put("direction", "ascending");
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("page_size", 100);
+        body.put("sorts", Collections.singletonList(sort));
+        if (since != null) {
+            Map<String, Object> filter = new LinkedHashMap<>();
+            filter.put("timestamp", "last_edited_time");
+            filter.put("last_edited_time", Collections.singletonMap("on_or_after", since));
+            body.put("filter", filter);
+        }
+
+        String newest = since;
+        List<PageRow> rows = new ArrayList<>();
+        for (int page = 0; page < maxPages; page++) {
+            JsonNode response = syncClient.post(NOTION_API_URL, uri, headers, body);
+            for (JsonNode item : response.path("results")) {
+                PageRow row = toPageRow(item);
+                row.databaseId = databaseId;
+                rows.add(row);
+                String lastEdited = item.path("last_edited_time").asText(null);
+                if (lastEdited != null && (newest == null || Instant.parse(lastEdited).isAfter(Instant.parse(newest)))) {
+                    newest = lastEdited;
+                }
+            }
+            if (!response.path("has_more").asBoolean()) {
+                break;
+            }
+            body.put("start_cursor", response.path("next_cursor").asText());
+        }
+
+        result.pages.addAll(rows);
+        if (newest != null) {
+            result.cursors.put(databaseId, newest);
+        }
+    }
+
+    /**
+     * 페이지의 최상위 블록 목록을 JSON 문자열로 조회
+     */
+    private String fetchBlockContent(String pageId, Consumer<HttpHeaders> headers) {
+        List<JsonNode> blocks = new ArrayList<>();
+        String startCursor = null;
+        for (int page = 0; page < maxPages; page++) {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(NOTION_API_URL)
+                    .path("/blocks/{pageId}/children")
+                    .queryParam("page_size", 100);
+            if (startCursor != null) {
+                builder.queryParam("start_cursor", startCursor);
+            }
+            JsonNode response = syncClient.get(NOTION_API_URL, builder.buildAndExpand(pageId).toUri(), headers, null)
+                    .getBody();
+            response.path("results").forEach(blocks::add);
+            if (!response.path("has_more").asBoolean()) {
+                break;
+            }
+            startCursor = response.path("next_cursor").asText();
+        }
+
+        try {
+            return objectMapper.writeValueAsString(blocks);
+        } catch (Exception e) {
+            throw new RuntimeException("노션 블록 변환 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 연동 설정의 데이터베이스/페이지 중 동기화가 켜진 항목 ID
+     */
+    private List<String> syncEnabledIds(NotionIntegration integration, String section, String idField) {
+        Map<String, String> legacyColumns = new LinkedHashMap<>();
+        legacyColumns.put(NotionIntegration.SECTION_DATABASES, integration.getEncryptedDatabases());
+        legacyColumns.put(NotionIntegration.SECTION_PAGES, integration.getEncryptedPages());
+        Object items = settingsDocument.currentSections(integration.getEncryptedSettings(), legacyColumns).get(section);
+
+        List<String> ids = new ArrayList<>();
+        if (!(items instanceof JsonNode)) {
+            return ids;
+        }
+        for (JsonNode item : (JsonNode) items) {
+            String id = item.path(idField).asText("");
+            if (!id.isEmpty() && item.path("syncEnabled").asBoolean(true)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private Map<String, StoredPage> loadStoredPages(Long integrationId) {
+        Map<String, StoredPage> pages = new HashMap<>();
+        jdbcTemplate.query("SELECT page_id, last_edited_time, content_hash FROM notion_pages WHERE integration_id = ?",
+                rs -> {
+                    Timestamp lastEdited = rs.getTimestamp("last_edited_time");
+                    pages.put(rs.getString("page_id"), new StoredPage(
+                            lastEdited != null ? lastEdited.toLocalDateTime() : null, rs.getString("content_hash")));
+                }, integrationId);
+        return pages;
+    }
+
+    private Map<String, String> loadCursors(Long integrationId) {
+        Map<String, String> cursors = new HashMap<>();
+        jdbcTemplate.query("SELECT database_id, cursor_value FROM notion_sync_cursors WHERE integration_id = ?",
+                rs -> {
+                    cursors.put(rs.getString("database_id"), rs.getString("cursor_value"));
+                }, integrationId);
+        return cursors;
+    }
+
+    /**
+     * 바뀐 페이지 메타데이터, 해시가 바뀐 블록 내용, 데이터베이스 위치, last_sync_at을 한 트랜잭션으로 저장
+     */
+    private void save(Long integrationId, List<PageRow> changedPages, SyncResult result) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.execute(status -> {
+            List<Object[]> pageRows = new ArrayList<>();
+            for (PageRow page : changedPages) {
+                pageRows.add(new Object[] { integrationId, page.pageId, page.databaseId, truncate(page.title, 500),
+                        truncate(page.url, 500), page.archived,
+                        page.lastEditedTime != null ? Timestamp.valueOf(page.lastEditedTime) : null, now, now });
+            }
+            if (!pageRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_PAGE_SQL, pageRows);
+            }
+
+            List<Object[]> contentRows = new ArrayList<>();
+            for (Map.Entry<String, String[]> entry : result.contents.entrySet()) {
+                contentRows.add(new Object[] { entry.getValue()[0], entry.getValue()[1], now, integrationId,
+                        entry.getKey() });
+            }
+            if (!contentRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_CONTENT_SQL, contentRows);
+            }
+
+            List<Object[]> cursorRows = new ArrayList<>();
+            for (Map.Entry<String, String> entry : result.cursors.entrySet()) {
+                cursorRows.add(new Object[] { integrationId, entry.getKey(), entry.getValue(), now });
+            }
+            if (!cursorRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_CURSOR_SQL, cursorRows);
+            }
+
+            jdbcTemplate.update("UPDATE notion_integrations SET last_sync_at = ? WHERE id = ?", now, integrationId);
+            return null;
+        });
+    }
+
+    private PageRow toPageRow(JsonNode page) {
+        PageRow row = new PageRow();
+        row.pageId = page.path("id").asText();
+        row.title = title(page);
+        row.url = page.path("url").asText(null);
+        row.archived = page.path("archived").asBoolean(false);
+        String lastEdited = page.path("last_edited_time").asText(null);
+        row.lastEditedTime = lastEdited == null ? null
+                : LocalDateTime.ofInstant(Instant.parse(lastEdited), ZoneId.systemDefault());
+        return row;
+    }
+
+    // 페이지 속성 중 title 타입 속성의 텍스트
+    private static String title(JsonNode page) {
+        for (JsonNode property : page.path("properties")) {
+            if ("title".equals(property.path("type").asText())) {
+                StringBuilder title = new StringBuilder();
+                for (JsonNode text : property.path("title")) {
+                    title.append(text.path("plain_text").asText());
+                }
+                return title.toString();
+            }
+        }
+        return null;
+    }
+
+    private static String sha256(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (Exception e) {
+            throw new RuntimeException("해시 계산 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private long intervalMinutes(NotionIntegration integration) {
+        Integer interval = integration.getSyncIntervalMinutes();
+        return interval == null ? 60 : Math.max(interval, MIN_INTERVAL_MINUTES);
+    }
+
+    private static class StoredPage {
+        private final LocalDateTime lastEditedTime;
+        private final String contentHash;
+
+        private StoredPage(LocalDateTime lastEditedTime, String contentHash) {
+            this.lastEditedTime = lastEditedTime;
+            this.contentHash = contentHash;
+        }
+    }
+
+    private static class PageRow {
+        private String pageId;
+        private String databaseId;
+        private String title;
+        private String url;
+        private boolean archived;
+        private LocalDateTime lastEditedTime;
+    }
+
+    private static class SyncResult {
+        private final List<PageRow> pages = new ArrayList<>();
+        // 페이지 ID -> { 해시, 블록 JSON }
+        private final Map<String, String[]> contents = new HashMap<>();
+        private final Map<String, String> cursors = new HashMap<>();
+    }
+}
@@ -3,13 +3,15 @@ package com.assistivehub.integration.slack.controller;
 import com.assistivehub.integration.slack.dto.SlackIntegrationRequest;
 import com.assistivehub.integration.slack.dto.SlackIntegrationResponse;
 import com.assistivehub.integration.slack.dto.SlackManualSetupRequest;
+import com.assistivehub.integration.slack.service.SlackEventService;
 import com.assistivehub.integration.slack.service.SlackIntegrationService;
 import com.assistivehub.integration.slack.service.SlackManualSetupService;
 import com.assistivehub.integration.slack.service.SlackOAuthService;
 import com.assistivehub.entity.SlackIntegration;
 import com.assistivehub.entity.User;
 import com.assistivehub.service.UserService;
-import com.assistivehub.util.JwtUtil;
+import com.assistivehub.security.AuthenticatedUser;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,33 +38,16 @@ public class SlackIntegrationController {
     private SlackOAuthService slackOAuthService;
 
     @Autowired
-    private UserService userService;
+    private SlackEventService slackEventService;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private UserService userService;
 
     /**
      * 현재 요청에서 사용자 ID 추출
      */
     private Long getCurrentUserId(HttpServletRequest request) {
-        String token = extractTokenFromRequest(request);
-        if (token == null) {
-            throw new RuntimeException("인증 토큰이 필요합니다.");
-        }
-        String email = jwtUtil.extractUsername(token);
-        User user = userService.findByEmail(email);
-        return user.getId();
-    }
-
-    /**
-     * 요청 헤더에서 JWT 토큰 추출
-     */
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
+        return AuthenticatedUser.current().getUserId();
     }
 
     /**
@@ -138,6 +123,7 @@ public class SlackIntegrationController {
     @GetMapping
     public ResponseEntity<Map<String, Object>> getUserSlackIntegrations(
             @RequestParam(defaultValue = "false") boolean activeOnly,
+            @RequestParam(defaultValue = "true") boolean includeSettings,
             HttpServletRequest httpRequest) {
 
         try {
@@ -150,6 +136,10 @@ public class SlackIntegrationController {
                 integrations = slackIntegrationService.getUserSlackIntegrations(userId);
             }
 
+            if (!includeSettings) {
+                integrations.forEach(SlackIntegrationResponse::omitSettings);
+            }
+
             Map<String, Object> result = new HashMap<>();
             result.put("success", true);
             result.put("data", integrations);
@@ -309,6 +299,48 @@ public class SlackIntegrationController {
         }
     }
 
+    /**
+     * 슬랙 Events API 수신 (로그인 대신 서명으로 확인, 처리는 큐에 넣고 바로 응답)
+     */
+    @PostMapping("/events")
+    public ResponseEntity<Map<String, Object>> receiveSlackEvent(
+            @RequestHeader(value = "X-Slack-Request-Timestamp", required = false) String timestamp,
+            @RequestHeader(value = "X-Slack-Signature", required = false) String signature,
+            @RequestBody String body) {
+
+        try {
+            Map<String, Object> result = new HashMap<>();
+
+            if (!slackEventService.verifySignature(timestamp, signature, body)) {
+                result.put("success", false);
+                result.put("message", "슬랙 요청 서명이 올바르지 않습니다.");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(result);
+            }
+
+            JsonNode payload = slackEventService.parse(body);
+            if ("url_verification".equals(payload.path("type").asText())) {
+                result.put("challenge", payload.path("challenge").asText());
+                return ResponseEntity.ok(result);
+            }
+
+            if (!slackEventService.enqueue(payload)) {
+                result.put("success", false);
+                result.put("message", "이벤트 처리 대기열이 가득 찼습니다.");
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(result);
+            }
+
+            result.put("success", true);
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("success", false);
+            error.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     /**
      * 슬랙 토큰 유효성 검증
      */
@@ -3,9 +3,12 @@ package com.assistivehub.integration.slack.dto;
 import com.assistivehub.entity.SlackIntegration;
 import com.assistivehub.integration.slack.dto.SlackManualSetupRequest;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class SlackIntegrationResponse {
 
@@ -21,9 +24,17 @@ public class SlackIntegrationResponse {
     private String scopes;
 
     // 연동 설정 정보 (복호화된 상태로 반환)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<SlackManualSetupRequest.ChannelInfo> monitoringChannels;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private SlackManualSetupRequest.NotificationSettings notificationSettings;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<String> keywords;
+
+    // 설정 필드를 처음 조회할 때 한 번만 복호화
+    @JsonIgnore
+    private Supplier<Settings> settingsLoader;
+
     private Boolean enableMentions;
     private Boolean enableDirectMessages;
     private Boolean enableChannelMessages;
@@ -170,26 +181,32 @@ public class SlackIntegrationResponse {
     }
 
     public List<SlackManualSetupRequest.ChannelInfo> getMonitoringChannels() {
+        loadSettings();
         return monitoringChannels;
     }
 
     public void setMonitoringChannels(List<SlackManualSetupRequest.ChannelInfo> monitoringChannels) {
+        loadSettings();
         this.monitoringChannels = monitoringChannels;
     }
 
     public SlackManualSetupRequest.NotificationSettings getNotificationSettings() {
+        loadSettings();
         return notificationSettings;
     }
 
     public void setNotificationSettings(SlackManualSetupRequest.NotificationSettings notificationSettings) {
+        loadSettings();
         this.notificationSettings = notificationSettings;
     }
 
     public List<String> getKeywords() {
+        loadSettings();
         return keywords;
     }
 
     public void setKeywords(List<String> keywords) {
+        loadSettings();
         this.keywords = keywords;
     }
 
@@ -224,4 +241,62 @@ public class SlackIntegrationResponse {
     public void setEnableThreadReplies(Boolean enableThreadReplies) {
         this.enableThreadReplies = enableThreadReplies;
     }
-}
\ No newline at end of file
+
+    /**
+     * 설정 필드 조회 시점에 복호화하도록 로더 지정
+     */
+    @JsonIgnore
+    public void setSettingsLoader(Supplier<Settings> settingsLoader) {
+        this.settingsLoader = settingsLoader;
+    }
+
+    /**
+     * 설정 필드를 응답에서 제외 (복호화하지 않음)
+     */
+    public void omitSettings() {
+        this.settingsLoader = null;
+    }
+
+    private void loadSettings() {
+        Supplier<Settings> loader = this.settingsLoader;
+        if (loader == null) {
+            return;
+        }
+        this.settingsLoader = null;
+
+        Settings settings = loader.get();
+        if (settings != null) {
+            this.monitoringChannels = settings.getMonitoringChannels();
+            this.notificationSettings = settings.getNotificationSettings();
+            this.keywords = settings.getKeywords();
+        }
+    }
+
+    /**
+     * 복호화된 설정 묶음
+     */
+    public static class Settings {
+        private final List<SlackManualSetupRequest.ChannelInfo> monitoringChannels;
+        private final SlackManualSetupRequest.NotificationSettings notificationSettings;
+        private final List<String> keywords;
+
+        public Settings(List<SlackManualSetupRequest.ChannelInfo> monitoringChannels,
+                SlackManualSetupRequest.NotificationSettings notificationSettings, List<String> keywords) {
+            this.monitoringChannels = monitoringChannels;
+            this.notificationSettings = notificationSettings;
+            this.keywords = keywords;
+        }
+
+        public List<SlackManualSetupRequest.ChannelInfo> getMonitoringChannels() {
+            return monitoringChannels;
+        }
+
+        public SlackManualSetupRequest.NotificationSettings getNotificationSettings() {
+            return notificationSettings;
+        }
+
+        public List<String> getKeywords() {
+            return keywords;
+        }
+    }
+}
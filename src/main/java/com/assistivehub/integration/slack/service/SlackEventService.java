@@ -0,0 +1,313 @@
+package com.assistivehub.integration.slack.service;
+
+import com.assistivehub.repository.SlackIntegrationRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 슬랙 Events API 수신
+ *
+ * 요청 스레드는 서명만 확인하고 이벤트를 크기가 정해진 큐에 넣은 뒤 바로 응답해 Slack의 3초 제한 안에 끝냅니다.
+ * 소비 스레드가 큐에서 batch-size 개씩 꺼내 연동별 메시지로 바꾸고, 고유 키 upsert 한 번으로 중복을 걸러 저장합니다.
+ * 큐가 가득 차면 503으로 응답해 Slack이 나중에 다시 보내게 합니다.
+ * 저장에 실패한 배치는 간격을 두 배씩 늘리며 max-retries 번까지 다시 저장하고, 그래도 실패하면 버립니다.
+ */
+@Service
+public class SlackEventService {
+
+    private static final Logger log = LoggerFactory.getLogger(SlackEventService.class);
+
+    // 서명 시각 허용 범위 (재전송 공격 방지)
+    private static final long MAX_CLOCK_SKEW_SECONDS = 300;
+
+    @Autowired
+    private SlackIntegrationRepository slackIntegrationRepository;
+
+    @Autowired
+    private SlackMessageStore messageStore;
+
+    @Value("${slack.signing-secret:}")
+    private String signingSecret;
+
+    @Value("${slack.events.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${slack.events.consumer-threads:2}")
+    private int consumerThreads;
+
+    @Value("${slack.events.batch-size:200}")
+    private int batchSize;
+
+    @Value("${slack.events.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${slack.events.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${slack.events.subscriber-cache-ttl-seconds:60}")
+    private long subscriberCacheTtlSeconds;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BlockingQueue<JsonNode> queue;
+
+    // team_id -> 그 워크스페이스의 활성 연동 수집 설정
+    private LoadingCache<String, List<SlackMessageStore.Subscriber>> subscribers;
+
+    private final List<Thread> consumers = new ArrayList<>();
+
+    private volatile boolean running = true;
+
+    private final LongAdder receivedCount = new LongAdder();
+    private final LongAdder invalidSignatureCount = new LongAdder();
+    private final LongAdder queueFullCount = new LongAdder();
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder storedCount = new LongAdder();
+    private final LongAdder failedBatchCount = new LongAdder();
+    private final LongAdder droppedEventCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.subscribers = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(Duration.ofSeconds(subscriberCacheTtlSeconds))
+                .build(teamId -> slackIntegrationRepository.findActiveByTeamId(teamId).stream()
+                        .map(messageStore::subscriber)
+                        .collect(Collectors.toList()));
+
+        for (int i = 1; i <= consumerThreads; i++) {
+            Thread thread = new Thread(this::consume, "slack-events-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            consumers.add(thread);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        consumers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * X-Slack-Signature 확인 (v0=HMAC-SHA256(signing secret, "v0:{timestamp}:{본문}"))
+     */
+    public boolean verifySignature(String timestamp, String signature, String body) {
+        if (signingSecret == null || signingSecret.isEmpty() || timestamp == null || signature == null) {
+            invalidSignatureCount.increment();
+            return false;
+        }
+
+        try {
+            long requestTime = Long.parseLong(timestamp);
+            if (Math.abs(Instant.now().getEpochSecond() - requestTime) > MAX_CLOCK_SKEW_SECONDS) {
+                invalidSignatureCount.increment();
+                return false;
+            }
+
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] digest = mac.doFinal(("v0:" + timestamp + ":" + body).getBytes(StandardCharsets.UTF_8));
+            StringBuilder expected = new StringBuilder("v0=");
+            for (byte b : digest) {
+                expected.append(String.format("%02x", b));
+            }
+
+            boolean valid = MessageDigest.isEqual(expected.toString().getBytes(StandardCharsets.UTF_8),
+                    signature.getBytes(StandardCharsets.UTF_8));
+            if (!valid) {
+                invalidSignatureCount.increment();
+            }
+            return valid;
+
+        } catch (Exception e) {
+            invalidSignatureCount.increment();
+            return false;
+        }
+    }
+
+    public JsonNode parse(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            throw new RuntimeException("슬랙 이벤트 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 이벤트를 큐에 넣음 (큐가 가득 차면 false)
+     */
+    public boolean enqueue(JsonNode payload) {
+        receivedCount.increment();
+        if (!queue.offer(payload)) {
+            queueFullCount.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private void consume() {
+        while (running) {
+            List<JsonNode> batch = new ArrayList<>();
+            try {
+                JsonNode first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (!processWithRetry(batch)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 배치 저장 (실패하면 retry-backoff-ms부터 두 배씩 기다리며 재시도, 중단되면 false)
+     *
+     * 재시도하는 동안 이 소비 스레드는 멈추므로 큐가 차면 Slack이 503을 받고 나중에 다시 보냅니다.
+     */
+    private boolean processWithRetry(List<JsonNode> batch) {
+        long backoffMillis = retryBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                process(batch);
+                return true;
+            } catch (Exception e) {
+                failedBatchCount.increment();
+                if (attempt > maxRetries || !running) {
+                    droppedEventCount.add(batch.size());
+                    log.error("슬랙 이벤트 저장 실패로 버림: {}건 ({})", batch.size(), e.getMessage());
+                    return true;
+                }
+                log.warn("슬랙 이벤트 저장 실패, {}ms 후 재시도 ({}/{}): {}건 ({})", backoffMillis, attempt, maxRetries,
+                        batch.size(), e.getMessage());
+            }
+
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedEventCount.add(batch.size());
+                return false;
+            }
+            backoffMillis *= 2;
+        }
+    }
+
+    /**
+     * 한 배치의 메시지 이벤트를 연동별 행으로 바꿔 한 번에 저장
+     */
+    private void process(List<JsonNode> batch) {
+        List<SlackMessageStore.MessageRow> rows = new ArrayList<>();
+        for (JsonNode payload : batch) {
+            JsonNode event = payload.path("event");
+            if (!"event_callback".equals(payload.path("type").asText())
+                    || !"message".equals(event.path("type").asText())) {
+                continue;
+            }
+
+            String channelId = event.path("channel").asText("");
+            JsonNode message = message(event);
+            if (channelId.isEmpty() || message == null) {
+                continue;
+            }
+
+            boolean directMessage = "im".equals(event.path("channel_type").asText()) || channelId.startsWith("D");
+            Set<String> authorizedUsers = authorizedUsers(payload);
+
+            for (SlackMessageStore.Subscriber subscriber : subscribers.get(payload.path("team_id").asText())) {
+                // DM은 그 대화의 당사자로 인증된 연동만, 채널 메시지는 그 채널을 모니터링하는 연동만
+                boolean subscribed = subscriber.channels.containsKey(channelId)
+                        || (directMessage && authorizedUsers.contains(subscriber.slackUserId));
+                if (!subscribed) {
+                    continue;
+                }
+                SlackMessageStore.MessageRow row = messageStore.toRow(subscriber, channelId, message);
+                if (row != null) {
+                    rows.add(row);
+                }
+            }
+        }
+
+        if (!rows.isEmpty()) {
+            messageStore.upsert(rows);
+            storedCount.add(rows.size());
+        }
+        processedCount.add(batch.size());
+    }
+
+    /**
+     * 저장할 메시지 본문 (수정 이벤트는 수정된 메시지, 삭제/답글 알림 이벤트는 null)
+     */
+    private JsonNode message(JsonNode event) {
+        String subtype = event.path("subtype").asText("");
+        if ("message_changed".equals(subtype)) {
+            JsonNode changed = event.path("message");
+            return changed.isObject() ? changed : null;
+        }
+        if ("message_deleted".equals(subtype) || "message_replied".equals(subtype)) {
+            return null;
+        }
+        return event;
+    }
+
+    private Set<String> authorizedUsers(JsonNode payload) {
+        Set<String> users = new HashSet<>();
+        payload.path("authorizations").forEach(authorization -> users.add(authorization.path("user_id").asText()));
+        payload.path("authed_users").forEach(user -> users.add(user.asText()));
+        return users;
+    }
+
+    /**
+     * 수신/큐/저장 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("signingSecretConfigured", signingSecret != null && !signingSecret.isEmpty());
+        result.put("queueSize", queue.size());
+        result.put("queueCapacity", queueCapacity);
+        result.put("consumerThreads", consumerThreads);
+        result.put("receivedCount", receivedCount.sum());
+        result.put("invalidSignatureCount", invalidSignatureCount.sum());
+        result.put("queueFullCount", queueFullCount.sum()); // 503으로 응답해 Slack이 다시 보낼 이벤트
+        result.put("processedCount", processedCount.sum());
+        result.put("storedCount", storedCount.sum()); // 연동별 저장 행 수 (중복 포함)
+        result.put("failedBatchCount", failedBatchCount.sum()); // 저장 실패 횟수 (재시도 포함)
+        result.put("droppedEventCount", droppedEventCount.sum()); // 재시도 후에도 저장하지 못해 버린 이벤트
+        return result;
+    }
+}
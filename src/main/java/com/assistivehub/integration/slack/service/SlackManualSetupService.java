@@ -7,18 +7,29 @@ import com.assistivehub.entity.SlackIntegration;
 import com.assistivehub.entity.User;
 import com.assistivehub.repository.IntegratedServiceRepository;
 import com.assistivehub.repository.SlackIntegrationRepository;
+import com.assistivehub.util.EncryptedSettingsDocument;
+import com.assistivehub.integration.common.client.UpstreamClientRegistry;
+import com.assistivehub.integration.common.service.TokenIdentityService;
 import com.assistivehub.util.EncryptionUtil;
+import com.assistivehub.util.IntegrationSettingsCache;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
 
+import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -33,14 +44,31 @@ public class SlackManualSetupService {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
-    private final WebClient webClient;
+    @Autowired
+    private UpstreamClientRegistry upstreamClients;
+
+    @Autowired
+    private TokenIdentityService tokenIdentityService;
+
+    @Autowired
+    private IntegrationSettingsCache settingsCache;
+
+    @Autowired
+    private EncryptedSettingsDocument settingsDocument;
+
+    private WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
-    public SlackManualSetupService() {
-        this.webClient = WebClient.builder()
-                .baseUrl("https://slack.com/api")
-                .build();
+    @Autowired
+    public SlackManualSetupService(PlatformTransactionManager transactionManager) {
         this.objectMapper = new ObjectMapper();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void init() {
+        this.webClient = upstreamClients.client("https://slack.com/api");
     }
 
     /**
@@ -139,20 +167,7 @@ public class SlackManualSetupService {
      * 사용자 토큰 유효성 검증
      */
     public boolean validateSlackToken(String token) {
-        try {
-            String response = webClient.get()
-                    .uri("/auth.test")
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode responseJson = objectMapper.readTree(response);
-            return responseJson.get("ok").asBoolean();
-
-        } catch (Exception e) {
-            return false;
-        }
+        return tokenIdentityService.slack(token).isValid();
     }
 
     /**
@@ -160,41 +175,8 @@ public class SlackManualSetupService {
      */
     public SlackUserInfo getSlackUserInfo(String token) {
         try {
-            String response = webClient.get()
-                    .uri("/auth.test")
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode responseJson = objectMapper.readTree(response);
-
-            if (!responseJson.get("ok").asBoolean()) {
-                throw new RuntimeException("슬랙 토큰이 유효하지 않습니다.");
-            }
-
-            SlackUserInfo userInfo = new SlackUserInfo();
-            userInfo.setUserId(responseJson.get("user_id").asText());
-            userInfo.setTeamId(responseJson.get("team_id").asText());
-            userInfo.setTeamName(responseJson.get("team").asText());
-
-            // 사용자 상세 정보 조회
-            String userDetailResponse = webClient.get()
-                    .uri("/users.info?user=" + userInfo.getUserId())
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode userDetailJson = objectMapper.readTree(userDetailResponse);
-            if (userDetailJson.get("ok").asBoolean()) {
-                JsonNode user = userDetailJson.get("user");
-                userInfo.setUserName(user.get("real_name").asText());
-                if (userInfo.getUserName() == null || userInfo.getUserName().isEmpty()) {
-                    userInfo.setUserName(user.get("name").asText());
-                }
-            }
-
+            SlackUserInfo userInfo = toSlackUserInfo(tokenIdentityService.slack(token).require());
+            userInfo.setUserName(fetchSlackUserName(token, userInfo.getUserId()).block());
             return userInfo;
 
         } catch (Exception e) {
@@ -202,21 +184,60 @@ public class SlackManualSetupService {
         }
     }
 
+    /**
+     * auth.test 응답을 사용자 정보로 변환 (이름 제외)
+     */
+    private SlackUserInfo toSlackUserInfo(JsonNode responseJson) {
+        if (!responseJson.get("ok").asBoolean()) {
+            throw new RuntimeException("슬랙 토큰이 유효하지 않습니다.");
+        }
+
+        SlackUserInfo userInfo = new SlackUserInfo();
+        userInfo.setUserId(responseJson.get("user_id").asText());
+        userInfo.setTeamId(responseJson.get("team_id").asText());
+        userInfo.setTeamName(responseJson.get("team").asText());
+        return userInfo;
+    }
+
+    /**
+     * 사용자 상세 정보(users.info)에서 표시 이름 조회, 없으면 null
+     */
+    private Mono<String> fetchSlackUserName(String token, String slackUserId) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/users.info").queryParam("user", slackUserId).build())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .retrieve()
+                .bodyToMono(String.class)
+                .flatMap(response -> Mono.fromCallable(() -> objectMapper.readTree(response)))
+                .flatMap(userDetailJson -> {
+                    if (!userDetailJson.path("ok").asBoolean()) {
+                        return Mono.empty();
+                    }
+                    JsonNode user = userDetailJson.get("user");
+                    String userName = user.path("real_name").asText();
+                    if (userName.isEmpty()) {
+                        userName = user.path("name").asText();
+                    }
+                    return Mono.justOrEmpty(userName);
+                });
+    }
+
     /**
      * 수동 슬랙 연동 생성
+     *
+     * 슬랙 호출(auth.test 한 번, users.info)은 트랜잭션 밖에서 끝내고, users.info는 기존 연동 조회와 동시에 진행합니다.
+     * DB 커넥션은 마지막 저장 트랜잭션 동안만 사용합니다.
      */
-    @Transactional
     public SlackIntegrationResponse createManualSlackIntegration(User user, SlackManualSetupRequest request) {
         try {
-            // 1. 토큰 유효성 검증
-            if (!validateSlackToken(request.getUserToken())) {
+            // 1. 토큰 유효성 검증 (auth.test 결과를 사용자 정보 확인에도 재사용)
+            TokenIdentityService.Identity identity = tokenIdentityService.slack(request.getUserToken());
+            if (!identity.isValid()) {
                 throw new RuntimeException("제공된 슬랙 토큰이 유효하지 않습니다.");
             }
+            SlackUserInfo tokenInfo = toSlackUserInfo(identity.getBody());
 
-            // 2. 토큰에서 실제 정보 가져오기 (검증용)
-            SlackUserInfo tokenInfo = getSlackUserInfo(request.getUserToken());
-
-            // 3. 사용자가 입력한 정보와 토큰 정보 비교
+            // 2. 사용자가 입력한 정보와 토큰 정보 비교
             if (!tokenInfo.getUserId().equals(request.getSlackUserId())) {
                 throw new RuntimeException("토큰의 사용자 ID와 입력한 사용자 ID가 일치하지 않습니다.");
             }
@@ -225,17 +246,31 @@ public class SlackManualSetupService {
                 throw new RuntimeException("토큰의 팀 ID와 입력한 팀 ID가 일치하지 않습니다.");
             }
 
-            // 4. 기존 연동 확인
-            Optional<SlackIntegration> existingIntegration = slackIntegrationRepository
-                    .findByTeamIdAndSlackUserId(request.getTeamId(), request.getSlackUserId());
+            // 3. 사용자 이름 조회와 기존 연동 확인을 동시에 진행
+            Tuple2<String, Optional<Long>> lookups = Mono.zip(
+                    fetchSlackUserName(request.getUserToken(), tokenInfo.getUserId()).defaultIfEmpty(""),
+                    Mono.fromCallable(() -> slackIntegrationRepository
+                            .findByTeamIdAndSlackUserId(request.getTeamId(), request.getSlackUserId())
+                            .map(SlackIntegration::getId))
+                            .subscribeOn(Schedulers.boundedElastic()))
+                    .block();
 
-            if (existingIntegration.isPresent()) {
-                // 기존 연동 업데이트
-                return updateExistingManualIntegration(existingIntegration.get(), request, tokenInfo);
-            }
+            tokenInfo.setUserName(lookups.getT1().isEmpty() ? null : lookups.getT1());
+            Optional<Long> existingIntegrationId = lookups.getT2();
 
-            // 5. 새 연동 생성
-            return createNewManualIntegration(user, request, tokenInfo);
+            // 4. 저장만 트랜잭션 안에서 실행
+            return transactionTemplate.execute(status -> {
+                Optional<SlackIntegration> existingIntegration = existingIntegrationId
+                        .flatMap(slackIntegrationRepository::findById);
+
+                if (existingIntegration.isPresent()) {
+                    // 기존 연동 업데이트
+                    return updateExistingManualIntegration(existingIntegration.get(), request, tokenInfo);
+                }
+
+                // 새 연동 생성
+                return createNewManualIntegration(user, request, tokenInfo);
+            });
 
         } catch (Exception e) {
             throw new RuntimeException("슬랙 수동 연동 생성 실패: " + e.getMessage(), e);
@@ -249,6 +284,12 @@ public class SlackManualSetupService {
             SlackManualSetupRequest request,
             SlackUserInfo tokenInfo) {
         try {
+            // 교체되는 이전 토큰의 신원 캐시 제거
+            String previousToken = encryptionUtil.decrypt(integration.getUserToken());
+            if (!request.getUserToken().equals(previousToken)) {
+                tokenIdentityService.invalidateSlack(previousToken);
+            }
+
             // 토큰 및 설정 업데이트
             integration.setUserToken(encryptionUtil.encrypt(request.getUserToken()));
 
@@ -273,15 +314,7 @@ public class SlackManualSetupService {
             service.setLastSyncAt(LocalDateTime.now());
 
             // 설정 정보 업데이트
-            integration.setMonitoringChannels(encryptChannelInfo(request.getMonitoringChannels()));
-            integration.setNotificationSettings(encryptNotificationSettings(request.getNotificationSettings()));
-
-            // 키워드 처리
-            List<String> keywords = null;
-            if (request.getNotificationSettings() != null && request.getNotificationSettings().getKeywords() != null) {
-                keywords = request.getNotificationSettings().getKeywords();
-            }
-            integration.setKeywords(encryptKeywords(keywords));
+            applyEncryptedSettings(integration, request);
 
             // 개별 알림 설정
             if (request.getNotificationSettings() != null) {
@@ -292,6 +325,7 @@ public class SlackManualSetupService {
             }
 
             SlackIntegration savedIntegration = slackIntegrationRepository.save(integration);
+            settingsCache.invalidate(IntegrationSettingsCache.SLACK, savedIntegration.getId());
             return createResponseWithDecryptedData(savedIntegration);
 
         } catch (Exception e) {
@@ -346,15 +380,7 @@ public class SlackManualSetupService {
             slackIntegration.setInstalledAt(LocalDateTime.now());
 
             // 설정 정보 암호화해서 저장
-            slackIntegration.setMonitoringChannels(encryptChannelInfo(request.getMonitoringChannels()));
-            slackIntegration.setNotificationSettings(encryptNotificationSettings(request.getNotificationSettings()));
-
-            // 키워드 처리
-            List<String> keywords = null;
-            if (request.getNotificationSettings() != null && request.getNotificationSettings().getKeywords() != null) {
-                keywords = request.getNotificationSettings().getKeywords();
-            }
-            slackIntegration.setKeywords(encryptKeywords(keywords));
+            applyEncryptedSettings(slackIntegration, request);
 
             // 개별 알림 설정
             if (request.getNotificationSettings() != null) {
@@ -372,24 +398,71 @@ public class SlackManualSetupService {
         }
     }
 
+    /**
+     * 설정 정보 암호화 저장
+     * 설정 문서를 사용하면 하나의 문서로, 아니면 개별 컬럼에 저장합니다.
+     */
+    private void applyEncryptedSettings(SlackIntegration integration, SlackManualSetupRequest request) {
+        // 키워드 처리
+        List<String> keywords = null;
+        if (request.getNotificationSettings() != null && request.getNotificationSettings().getKeywords() != null) {
+            keywords = request.getNotificationSettings().getKeywords();
+        }
+
+        if (settingsDocument.isEnabled()) {
+            Map<String, Object> sections = new LinkedHashMap<>();
+            sections.put(SlackIntegration.SECTION_MONITORING_CHANNELS, request.getMonitoringChannels());
+            sections.put(SlackIntegration.SECTION_NOTIFICATION_SETTINGS, request.getNotificationSettings());
+            sections.put(SlackIntegration.SECTION_KEYWORDS, keywords == null || keywords.isEmpty() ? null : keywords);
+
+            integration.setEncryptedSettings(settingsDocument.seal(sections));
+            integration.setMonitoringChannels(null);
+            integration.setNotificationSettings(null);
+            integration.setKeywords(null);
+        } else {
+            integration.setMonitoringChannels(encryptChannelInfo(request.getMonitoringChannels()));
+            integration.setNotificationSettings(encryptNotificationSettings(request.getNotificationSettings()));
+            integration.setKeywords(encryptKeywords(keywords));
+            integration.setEncryptedSettings(null);
+        }
+    }
+
     /**
      * 복호화된 설정 정보를 포함한 응답 생성
      */
     public SlackIntegrationResponse createResponseWithDecryptedData(SlackIntegration integration) {
         SlackIntegrationResponse response = new SlackIntegrationResponse(integration);
 
+        // 설정 필드는 조회될 때 복호화 (updated_at이 같으면 캐시 재사용)
+        response.setSettingsLoader(() -> settingsCache.get(IntegrationSettingsCache.SLACK, integration.getId(),
+                integration.getUpdatedAt(), () -> decryptSettings(integration)));
+
+        return response;
+    }
+
+    private SlackIntegrationResponse.Settings decryptSettings(SlackIntegration integration) {
         try {
-            // 암호화된 데이터 복호화해서 응답에 추가
-            response.setMonitoringChannels(decryptChannelInfo(integration.getMonitoringChannels()));
-            response.setNotificationSettings(decryptNotificationSettings(integration.getNotificationSettings()));
-            response.setKeywords(decryptKeywords(integration.getKeywords()));
+            if (integration.getEncryptedSettings() != null) {
+                EncryptedSettingsDocument.Sections sections = settingsDocument.open(integration.getEncryptedSettings());
+                return new SlackIntegrationResponse.Settings(
+                        sections.get(SlackIntegration.SECTION_MONITORING_CHANNELS,
+                                new TypeReference<List<SlackManualSetupRequest.ChannelInfo>>() {
+                                }),
+                        sections.get(SlackIntegration.SECTION_NOTIFICATION_SETTINGS,
+                                SlackManualSetupRequest.NotificationSettings.class),
+                        sections.get(SlackIntegration.SECTION_KEYWORDS, new TypeReference<List<String>>() {
+                        }));
+            }
 
+            return new SlackIntegrationResponse.Settings(
+                    decryptChannelInfo(integration.getMonitoringChannels()),
+                    decryptNotificationSettings(integration.getNotificationSettings()),
+                    decryptKeywords(integration.getKeywords()));
         } catch (Exception e) {
             // 복호화 실패해도 기본 정보는 반환
             System.err.println("설정 정보 복호화 실패: " + e.getMessage());
+            return null;
         }
-
-        return response;
     }
 
     /**
@@ -0,0 +1,195 @@
+package com.assistivehub.integration.slack.service;
+
+import com.assistivehub.entity.SlackIntegration;
+import com.assistivehub.entity.SlackMessage;
+import com.assistivehub.util.EncryptedSettingsDocument;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 슬랙 메시지 분류와 slack_messages 배치 저장 (폴링 수집과 Events API 수신이 함께 사용)
+ *
+ * (integration_id, channel_id, message_id) 고유 키로 upsert하므로 같은 메시지가 여러 번 들어와도 한 행만 남습니다.
+ */
+@Component
+public class SlackMessageStore {
+
+    private static final String UPSERT_MESSAGE_SQL = "INSERT INTO slack_messages"
+            + " (integration_id, message_id, channel_id, channel_name, slack_user_id, text, message_type, is_mention,"
+            + " is_direct_message, is_thread, thread_ts, parent_message_id, `timestamp`, created_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE text = VALUES(text), message_type = VALUES(message_type),"
+            + " is_mention = VALUES(is_mention), is_thread = VALUES(is_thread), thread_ts = VALUES(thread_ts)";
+
+    @Autowired
+    private EncryptedSettingsDocument settingsDocument;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${slack.sync.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 연동의 수집 설정 (모니터링 채널은 복호화해 둠)
+     */
+    Subscriber subscriber(SlackIntegration integration) {
+        Map<String, String> legacyColumns = new LinkedHashMap<>();
+        legacyColumns.put(SlackIntegration.SECTION_MONITORING_CHANNELS, integration.getMonitoringChannels());
+        Object channels = settingsDocument.currentSections(integration.getEncryptedSettings(), legacyColumns)
+                .get(SlackIntegration.SECTION_MONITORING_CHANNELS);
+
+        Subscriber subscriber = new Subscriber(integration);
+        if (channels instanceof JsonNode) {
+            for (JsonNode channel : (JsonNode) channels) {
+                String channelId = channel.path("channelId").asText("");
+                if (!channelId.isEmpty()) {
+                    subscriber.channels.put(channelId, channel);
+                }
+            }
+        }
+        return subscriber;
+    }
+
+    /**
+     * 메시지 분류 후 연동/채널 설정에서 켜진 종류면 저장할 행, 아니면 null
+     */
+    MessageRow toRow(Subscriber subscriber, String channelId, JsonNode message) {
+        JsonNode channel = subscriber.channels.getOrDefault(channelId, MissingNode.getInstance());
+        String ts = message.path("ts").asText();
+        String threadTs = message.path("thread_ts").asText(null);
+        String subtype = message.path("subtype").asText(null);
+        String text = message.path("text").asText("");
+
+        boolean mention = subscriber.slackUserId != null && text.contains("<@" + subscriber.slackUserId + ">");
+        boolean directMessage = channelId.startsWith("D");
+        boolean threadReply = threadTs != null && !threadTs.equals(ts);
+
+        SlackMessage.MessageType type;
+        if (subtype != null && !"bot_message".equals(subtype) && !"thread_broadcast".equals(subtype)
+                && !"file_share".equals(subtype)) {
+            type = SlackMessage.MessageType.SYSTEM;
+        } else if (mention) {
+            type = SlackMessage.MessageType.MENTION;
+        } else if (directMessage) {
+            type = SlackMessage.MessageType.DIRECT_MESSAGE;
+        } else if (threadReply) {
+            type = SlackMessage.MessageType.THREAD_REPLY;
+        } else if ("file_share".equals(subtype)) {
+            type = SlackMessage.MessageType.FILE_SHARE;
+        } else {
+            type = SlackMessage.MessageType.MESSAGE;
+        }
+
+        boolean keep = (mention && subscriber.enableMentions && channel.path("enableMentions").asBoolean(true))
+                || (directMessage && subscriber.enableDirectMessages
+                        && channel.path("enableDirectMessages").asBoolean(true))
+                || (threadReply && subscriber.enableThreadReplies)
+                || subscriber.enableChannelMessages;
+        if (!keep) {
+            return null;
+        }
+
+        MessageRow row = new MessageRow();
+        row.integrationId = subscriber.integrationId;
+        row.ts = ts;
+        row.channelId = channelId;
+        row.channelName = channel.path("channelName").asText(null);
+        row.userId = message.path("user").asText(message.path("bot_id").asText(""));
+        row.text = text;
+        row.type = type;
+        row.mention = mention;
+        row.directMessage = directMessage;
+        row.threadTs = threadTs;
+        row.parentTs = threadReply ? threadTs : null;
+        return row;
+    }
+
+    /**
+     * JDBC 배치 upsert (같은 메시지는 마지막 값만 남김)
+     */
+    void upsert(Collection<MessageRow> messages) {
+        Map<String, MessageRow> unique = new LinkedHashMap<>();
+        for (MessageRow message : messages) {
+            unique.put(message.integrationId + " " + message.channelId + " " + message.ts, message);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (MessageRow message : unique.values()) {
+            rows.add(new Object[] { message.integrationId, message.ts, message.channelId, message.channelName,
+                    message.userId, message.text, message.type.name(), message.mention, message.directMessage,
+                    message.threadTs != null, message.threadTs, message.parentTs, toTimestamp(message.ts), now });
+            if (rows.size() >= batchSize) {
+                jdbcTemplate.batchUpdate(UPSERT_MESSAGE_SQL, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_MESSAGE_SQL, rows);
+        }
+    }
+
+    // Slack ts는 "초.마이크로초" 형식
+    static int compareTs(String a, String b) {
+        return new BigDecimal(a).compareTo(new BigDecimal(b));
+    }
+
+    private static Timestamp toTimestamp(String ts) {
+        long micros = new BigDecimal(ts).movePointRight(6).longValue();
+        Instant instant = Instant.ofEpochSecond(micros / 1_000_000, (micros % 1_000_000) * 1000);
+        return Timestamp.valueOf(LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
+    }
+
+    /**
+     * 메시지를 받을 연동과 그 수집 설정
+     */
+    static class Subscriber {
+        final Long integrationId;
+        final String slackUserId;
+        final boolean enableMentions;
+        final boolean enableDirectMessages;
+        final boolean enableThreadReplies;
+        final boolean enableChannelMessages;
+        // 채널 ID -> 모니터링 채널 설정
+        final Map<String, JsonNode> channels = new LinkedHashMap<>();
+
+        private Subscriber(SlackIntegration integration) {
+            this.integrationId = integration.getId();
+            this.slackUserId = integration.getSlackUserId();
+            this.enableMentions = Boolean.TRUE.equals(integration.getEnableMentions());
+            this.enableDirectMessages = Boolean.TRUE.equals(integration.getEnableDirectMessages());
+            this.enableThreadReplies = Boolean.TRUE.equals(integration.getEnableThreadReplies());
+            this.enableChannelMessages = Boolean.TRUE.equals(integration.getEnableChannelMessages());
+        }
+    }
+
+    static class MessageRow {
+        private Long integrationId;
+        private String ts;
+        private String channelId;
+        private String channelName;
+        private String userId;
+        private String text;
+        private SlackMessage.MessageType type;
+        private boolean mention;
+        private boolean directMessage;
+        private String threadTs;
+        private String parentTs;
+    }
+}
@@ -0,0 +1,327 @@
+package com.assistivehub.integration.slack.service;
+
+import com.assistivehub.entity.SlackIntegration;
+import com.assistivehub.integration.common.client.UpstreamSyncClient;
+import com.assistivehub.integration.common.sync.IntegrationSyncHandler;
+import com.assistivehub.repository.SlackIntegrationRepository;
+import com.assistivehub.util.EncryptionUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 슬랙 모니터링 채널의 메시지 수집 (처음에는 initial-lookback-days 만큼 백필, 이후에는 마지막 수집 위치 이후만)
+ *
+ * 채널마다 conversations.history를 커서로 페이지 단위로 읽고, 답글이 달린 메시지는 conversations.replies로 답글까지 읽습니다.
+ * 한 번에 max-pages를 넘으면 남은 커서를 채널별로 저장해 다음 동기화가 이어서 읽습니다.
+ * 같은 워크스페이스(team_id)의 연동은 서버마다 max-concurrent-per-workspace 개까지만 동시에 수집합니다.
+ * 수집 범위 이전에 시작된 스레드에 새로 달린 답글은 가져오지 않습니다.
+ */
+@Service
+public class SlackMessageSyncService implements IntegrationSyncHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(SlackMessageSyncService.class);
+
+    private static final String SLACK_API_URL = "https://slack.com/api";
+
+    // 토큰이 무효하거나 권한이 없어 어떤 채널도 읽을 수 없는 오류
+    private static final Set<String> TOKEN_ERRORS = new HashSet<>(Arrays.asList(
+            "invalid_auth", "not_authed", "token_revoked", "token_expired", "account_inactive",
+            "missing_scope", "not_allowed_token_type", "team_access_not_granted", "ekm_access_denied"));
+
+    private static final String UPSERT_CURSOR_SQL = "INSERT INTO slack_channel_cursors"
+            + " (integration_id, channel_id, latest_ts, pending_cursor, pending_latest_ts, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE latest_ts = VALUES(latest_ts), pending_cursor = VALUES(pending_cursor),"
+            + " pending_latest_ts = VALUES(pending_latest_ts), updated_at = VALUES(updated_at)";
+
+    @Autowired
+    private SlackIntegrationRepository slackIntegrationRepository;
+
+    @Autowired
+    private SlackMessageStore messageStore;
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    private UpstreamSyncClient syncClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${integration.sync.interval-minutes:60}")
+    private long intervalMinutes;
+
+    @Value("${slack.sync.max-concurrent-per-workspace:1}")
+    private int maxConcurrentPerWorkspace;
+
+    @Value("${slack.sync.max-pages:10}")
+    private int maxPages;
+
+    @Value("${slack.sync.initial-lookback-days:7}")
+    private long initialLookbackDays;
+
+    @Autowired
+    public SlackMessageSyncService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String getProvider() {
+        return "slack";
+    }
+
+    @Override
+    public String getTable() {
+        return "slack_integrations";
+    }
+
+    @Override
+    public String getServiceIdColumn() {
+        return "service_id";
+    }
+
+    @Override
+    public List<Long> findDueIntegrationIds(LocalDateTime now) {
+        return slackIntegrationRepository.findIntegrationsNeedingSync(now.minusMinutes(intervalMinutes)).stream()
+                .map(SlackIntegration::getId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 같은 워크스페이스끼리 동시 실행 수 제한 (Slack 요청 한도는 워크스페이스 단위)
+     */
+    @Override
+    public String getConcurrencyKey(Long integrationId) {
+        return jdbcTemplate.queryForObject("SELECT team_id FROM slack_integrations WHERE id = ?", String.class,
+                integrationId);
+    }
+
+    @Override
+    public int getMaxConcurrentPerKey() {
+        return maxConcurrentPerWorkspace;
+    }
+
+    @Override
+    public void sync(Long integrationId) {
+        SlackIntegration integration = slackIntegrationRepository.findById(integrationId)
+                .orElseThrow(() -> new RuntimeException("슬랙 연동을 찾을 수 없습니다."));
+
+        String token = encryptionUtil.decrypt(integration.getUserToken() != null
+                ? integration.getUserToken() : integration.getBotToken());
+        Consumer<HttpHeaders> headers = h -> h.set(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+
+        SlackMessageStore.Subscriber subscriber = messageStore.subscriber(integration);
+        Map<String, Cursor> cursors = loadCursors(integrationId);
+        SyncResult result = new SyncResult();
+
+        for (String channelId : subscriber.channels.keySet()) {
+            try {
+                syncChannel(subscriber, channelId, cursors.get(channelId), headers, result);
+            } catch (SlackApiException e) {
+                // 토큰 자체가 무효하면 남은 채널도 모두 실패하므로 동기화 실패로 처리 (스케줄러가 재시도 간격을 늘림)
+                if (e.isTokenError()) {
+                    throw e;
+                }
+                // 채널에서 나갔거나 삭제된 경우 등은 해당 채널만 건너뜀 (위치는 그대로)
+                log.warn("슬랙 채널 메시지 조회 실패: #{} {} ({})", integrationId, channelId, e.getMessage());
+            }
+        }
+
+        save(integrationId, result);
+    }
+
+    /**
+     * 한 채널의 저장된 위치 이후 메시지 (최신순으로 반환되므로 범위를 다 읽어야 위치를 옮김)
+     */
+    private void syncChannel(SlackMessageStore.Subscriber subscriber, String channelId, Cursor cursor,
+            Consumer<HttpHeaders> headers, SyncResult result) {
+        String oldest = cursor != null && cursor.latestTs != null ? cursor.latestTs : initialOldest();
+        String pageCursor = cursor != null ? cursor.pendingCursor : null;
+        String newest = cursor != null && cursor.pendingCursor != null ? cursor.pendingLatestTs : null;
+
+        boolean complete = false;
+        for (int page = 0; page < maxPages; page++) {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(SLACK_API_URL)
+                    .path("/conversations.history")
+                    .queryParam("channel", channelId)
+                    .queryParam("oldest", oldest)
+                    .queryParam("limit", 200);
+            if (pageCursor != null) {
+                builder.queryParam("cursor", pageCursor);
+            }
+            JsonNode response = call(builder, headers);
+
+            for (JsonNode message : response.path("messages")) {
+                String ts = message.path("ts").asText();
+                addMessage(subscriber, channelId, message, result);
+                if (newest == null || SlackMessageStore.compareTs(ts, newest) > 0) {
+                    newest = ts;
+                }
+                if (message.path("reply_count").asInt(0) > 0 && ts.equals(message.path("thread_ts").asText())
+                        && subscriber.enableThreadReplies) {
+                    syncReplies(subscriber, channelId, ts, headers, result);
+                }
+            }
+
+            pageCursor = response.path("response_metadata").path("next_cursor").asText("");
+            if (!response.path("has_more").asBoolean() || pageCursor.isEmpty()) {
+                complete = true;
+                break;
+            }
+        }
+
+        if (complete) {
+            String latestTs = newest != null && SlackMessageStore.compareTs(newest, oldest) > 0 ? newest : oldest;
+            result.cursors.add(new Cursor(channelId, latestTs, null, null));
+        } else {
+            // 페이지 상한에 걸림: 같은 oldest로 남은 페이지를 다음 동기화에서 이어서 읽음
+            result.cursors.add(new Cursor(channelId, oldest, pageCursor, newest));
+        }
+    }
+
+    /**
+     * 스레드 답글 (첫 항목은 원본 메시지라 제외)
+     */
+    private void syncReplies(SlackMessageStore.Subscriber subscriber, String channelId, String threadTs,
+            Consumer<HttpHeaders> headers, SyncResult result) {
+        String pageCursor = null;
+        for (int page = 0; page < maxPages; page++) {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(SLACK_API_URL)
+                    .path("/conversations.replies")
+                    .queryParam("channel", channelId)
+                    .queryParam("ts", threadTs)
+                    .queryParam("limit", 200);
+            if (pageCursor != null) {
+                builder.queryParam("cursor", pageCursor);
+            }
+            JsonNode response = call(builder, headers);
+
+            for (JsonNode message : response.path("messages")) {
+                if (!threadTs.equals(message.path("ts").asText())) {
+                    addMessage(subscriber, channelId, message, result);
+                }
+            }
+
+            pageCursor = response.path("response_metadata").path("next_cursor").asText("");
+            if (!response.path("has_more").asBoolean() || pageCursor.isEmpty()) {
+                break;
+            }
+        }
+    }
+
+    private JsonNode call(UriComponentsBuilder builder, Consumer<HttpHeaders> headers) {
+        JsonNode response = syncClient.get(SLACK_API_URL, builder.encode().build().toUri(), headers, null).getBody();
+        if (!response.path("ok").asBoolean()) {
+            throw new SlackApiException(response.path("error").asText("unknown_error"));
+        }
+        return response;
+    }
+
+    private void addMessage(SlackMessageStore.Subscriber subscriber, String channelId, JsonNode message,
+            SyncResult result) {
+        SlackMessageStore.MessageRow row = messageStore.toRow(subscriber, channelId, message);
+        if (row != null) {
+            result.messages.add(row);
+        }
+    }
+
+    private Map<String, Cursor> loadCursors(Long integrationId) {
+        Map<String, Cursor> cursors = new HashMap<>();
+        jdbcTemplate.query("SELECT channel_id, latest_ts, pending_cursor, pending_latest_ts FROM slack_channel_cursors"
+                + " WHERE integration_id = ?", rs -> {
+                    Cursor cursor = new Cursor(rs.getString("channel_id"), rs.getString("latest_ts"),
+                            rs.getString("pending_cursor"), rs.getString("pending_latest_ts"));
+                    cursors.put(cursor.channelId, cursor);
+                }, integrationId);
+        return cursors;
+    }
+
+    /**
+     * 메시지 upsert, 채널별 위치 갱신, last_sync_at 기록을 한 트랜잭션으로 저장
+     */
+    private void save(Long integrationId, SyncResult result) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.execute(status -> {
+            messageStore.upsert(result.messages);
+
+            List<Object[]> cursorRows = new ArrayList<>();
+            for (Cursor cursor : result.cursors) {
+                cursorRows.add(new Object[] { integrationId, cursor.channelId, cursor.latestTs, cursor.pendingCursor,
+                        cursor.pendingLatestTs, now });
+            }
+            if (!cursorRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_CURSOR_SQL, cursorRows);
+            }
+
+            jdbcTemplate.update("UPDATE slack_integrations SET last_sync_at = ? WHERE id = ?", now, integrationId);
+            return null;
+        });
+    }
+
+    private String initialOldest() {
+        return Instant.now().minus(initialLookbackDays, ChronoUnit.DAYS).getEpochSecond() + ".000000";
+    }
+
+    /**
+     * Slack API가 ok=false로 응답한 경우
+     */
+    private static class SlackApiException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private SlackApiException(String error) {
+            super(error);
+        }
+
+        /**
+         * 채널과 무관하게 토큰/워크스페이스 단위로 거절된 경우
+         */
+        private boolean isTokenError() {
+            return TOKEN_ERRORS.contains(getMessage());
+        }
+    }
+
+    private static class Cursor {
+        private final String channelId;
+        private final String latestTs;
+        private final String pendingCursor;
+        private final String pendingLatestTs;
+
+        private Cursor(String channelId, String latestTs, String pendingCursor, String pendingLatestTs) {
+            this.channelId = channelId;
+            this.latestTs = latestTs;
+            this.pendingCursor = pendingCursor;
+            this.pendingLatestTs = pendingLatestTs;
+        }
+    }
+
+    private static class SyncResult {
+        private final List<SlackMessageStore.MessageRow> messages = new ArrayList<>();
+        private final List<Cursor> cursors = new ArrayList<>();
+    }
+}
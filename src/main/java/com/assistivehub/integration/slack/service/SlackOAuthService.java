@@ -5,6 +5,8 @@ import com.assistivehub.entity.SlackIntegration;
 import com.assistivehub.entity.User;
 import com.assistivehub.repository.IntegratedServiceRepository;
 import com.assistivehub.repository.SlackIntegrationRepository;
+import com.assistivehub.integration.common.client.UpstreamClientRegistry;
+import com.assistivehub.integration.common.service.TokenIdentityService;
 import com.assistivehub.util.EncryptionUtil;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,6 +20,7 @@ import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,15 +46,25 @@ public class SlackOAuthService {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
-    private final WebClient webClient;
+    @Autowired
+    private UpstreamClientRegistry upstreamClients;
+
+    @Autowired
+    private TokenIdentityService tokenIdentityService;
+
+    private WebClient webClient;
     private final ObjectMapper objectMapper;
 
     public SlackOAuthService() {
-        this.webClient = WebClient.builder()
-                .baseUrl("https://slack.com/api")
+        this.objectMapper = new ObjectMapper();
+    }
+
+    @PostConstruct
+    public void init() {
+        this.webClient = upstreamClients.client("https://slack.com/api")
+                .mutate()
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
                 .build();
-        this.objectMapper = new ObjectMapper();
     }
 
     /**
@@ -226,6 +239,7 @@ public class SlackOAuthService {
         try {
             // 슬랙 토큰 해제 (선택사항)
             String decryptedToken = encryptionUtil.decrypt(integration.getUserToken());
+            tokenIdentityService.invalidateSlack(decryptedToken);
 
             webClient.post()
                     .uri("/auth.revoke")
@@ -249,18 +263,7 @@ public class SlackOAuthService {
      */
     public boolean validateIntegration(SlackIntegration integration) {
         try {
-            String decryptedToken = encryptionUtil.decrypt(integration.getUserToken());
-
-            String response = webClient.get()
-                    .uri("/auth.test")
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + decryptedToken)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode responseJson = objectMapper.readTree(response);
-            return responseJson.get("ok").asBoolean();
-
+            return tokenIdentityService.slack(encryptionUtil.decrypt(integration.getUserToken())).isValid();
         } catch (Exception e) {
             return false;
         }
@@ -65,4 +65,10 @@ public interface GitHubIntegrationRepository extends JpaRepository<GitHubIntegra
      */
     @Query("SELECT g FROM GitHubIntegration g WHERE g.webhookEnabled = true AND g.integratedService.isActive = true")
     List<GitHubIntegration> findWebhookEnabledIntegrations();
+
+    /**
+     * 웹훅이 활성화된 연동 조회 (웹훅 수신 시 서명 secret 확인용)
+     */
+    @Query("SELECT g FROM GitHubIntegration g WHERE g.id = :integrationId AND g.webhookEnabled = true AND g.integratedService.isActive = true")
+    Optional<GitHubIntegration> findWebhookEnabledById(@Param("integrationId") Long integrationId);
 }
\ No newline at end of file
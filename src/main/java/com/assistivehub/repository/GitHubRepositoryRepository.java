@@ -47,4 +47,10 @@ public interface GitHubRepositoryRepository extends JpaRepository<GitHubReposito
      * GitHub 사용자 ID로 리포지토리 목록 조회
      */
     List<GitHubRepository> findByGithubUserId(String githubUserId);
+
+    /**
+     * 특정 시간 이후 동기화되지 않은 자동 동기화 리포지토리 조회
+     */
+    @Query("SELECT g FROM GitHubRepository g WHERE g.autoSyncEnabled = true AND g.integratedService.isActive = true AND (g.lastSyncAt IS NULL OR g.lastSyncAt < :syncTime)")
+    List<GitHubRepository> findRepositoriesNeedingSync(@Param("syncTime") java.time.LocalDateTime syncTime);
 }
\ No newline at end of file
@@ -46,4 +46,16 @@ public interface SlackIntegrationRepository extends JpaRepository<SlackIntegrati
     @Query("SELECT s FROM SlackIntegration s WHERE s.integratedService.user.id = :userId AND s.id = :integrationId")
     Optional<SlackIntegration> findByUserIdAndIntegrationId(@Param("userId") Long userId,
             @Param("integrationId") Long integrationId);
+
+    /**
+     * 특정 시간 이후 메시지를 수집하지 않은 연동들 조회
+     */
+    @Query("SELECT s FROM SlackIntegration s WHERE s.integratedService.isActive = true AND (s.lastSyncAt IS NULL OR s.lastSyncAt < :syncTime)")
+    List<SlackIntegration> findIntegrationsNeedingSync(@Param("syncTime") java.time.LocalDateTime syncTime);
+
+    /**
+     * 특정 팀의 활성 연동 조회 (Events API 수신)
+     */
+    @Query("SELECT s FROM SlackIntegration s WHERE s.teamId = :teamId AND s.integratedService.isActive = true")
+    List<SlackIntegration> findActiveByTeamId(@Param("teamId") String teamId);
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.assistivehub.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 운영 API(외부 API 토큰별 상태, 서킷 재개 등)를 쓸 수 있는 관리자 사용자 목록
+ * 사용자 역할이 따로 없으므로 upstream.admin-user-ids에 설정한 사용자 ID로 판단합니다.
+ */
+@Component
+public class AdminUsers {
+
+    // 쉼표로 구분한 사용자 ID 목록 (비어 있으면 관리자 없음)
+    @Value("${upstream.admin-user-ids:}")
+    private String adminUserIds;
+
+    private final Set<Long> userIds = new HashSet<>();
+
+    @PostConstruct
+    public void init() {
+        for (String id : adminUserIds.split(",")) {
+            if (!id.trim().isEmpty()) {
+                userIds.add(Long.parseLong(id.trim()));
+            }
+        }
+    }
+
+    public boolean isAdmin(Long userId) {
+        return userId != null && userIds.contains(userId);
+    }
+
+    /**
+     * 관리자가 아니면 예외
+     */
+    public void requireAdmin(Long userId) {
+        if (!isAdmin(userId)) {
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.assistivehub.security;
+
+import com.assistivehub.entity.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JWT 필터가 요청마다 한 번 만들어 SecurityContext에 올려두는 인증 주체.
+ * 컨트롤러는 DB 조회 없이 이 객체에서 사용자 ID를 꺼내 사용합니다.
+ */
+public class AuthenticatedUser {
+
+    private final Long userId;
+    private final String email;
+    private final User.UserStatus status;
+
+    public AuthenticatedUser(Long userId, String email, User.UserStatus status) {
+        this.userId = userId;
+        this.email = email;
+        this.status = status;
+    }
+
+    /**
+     * 현재 요청의 인증 주체 조회 (인증되지 않은 경우 예외)
+     */
+    public static AuthenticatedUser current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser)) {
+            throw new RuntimeException("인증 토큰이 필요합니다.");
+        }
+        return (AuthenticatedUser) authentication.getPrincipal();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public User.UserStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,91 @@
+package com.assistivehub.security;
+
+import com.assistivehub.entity.User;
+import com.assistivehub.repository.UserRepository;
+import com.assistivehub.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Authorization 헤더의 JWT를 요청당 한 번만 검증하고 인증 주체를 등록하는 필터.
+ * 토큰에 서명된 userId/status 클레임을 그대로 사용하므로 사용자 테이블을 조회하지 않습니다.
+ */
+@Component
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String token = extractTokenFromRequest(request);
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            try {
+                Claims claims = jwtUtil.extractAllClaims(token);
+                AuthenticatedUser principal = toPrincipal(claims);
+
+                if (principal != null) {
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            principal, null, Collections.emptyList());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                // 유효하지 않은 토큰은 인증 없이 통과시키고, 컨트롤러에서 인증 필요 오류로 처리
+                logger.debug("JWT 검증 실패: " + e.getMessage());
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 클레임에서 인증 주체 생성
+     */
+    private AuthenticatedUser toPrincipal(Claims claims) {
+        String email = claims.getSubject();
+        Long userId = claims.get(JwtUtil.CLAIM_USER_ID, Long.class);
+        String status = claims.get(JwtUtil.CLAIM_STATUS, String.class);
+
+        if (userId != null) {
+            return new AuthenticatedUser(userId, email,
+                    status != null ? User.UserStatus.valueOf(status) : User.UserStatus.ACTIVE);
+        }
+
+        // userId 클레임이 없는 이전 형식의 토큰은 만료 전까지 이메일로 한 번 조회
+        Optional<User> user = userRepository.findByEmail(email);
+        return user.map(u -> new AuthenticatedUser(u.getId(), u.getEmail(), u.getStatus())).orElse(null);
+    }
+
+    /**
+     * 요청 헤더에서 JWT 토큰 추출
+     */
+    private String extractTokenFromRequest(HttpServletRequest request) {
+        String bearerToken = request.getHeader("Authorization");
+        if (bearerToken != null && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+}
@@ -5,8 +5,14 @@ import com.assistivehub.dto.GitHubRepositoryResponse;
 import com.assistivehub.entity.GitHubRepository;
 import com.assistivehub.entity.IntegratedService;
 import com.assistivehub.entity.User;
+import com.assistivehub.integration.common.client.UpstreamClientRegistry;
+import com.assistivehub.integration.common.client.UpstreamPage;
+import com.assistivehub.integration.common.client.UpstreamResponseCache;
+import com.assistivehub.integration.github.service.GitHubActivitySyncService;
+import com.assistivehub.integration.github.dto.GitHubRepositorySummary;
 import com.assistivehub.repository.GitHubRepositoryRepository;
 import com.assistivehub.repository.IntegratedServiceRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,10 +21,17 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import javax.annotation.PostConstruct;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -33,25 +46,41 @@ public class GitHubRepositoryService {
     @Autowired
     private IntegratedServiceRepository integratedServiceRepository;
 
+    @Autowired
+    private UpstreamClientRegistry upstreamClients;
+
+    @Autowired
+    private UpstreamResponseCache responseCache;
+
+    @Autowired
+    private GitHubActivitySyncService activitySyncService;
+
     @Value("${github.client.id}")
     private String githubClientId;
 
     @Value("${github.client.secret}")
     private String githubClientSecret;
 
-    private final WebClient webClient;
+    @Value("${github.repositories.max-pages:50}")
+    private long repositoryMaxPages;
+
+    private WebClient webClient;
     private final ObjectMapper objectMapper;
 
+    private static final String GITHUB_API_URL = "https://api.github.com";
+
     // GitHub URL 패턴 (https://github.com/owner/repo 형태)
     private static final Pattern GITHUB_URL_PATTERN = Pattern.compile("https://github\\.com/([^/]+)/([^/]+)/?");
 
     public GitHubRepositoryService() {
-        this.webClient = WebClient.builder()
-                .baseUrl("https://api.github.com")
-                .build();
         this.objectMapper = new ObjectMapper();
     }
 
+    @PostConstruct
+    public void init() {
+        this.webClient = upstreamClients.client(GITHUB_API_URL);
+    }
+
     /**
      * 사용자의 모든 GitHub 리포지토리 조회
      */
@@ -152,6 +181,7 @@ public class GitHubRepositoryService {
                 repositoryId);
         if (repository.isPresent()) {
             gitHubRepositoryRepository.delete(repository.get());
+            activitySyncService.deleteActivities(repositoryId);
         } else {
             throw new RuntimeException("리포지토리를 찾을 수 없습니다.");
         }
@@ -181,9 +211,9 @@ public class GitHubRepositoryService {
      */
     public String exchangeCodeForToken(String code) {
         try {
-            String response = WebClient.create()
+            String response = upstreamClients.client("https://github.com")
                     .post()
-                    .uri("https://github.com/login/oauth/access_token")
+                    .uri("/login/oauth/access_token")
                     .header(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded")
                     .header(HttpHeaders.ACCEPT, "application/json")
                     .bodyValue("client_id=" + githubClientId +
@@ -209,72 +239,64 @@ public class GitHubRepositoryService {
     /**
      * GitHub API로 사용자의 리포지토리 목록 조회 (추가 상태 포함)
      */
-    public List<java.util.Map<String, Object>> fetchGitHubRepositoriesWithStatus(String accessToken, Long userId) {
+    public List<GitHubRepositorySummary> fetchGitHubRepositoriesWithStatus(String accessToken, Long userId) {
         try {
-            // 기존 리포지토리 목록 조회
-            List<java.util.Map<String, Object>> repositories = fetchGitHubRepositories(accessToken);
-
-            // 이미 추가된 리포지토리 목록 조회
-            List<GitHubRepository> existingRepos = gitHubRepositoryRepository.findByUserId(userId);
-            java.util.Set<String> existingRepoUrls = existingRepos.stream()
-                    .map(GitHubRepository::getRepositoryUrl)
-                    .collect(java.util.stream.Collectors.toSet());
-
-            // 각 리포지토리에 추가 상태 정보 포함
-            for (java.util.Map<String, Object> repo : repositories) {
-                String htmlUrl = (String) repo.get("html_url");
-                boolean isAlreadyAdded = existingRepoUrls.contains(htmlUrl);
-                repo.put("is_already_added", isAlreadyAdded);
-            }
-
-            return repositories;
+            return streamGitHubRepositoriesWithStatus(accessToken, userId).collectList().block();
         } catch (Exception e) {
             throw new RuntimeException("Failed to fetch GitHub repositories with status: " + e.getMessage());
         }
     }
 
     /**
-     * GitHub API로 사용자의 리포지토리 목록 조회
+     * GitHub API로 사용자의 리포지토리 목록을 페이지별로 스트리밍 (추가 상태 포함)
+     * 이미 추가된 리포지토리 URL은 구독 전에 한 번만 조회합니다.
      */
-    public List<java.util.Map<String, Object>> fetchGitHubRepositories(String accessToken) {
-        try {
-            String response = webClient.get()
-                    .uri("/user/repos?sort=updated&per_page=100")
-                    .header(HttpHeaders.AUTHORIZATION, "token " + accessToken)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+    @Transactional(readOnly = true)
+    public Flux<GitHubRepositorySummary> streamGitHubRepositoriesWithStatus(String accessToken, Long userId) {
+        Set<String> existingRepoUrls = gitHubRepositoryRepository.findByUserId(userId).stream()
+                .map(GitHubRepository::getRepositoryUrl)
+                .collect(Collectors.toSet());
 
-            JsonNode repositoriesNode = objectMapper.readTree(response);
-            java.util.List<java.util.Map<String, Object>> repositories = new java.util.ArrayList<>();
-
-            for (JsonNode repoNode : repositoriesNode) {
-                java.util.Map<String, Object> repo = new java.util.HashMap<>();
-                repo.put("id", repoNode.get("id").asLong());
-                repo.put("name", repoNode.get("name").asText());
-                repo.put("full_name", repoNode.get("full_name").asText());
-                repo.put("html_url", repoNode.get("html_url").asText());
-                repo.put("description",
-                        repoNode.has("description") && !repoNode.get("description").isNull()
-                                ? repoNode.get("description").asText()
-                                : null);
-                repo.put("private", repoNode.get("private").asBoolean());
-                repo.put("language",
-                        repoNode.has("language") && !repoNode.get("language").isNull()
-                                ? repoNode.get("language").asText()
-                                : null);
-                repo.put("stargazers_count", repoNode.get("stargazers_count").asInt());
-                repo.put("updated_at", repoNode.get("updated_at").asText());
-
-                repositories.add(repo);
-            }
+        return streamGitHubRepositories(accessToken)
+                .map(repo -> repo.withAlreadyAdded(existingRepoUrls.contains(repo.getHtmlUrl())));
+    }
 
-            return repositories;
+    /**
+     * GitHub API로 사용자의 리포지토리 목록 조회
+     */
+    public List<GitHubRepositorySummary> fetchGitHubRepositories(String accessToken) {
+        try {
+            return streamGitHubRepositories(accessToken).collectList().block();
         } catch (Exception e) {
             throw new RuntimeException("Failed to fetch GitHub repositories: " + e.getMessage());
         }
     }
 
+    /**
+     * Link 헤더의 next를 따라 모든 페이지를 순서대로 조회
+     * 한 페이지를 내보내는 즉시 다음 페이지 요청을 시작하므로 처리와 다음 페이지 다운로드가 겹칩니다.
+     */
+    public Flux<GitHubRepositorySummary> streamGitHubRepositories(String accessToken) {
+        return fetchRepositoryPage(accessToken, uriBuilder -> uriBuilder
+                .path("/user/repos")
+                .queryParam("sort", "updated")
+                .queryParam("per_page", 100)
+                .build())
+                .expand(page -> page.hasNext()
+                        ? fetchRepositoryPage(accessToken, uriBuilder -> URI.create(page.getNextUrl()))
+                        : Mono.empty())
+                .take(repositoryMaxPages)
+                .concatMapIterable(UpstreamPage::getBody);
+    }
+
+    private Mono<UpstreamPage<List<GitHubRepositorySummary>>> fetchRepositoryPage(String accessToken,
+            Function<UriBuilder, URI> uriFunction) {
+        return responseCache.getPage(GITHUB_API_URL, uriFunction, accessToken,
+                headers -> headers.set(HttpHeaders.AUTHORIZATION, "token " + accessToken),
+                new TypeReference<List<GitHubRepositorySummary>>() {
+                });
+    }
+
     /**
      * GitHub URL 파싱
      */
@@ -300,11 +322,9 @@ public class GitHubRepositoryService {
      */
     private RepositoryInfo fetchRepositoryInfo(String accessToken, String owner, String repo) {
         try {
-            String response = webClient.get()
-                    .uri("/repos/{owner}/{repo}", owner, repo)
-                    .header(HttpHeaders.AUTHORIZATION, "token " + accessToken)
-                    .retrieve()
-                    .bodyToMono(String.class)
+            String response = responseCache.get(GITHUB_API_URL,
+                    uriBuilder -> uriBuilder.path("/repos/{owner}/{repo}").build(owner, repo),
+                    accessToken, headers -> headers.set(HttpHeaders.AUTHORIZATION, "token " + accessToken))
                     .block();
 
             JsonNode jsonNode = objectMapper.readTree(response);
@@ -1,16 +1,25 @@
 package com.assistivehub.service;
 
 import com.assistivehub.entity.GitLabIntegration;
+import com.assistivehub.integration.gitlab.dto.GitLabCommit;
+import com.assistivehub.integration.gitlab.dto.GitLabIssue;
+import com.assistivehub.integration.gitlab.dto.GitLabMergeRequest;
+import com.assistivehub.integration.common.client.UpstreamResponseCache;
 import com.assistivehub.repository.GitLabIntegrationRepository;
 import com.assistivehub.util.EncryptionUtil;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpHeaders;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,6 +31,12 @@ public class GitLabRepositoryService {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
+    @Autowired
+    private UpstreamResponseCache responseCache;
+
+    @Value("${gitlab.dashboard.section-timeout-ms:5000}")
+    private long dashboardSectionTimeoutMs;
+
     private final ObjectMapper objectMapper;
 
     public GitLabRepositoryService() {
@@ -39,327 +54,259 @@ public class GitLabRepositoryService {
         return integrations.get(0); // 첫 번째 활성 연동 사용
     }
 
+    /**
+     * 연동 조회와 토큰 복호화를 한 번만 수행하여 API 호출 정보 생성
+     */
+    private GitLabApi resolveApi(Long userId) {
+        GitLabIntegration integration = getUserGitLabIntegration(userId);
+        String accessToken = encryptionUtil.decrypt(integration.getAccessToken());
+        return new GitLabApi(integration.getGitlabUrl() + "/api/v4", accessToken);
+    }
+
     /**
      * GitLab 프로젝트 상세 정보 조회
      */
-    public Map<String, Object> fetchProjectDetails(Long userId, String projectId) {
-        try {
-            GitLabIntegration integration = getUserGitLabIntegration(userId);
-            String accessToken = encryptionUtil.decrypt(integration.getAccessToken());
-            String gitlabUrl = integration.getGitlabUrl();
-
-            WebClient webClient = WebClient.builder()
-                    .baseUrl(gitlabUrl + "/api/v4")
-                    .build();
-
-            String response = webClient.get()
-                    .uri("/projects/{id}", projectId)
-                    .header("Private-Token", accessToken)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode projectJson = objectMapper.readTree(response);
-
-            Map<String, Object> projectDetails = new HashMap<>();
-            projectDetails.put("id", projectJson.get("id").asLong());
-            projectDetails.put("name", projectJson.get("name").asText());
-            projectDetails.put("path_with_namespace", projectJson.get("path_with_namespace").asText());
-            projectDetails.put("description", projectJson.has("description") && !projectJson.get("description").isNull()
-                    ? projectJson.get("description").asText()
+    public Mono<Map<String, Object>> fetchProjectDetails(Long userId, String projectId) {
+        return Mono.defer(() -> fetchProjectDetails(resolveApi(userId), projectId));
+    }
+
+    private Mono<Map<String, Object>> fetchProjectDetails(GitLabApi api, String projectId) {
+        return responseCache.get(api.baseUrl, uriBuilder -> uriBuilder.path("/projects/{id}").build(projectId),
+                api.accessToken, headers -> headers.set("Private-Token", api.accessToken))
+                .flatMap(response -> Mono.fromCallable(() -> parseProjectDetails(response)))
+                .onErrorMap(e -> new RuntimeException("GitLab 프로젝트 정보를 가져올 수 없습니다: " + e.getMessage(), e));
+    }
+
+    private Map<String, Object> parseProjectDetails(String response) throws IOException {
+        JsonNode projectJson = objectMapper.readTree(response);
+
+        Map<String, Object> projectDetails = new HashMap<>();
+        projectDetails.put("id", projectJson.get("id").asLong());
+        projectDetails.put("name", projectJson.get("name").asText());
+        projectDetails.put("path_with_namespace", projectJson.get("path_with_namespace").asText());
+        projectDetails.put("description", projectJson.has("description") && !projectJson.get("description").isNull()
+                ? projectJson.get("description").asText()
+                : "");
+        projectDetails.put("web_url", projectJson.get("web_url").asText());
+        projectDetails.put("http_url_to_repo", projectJson.get("http_url_to_repo").asText());
+        projectDetails.put("default_branch", projectJson.get("default_branch").asText());
+        projectDetails.put("visibility", projectJson.get("visibility").asText());
+        projectDetails.put("created_at", projectJson.get("created_at").asText());
+        projectDetails.put("last_activity_at", projectJson.get("last_activity_at").asText());
+        projectDetails.put("star_count", projectJson.get("star_count").asInt());
+        projectDetails.put("forks_count", projectJson.get("forks_count").asInt());
+        projectDetails.put("open_issues_count", projectJson.get("open_issues_count").asInt());
+
+        // 네임스페이스 정보
+        if (projectJson.has("namespace")) {
+            JsonNode namespace = projectJson.get("namespace");
+            Map<String, Object> namespaceInfo = new HashMap<>();
+            namespaceInfo.put("name", namespace.get("name").asText());
+            namespaceInfo.put("path", namespace.get("path").asText());
+            namespaceInfo.put("avatar_url", namespace.has("avatar_url") && !namespace.get("avatar_url").isNull()
+                    ? namespace.get("avatar_url").asText()
                     : "");
-            projectDetails.put("web_url", projectJson.get("web_url").asText());
-            projectDetails.put("http_url_to_repo", projectJson.get("http_url_to_repo").asText());
-            projectDetails.put("default_branch", projectJson.get("default_branch").asText());
-            projectDetails.put("visibility", projectJson.get("visibility").asText());
-            projectDetails.put("created_at", projectJson.get("created_at").asText());
-            projectDetails.put("last_activity_at", projectJson.get("last_activity_at").asText());
-            projectDetails.put("star_count", projectJson.get("star_count").asInt());
-            projectDetails.put("forks_count", projectJson.get("forks_count").asInt());
-            projectDetails.put("open_issues_count", projectJson.get("open_issues_count").asInt());
-
-            // 네임스페이스 정보
-            if (projectJson.has("namespace")) {
-                JsonNode namespace = projectJson.get("namespace");
-                Map<String, Object> namespaceInfo = new HashMap<>();
-                namespaceInfo.put("name", namespace.get("name").asText());
-                namespaceInfo.put("path", namespace.get("path").asText());
-                namespaceInfo.put("avatar_url", namespace.has("avatar_url") && !namespace.get("avatar_url").isNull()
-                        ? namespace.get("avatar_url").asText()
-                        : "");
-                projectDetails.put("namespace", namespaceInfo);
-            }
-
-            return projectDetails;
-
-        } catch (Exception e) {
-            throw new RuntimeException("GitLab 프로젝트 정보를 가져올 수 없습니다: " + e.getMessage(), e);
+            projectDetails.put("namespace", namespaceInfo);
         }
+
+        return projectDetails;
     }
 
     /**
      * GitLab 프로젝트 커밋 목록 조회
      */
-    public List<Map<String, Object>> fetchProjectCommits(Long userId, String projectId, int page, int perPage) {
-        try {
-            GitLabIntegration integration = getUserGitLabIntegration(userId);
-            String accessToken = encryptionUtil.decrypt(integration.getAccessToken());
-            String gitlabUrl = integration.getGitlabUrl();
-
-            WebClient webClient = WebClient.builder()
-                    .baseUrl(gitlabUrl + "/api/v4")
-                    .build();
-
-            String response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/projects/{id}/repository/commits")
-                            .queryParam("page", page)
-                            .queryParam("per_page", perPage)
-                            .build(projectId))
-                    .header("Private-Token", accessToken)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode commitsArray = objectMapper.readTree(response);
-            List<Map<String, Object>> commits = new ArrayList<>();
-
-            for (JsonNode commitNode : commitsArray) {
-                Map<String, Object> commit = new HashMap<>();
-                commit.put("id", commitNode.get("id").asText());
-                commit.put("short_id", commitNode.get("short_id").asText());
-                commit.put("title", commitNode.get("title").asText());
-                commit.put("message", commitNode.get("message").asText());
-                commit.put("author_name", commitNode.get("author_name").asText());
-                commit.put("author_email", commitNode.get("author_email").asText());
-                commit.put("created_at", commitNode.get("created_at").asText());
-                commit.put("web_url", commitNode.get("web_url").asText());
-
-                commits.add(commit);
-            }
-
-            return commits;
-
-        } catch (Exception e) {
-            throw new RuntimeException("GitLab 커밋 목록을 가져올 수 없습니다: " + e.getMessage(), e);
-        }
+    public Mono<List<GitLabCommit>> fetchProjectCommits(Long userId, String projectId, int page, int perPage) {
+        return Mono.defer(() -> fetchProjectCommits(resolveApi(userId), projectId, page, perPage));
+    }
+
+    private Mono<List<GitLabCommit>> fetchProjectCommits(GitLabApi api, String projectId, int page, int perPage) {
+        return responseCache.get(api.baseUrl, uriBuilder -> uriBuilder
+                        .path("/projects/{id}/repository/commits")
+                        .queryParam("page", page)
+                        .queryParam("per_page", perPage)
+                        .build(projectId),
+                api.accessToken, headers -> headers.set("Private-Token", api.accessToken),
+                new TypeReference<List<GitLabCommit>>() {
+                })
+                .onErrorMap(e -> new RuntimeException("GitLab 커밋 목록을 가져올 수 없습니다: " + e.getMessage(), e));
     }
 
     /**
      * GitLab 프로젝트 기여자 목록 조회
      */
-    public List<Map<String, Object>> fetchProjectContributors(Long userId, String projectId) {
-        try {
-            GitLabIntegration integration = getUserGitLabIntegration(userId);
-            String accessToken = encryptionUtil.decrypt(integration.getAccessToken());
-            String gitlabUrl = integration.getGitlabUrl();
-
-            WebClient webClient = WebClient.builder()
-                    .baseUrl(gitlabUrl + "/api/v4")
-                    .build();
-
-            String response = webClient.get()
-                    .uri("/projects/{id}/repository/contributors", projectId)
-                    .header("Private-Token", accessToken)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode contributorsArray = objectMapper.readTree(response);
-            List<Map<String, Object>> contributors = new ArrayList<>();
-
-            for (JsonNode contributorNode : contributorsArray) {
-                Map<String, Object> contributor = new HashMap<>();
-                contributor.put("name", contributorNode.get("name").asText());
-                contributor.put("email", contributorNode.get("email").asText());
-                contributor.put("commits", contributorNode.get("commits").asInt());
-                contributor.put("additions", contributorNode.get("additions").asInt());
-                contributor.put("deletions", contributorNode.get("deletions").asInt());
-
-                contributors.add(contributor);
-            }
-
-            return contributors;
-
-        } catch (Exception e) {
-            throw new RuntimeException("GitLab 기여자 목록을 가져올 수 없습니다: " + e.getMessage(), e);
+    public Mono<List<Map<String, Object>>> fetchProjectContributors(Long userId, String projectId) {
+        return Mono.defer(() -> fetchProjectContributors(resolveApi(userId), projectId));
+    }
+
+    private Mono<List<Map<String, Object>>> fetchProjectContributors(GitLabApi api, String projectId) {
+        return responseCache.get(api.baseUrl, uriBuilder -> uriBuilder.path("/projects/{id}/repository/contributors").build(projectId),
+                api.accessToken, headers -> headers.set("Private-Token", api.accessToken))
+                .flatMap(response -> Mono.fromCallable(() -> parseProjectContributors(response)))
+                .onErrorMap(e -> new RuntimeException("GitLab 기여자 목록을 가져올 수 없습니다: " + e.getMessage(), e));
+    }
+
+    private List<Map<String, Object>> parseProjectContributors(String response) throws IOException {
+        JsonNode contributorsArray = objectMapper.readTree(response);
+        List<Map<String, Object>> contributors = new ArrayList<>();
+
+        for (JsonNode contributorNode : contributorsArray) {
+            Map<String, Object> contributor = new HashMap<>();
+            contributor.put("name", contributorNode.get("name").asText());
+            contributor.put("email", contributorNode.get("email").asText());
+            contributor.put("commits", contributorNode.get("commits").asInt());
+            contributor.put("additions", contributorNode.get("additions").asInt());
+            contributor.put("deletions", contributorNode.get("deletions").asInt());
+
+            contributors.add(contributor);
         }
+
+        return contributors;
     }
 
     /**
      * GitLab 프로젝트 언어 통계 조회
      */
-    public Map<String, Object> fetchProjectLanguages(Long userId, String projectId) {
-        try {
-            GitLabIntegration integration = getUserGitLabIntegration(userId);
-            String accessToken = encryptionUtil.decrypt(integration.getAccessToken());
-            String gitlabUrl = integration.getGitlabUrl();
-
-            WebClient webClient = WebClient.builder()
-                    .baseUrl(gitlabUrl + "/api/v4")
-                    .build();
-
-            String response = webClient.get()
-                    .uri("/projects/{id}/languages", projectId)
-                    .header("Private-Token", accessToken)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode languagesJson = objectMapper.readTree(response);
-
-            Map<String, Double> languageData = new HashMap<>();
-            languagesJson.fields().forEachRemaining(entry -> {
-                languageData.put(entry.getKey(), entry.getValue().asDouble());
-            });
-
-            double totalBytes = languageData.values().stream().mapToDouble(Double::doubleValue).sum();
-
-            List<Map<String, Object>> languages = languageData.entrySet().stream()
-                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
-                    .map(entry -> {
-                        Map<String, Object> lang = new HashMap<>();
-                        lang.put("language", entry.getKey());
-                        lang.put("bytes", entry.getValue().longValue());
-                        lang.put("percentage", (entry.getValue() / totalBytes) * 100);
-                        return lang;
-                    })
-                    .collect(Collectors.toList());
-
-            Map<String, Object> result = new HashMap<>();
-            result.put("total_bytes", (long) totalBytes);
-            result.put("languages", languages);
-
-            return result;
-
-        } catch (Exception e) {
-            throw new RuntimeException("GitLab 언어 통계를 가져올 수 없습니다: " + e.getMessage(), e);
-        }
+    public Mono<Map<String, Object>> fetchProjectLanguages(Long userId, String projectId) {
+        return Mono.defer(() -> fetchProjectLanguages(resolveApi(userId), projectId));
+    }
+
+    private Mono<Map<String, Object>> fetchProjectLanguages(GitLabApi api, String projectId) {
+        return responseCache.get(api.baseUrl, uriBuilder -> uriBuilder.path("/projects/{id}/languages").build(projectId),
+                api.accessToken, headers -> headers.set("Private-Token", api.accessToken))
+                .flatMap(response -> Mono.fromCallable(() -> parseProjectLanguages(response)))
+                .onErrorMap(e -> new RuntimeException("GitLab 언어 통계를 가져올 수 없습니다: " + e.getMessage(), e));
+    }
+
+    private Map<String, Object> parseProjectLanguages(String response) throws IOException {
+        JsonNode languagesJson = objectMapper.readTree(response);
+
+        Map<String, Double> languageData = new HashMap<>();
+        languagesJson.fields().forEachRemaining(entry -> {
+            languageData.put(entry.getKey(), entry.getValue().asDouble());
+        });
+
+        double totalBytes = languageData.values().stream().mapToDouble(Double::doubleValue).sum();
+
+        List<Map<String, Object>> languages = languageData.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .map(entry -> {
+                    Map<String, Object> lang = new HashMap<>();
+                    lang.put("language", entry.getKey());
+                    lang.put("bytes", entry.getValue().longValue());
+                    lang.put("percentage", (entry.getValue() / totalBytes) * 100);
+                    return lang;
+                })
+                .collect(Collectors.toList());
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("total_bytes", (long) totalBytes);
+        result.put("languages", languages);
+
+        return result;
     }
 
     /**
      * GitLab 프로젝트 이슈 목록 조회
      */
-    public List<Map<String, Object>> fetchProjectIssues(Long userId, String projectId) {
-        try {
-            GitLabIntegration integration = getUserGitLabIntegration(userId);
-            String accessToken = encryptionUtil.decrypt(integration.getAccessToken());
-            String gitlabUrl = integration.getGitlabUrl();
-
-            WebClient webClient = WebClient.builder()
-                    .baseUrl(gitlabUrl + "/api/v4")
-                    .build();
-
-            String response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/projects/{id}/issues")
-                            .queryParam("state", "opened")
-                            .queryParam("per_page", "20")
-                            .build(projectId))
-                    .header("Private-Token", accessToken)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode issuesArray = objectMapper.readTree(response);
-            List<Map<String, Object>> issues = new ArrayList<>();
-
-            for (JsonNode issueNode : issuesArray) {
-                Map<String, Object> issue = new HashMap<>();
-                issue.put("id", issueNode.get("id").asLong());
-                issue.put("iid", issueNode.get("iid").asInt());
-                issue.put("title", issueNode.get("title").asText());
-                issue.put("description", issueNode.has("description") && !issueNode.get("description").isNull()
-                        ? issueNode.get("description").asText()
-                        : "");
-                issue.put("state", issueNode.get("state").asText());
-                issue.put("created_at", issueNode.get("created_at").asText());
-                issue.put("updated_at", issueNode.get("updated_at").asText());
-                issue.put("web_url", issueNode.get("web_url").asText());
-
-                // 작성자 정보
-                if (issueNode.has("author")) {
-                    JsonNode author = issueNode.get("author");
-                    Map<String, Object> authorInfo = new HashMap<>();
-                    authorInfo.put("name", author.get("name").asText());
-                    authorInfo.put("username", author.get("username").asText());
-                    authorInfo.put("avatar_url", author.has("avatar_url") && !author.get("avatar_url").isNull()
-                            ? author.get("avatar_url").asText()
-                            : "");
-                    issue.put("author", authorInfo);
-                }
-
-                issues.add(issue);
-            }
-
-            return issues;
-
-        } catch (Exception e) {
-            throw new RuntimeException("GitLab 이슈 목록을 가져올 수 없습니다: " + e.getMessage(), e);
-        }
+    public Mono<List<GitLabIssue>> fetchProjectIssues(Long userId, String projectId) {
+        return Mono.defer(() -> fetchProjectIssues(resolveApi(userId), projectId));
+    }
+
+    private Mono<List<GitLabIssue>> fetchProjectIssues(GitLabApi api, String projectId) {
+        return responseCache.get(api.baseUrl, uriBuilder -> uriBuilder
+                        .path("/projects/{id}/issues")
+                        .queryParam("state", "opened")
+                        .queryParam("per_page", "20")
+                        .build(projectId),
+                api.accessToken, headers -> headers.set("Private-Token", api.accessToken),
+                new TypeReference<List<GitLabIssue>>() {
+                })
+                .onErrorMap(e -> new RuntimeException("GitLab 이슈 목록을 가져올 수 없습니다: " + e.getMessage(), e));
     }
 
     /**
      * GitLab 프로젝트 머지 리퀘스트 목록 조회
      */
-    public List<Map<String, Object>> fetchProjectMergeRequests(Long userId, String projectId) {
-        try {
-            GitLabIntegration integration = getUserGitLabIntegration(userId);
-            String accessToken = encryptionUtil.decrypt(integration.getAccessToken());
-            String gitlabUrl = integration.getGitlabUrl();
-
-            WebClient webClient = WebClient.builder()
-                    .baseUrl(gitlabUrl + "/api/v4")
-                    .build();
-
-            String response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/projects/{id}/merge_requests")
-                            .queryParam("state", "opened")
-                            .queryParam("per_page", "20")
-                            .build(projectId))
-                    .header("Private-Token", accessToken)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode mergeRequestsArray = objectMapper.readTree(response);
-            List<Map<String, Object>> mergeRequests = new ArrayList<>();
-
-            for (JsonNode mrNode : mergeRequestsArray) {
-                Map<String, Object> mergeRequest = new HashMap<>();
-                mergeRequest.put("id", mrNode.get("id").asLong());
-                mergeRequest.put("iid", mrNode.get("iid").asInt());
-                mergeRequest.put("title", mrNode.get("title").asText());
-                mergeRequest.put("description", mrNode.has("description") && !mrNode.get("description").isNull()
-                        ? mrNode.get("description").asText()
-                        : "");
-                mergeRequest.put("state", mrNode.get("state").asText());
-                mergeRequest.put("created_at", mrNode.get("created_at").asText());
-                mergeRequest.put("updated_at", mrNode.get("updated_at").asText());
-                mergeRequest.put("web_url", mrNode.get("web_url").asText());
-                mergeRequest.put("source_branch", mrNode.get("source_branch").asText());
-                mergeRequest.put("target_branch", mrNode.get("target_branch").asText());
-
-                // 작성자 정보
-                if (mrNode.has("author")) {
-                    JsonNode author = mrNode.get("author");
-                    Map<String, Object> authorInfo = new HashMap<>();
-                    authorInfo.put("name", author.get("name").asText());
-                    authorInfo.put("username", author.get("username").asText());
-                    authorInfo.put("avatar_url", author.has("avatar_url") && !author.get("avatar_url").isNull()
-                            ? author.get("avatar_url").asText()
-                            : "");
-                    mergeRequest.put("author", authorInfo);
-                }
-
-                mergeRequests.add(mergeRequest);
-            }
-
-            return mergeRequests;
-
-        } catch (Exception e) {
-            throw new RuntimeException("GitLab 머지 리퀘스트 목록을 가져올 수 없습니다: " + e.getMessage(), e);
+    public Mono<List<GitLabMergeRequest>> fetchProjectMergeRequests(Long userId, String projectId) {
+        return Mono.defer(() -> fetchProjectMergeRequests(resolveApi(userId), projectId));
+    }
+
+    private Mono<List<GitLabMergeRequest>> fetchProjectMergeRequests(GitLabApi api, String projectId) {
+        return responseCache.get(api.baseUrl, uriBuilder -> uriBuilder
+                        .path("/projects/{id}/merge_requests")
+                        .queryParam("state", "opened")
+                        .queryParam("per_page", "20")
+                        .build(projectId),
+                api.accessToken, headers -> headers.set("Private-Token", api.accessToken),
+                new TypeReference<List<GitLabMergeRequest>>() {
+                })
+                .onErrorMap(e -> new RuntimeException("GitLab 머지 리퀘스트 목록을 가져올 수 없습니다: " + e.getMessage(), e));
+    }
+
+    /**
+     * GitLab 프로젝트 대시보드 조회
+     * 연동 조회와 토큰 복호화는 한 번만 하고 여섯 항목을 동시에 가져옵니다.
+     * 항목별 제한 시간을 넘기거나 실패한 항목은 null로 두고 errors에 사유를 담습니다.
+     * 결과가 비어 있는 항목도 null로 넣어 응답에 여섯 키가 항상 있게 합니다.
+     */
+    public Mono<Map<String, Object>> fetchProjectDashboard(Long userId, String projectId, int commitsPerPage) {
+        return Mono.fromCallable(() -> resolveApi(userId))
+                .flatMap(api -> Flux.mergeSequential(
+                        section("details", fetchProjectDetails(api, projectId)),
+                        section("commits", fetchProjectCommits(api, projectId, 1, commitsPerPage)),
+                        section("contributors", fetchProjectContributors(api, projectId)),
+                        section("languages", fetchProjectLanguages(api, projectId)),
+                        section("issues", fetchProjectIssues(api, projectId)),
+                        section("merge_requests", fetchProjectMergeRequests(api, projectId)))
+                        .collectList())
+                .map(sections -> {
+                    Map<String, Object> dashboard = new LinkedHashMap<>();
+                    Map<String, String> errors = new LinkedHashMap<>();
+                    for (DashboardSection section : sections) {
+                        dashboard.put(section.name, section.data);
+                        if (section.error != null) {
+                            errors.put(section.name, section.error);
+                        }
+                    }
+                    dashboard.put("errors", errors);
+                    return dashboard;
+                });
+    }
+
+    private Mono<DashboardSection> section(String name, Mono<?> data) {
+        return data
+                .timeout(Duration.ofMillis(dashboardSectionTimeoutMs))
+                .map(value -> new DashboardSection(name, value, null))
+                .onErrorResume(e -> Mono.just(new DashboardSection(name, null,
+                        e instanceof TimeoutException ? "응답 시간이 초과되었습니다." : e.getMessage())))
+                .defaultIfEmpty(new DashboardSection(name, null, null));
+    }
+
+    /**
+     * 사용자별 GitLab API 호출 정보 (API base URL과 복호화된 토큰)
+     */
+    private static class GitLabApi {
+        private final String baseUrl;
+        private final String accessToken;
+
+        private GitLabApi(String baseUrl, String accessToken) {
+            this.baseUrl = baseUrl;
+            this.accessToken = accessToken;
+        }
+    }
+
+    /**
+     * 대시보드 항목별 결과
+     */
+    private static class DashboardSection {
+        private final String name;
+        private final Object data;
+        private final String error;
+
+        private DashboardSection(String name, Object data, String error) {
+            this.name = name;
+            this.data = data;
+            this.error = error;
         }
     }
-}
\ No newline at end of file
+}
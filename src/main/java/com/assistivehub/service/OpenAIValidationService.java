@@ -1,35 +1,67 @@
 package com.assistivehub.service;
 
-import org.springframework.http.*;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import com.assistivehub.integration.common.client.UpstreamClientRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.ResourceAccessException;
-
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
 import java.time.Duration;
-import java.util.Collections;
+import java.util.Base64;
+import java.util.concurrent.TimeoutException;
 
 @Service
 public class OpenAIValidationService {
 
     private static final String OPENAI_API_BASE_URL = "https://api.openai.com/v1";
-    private static final String MODELS_ENDPOINT = "/models";
+    private static final String MODEL_ENDPOINT = "/models/{model}";
     private static final int TIMEOUT_SECONDS = 10;
 
-    private final RestTemplate restTemplate;
+    @Autowired
+    private UpstreamClientRegistry upstreamClients;
+
+    // 모델 목록 전체 대신 모델 하나만 조회하여 인증 여부만 확인 (응답이 작음)
+    @Value("${openai.validation.probe-model:gpt-4o-mini}")
+    private String probeModel;
+
+    @Value("${openai.validation.cache-ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    private WebClient webClient;
 
-    public OpenAIValidationService() {
-        // 타임아웃 설정을 위한 RequestFactory 구성
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(TIMEOUT_SECONDS * 1000);
-        factory.setReadTimeout(TIMEOUT_SECONDS * 1000);
+    // 검증 결과 캐시 (키 원문 대신 프로세스별 salt로 만든 HMAC을 키로 사용)
+    private Cache<String, OpenAIValidationResult> resultCache;
 
-        this.restTemplate = new RestTemplate(factory);
+    private SecretKeySpec cacheKeySalt;
+
+    @PostConstruct
+    public void init() {
+        this.webClient = upstreamClients.client(OPENAI_API_BASE_URL);
+        this.resultCache = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+
+        byte[] salt = new byte[32];
+        new SecureRandom().nextBytes(salt);
+        this.cacheKeySalt = new SecretKeySpec(salt, "HmacSHA256");
     }
 
     /**
      * OpenAI API 키의 유효성을 검증합니다.
+     * 같은 키를 다시 검증하면 캐시 유효 시간 동안은 저장된 결과를 바로 반환합니다.
      * 
      * @param apiKey 검증할 OpenAI API 키
      * @return OpenAIValidationResult 검증 결과
@@ -43,62 +75,90 @@ public class OpenAIValidationService {
             return new OpenAIValidationResult(false, "유효하지 않은 OpenAI API 키 형식입니다. 'sk-'로 시작해야 합니다.");
         }
 
-        try {
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + apiKey);
-            headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            // OpenAI API 호출 (models 엔드포인트는 가장 가벼운 테스트용)
-            String url = OPENAI_API_BASE_URL + MODELS_ENDPOINT;
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    String.class);
-
-            // 성공적으로 응답받았다면 유효한 키
-            if (response.getStatusCode() == HttpStatus.OK) {
-                return new OpenAIValidationResult(true, "유효한 OpenAI API 키입니다.");
-            } else {
-                return new OpenAIValidationResult(false, "OpenAI API에서 예상치 못한 응답이 반환되었습니다.");
-            }
+        String cacheKey = cacheKey(apiKey);
+        OpenAIValidationResult cached = resultCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        OpenAIValidationResult result = probe(apiKey);
+        if (result.isDefinitive()) {
+            resultCache.put(cacheKey, result);
+        }
+        return result;
+    }
 
-        } catch (HttpClientErrorException e) {
-            // HTTP 4xx 에러 처리
-            if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
-                return new OpenAIValidationResult(false, "유효하지 않은 OpenAI API 키입니다. 키를 확인해주세요.");
+    /**
+     * 모델 하나를 조회하여 키 인증 여부 확인
+     * 인증이 통과했다면 모델이 없거나(404) 접근 권한이 없어도 키 자체는 유효합니다.
+     */
+    private OpenAIValidationResult probe(String apiKey) {
+        try {
+            webClient.get()
+                    .uri(MODEL_ENDPOINT, probeModel)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
+                    .block();
+
+            return new OpenAIValidationResult(true, "유효한 OpenAI API 키입니다.", true);
+
+        } catch (WebClientResponseException e) {
+            // HTTP 4xx/5xx 에러 처리
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                return new OpenAIValidationResult(true, "유효한 OpenAI API 키입니다.", true);
+            } else if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
+                return new OpenAIValidationResult(false, "유효하지 않은 OpenAI API 키입니다. 키를 확인해주세요.", true);
             } else if (e.getStatusCode() == HttpStatus.FORBIDDEN) {
-                return new OpenAIValidationResult(false, "API 키에 필요한 권한이 없습니다.");
+                return new OpenAIValidationResult(false, "API 키에 필요한 권한이 없습니다.", true);
             } else if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
                 return new OpenAIValidationResult(false, "API 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
             } else {
                 return new OpenAIValidationResult(false, "OpenAI API 키 검증 중 오류가 발생했습니다: " + e.getMessage());
             }
 
-        } catch (ResourceAccessException e) {
+        } catch (WebClientRequestException e) {
             // 네트워크 타임아웃 등
             return new OpenAIValidationResult(false, "OpenAI API 연결 시간이 초과되었습니다. 네트워크 연결을 확인해주세요.");
 
         } catch (Exception e) {
+            if (e.getCause() instanceof TimeoutException) {
+                return new OpenAIValidationResult(false, "OpenAI API 연결 시간이 초과되었습니다. 네트워크 연결을 확인해주세요.");
+            }
             // 기타 예외
             return new OpenAIValidationResult(false, "OpenAI API 키 검증 중 예상치 못한 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
+    private String cacheKey(String apiKey) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(cacheKeySalt);
+            return Base64.getEncoder().encodeToString(mac.doFinal(apiKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new RuntimeException("검증 캐시 키 생성 실패", e);
+        }
+    }
+
     /**
      * OpenAI API 키 검증 결과를 담는 클래스
      */
     public static class OpenAIValidationResult {
         private final boolean valid;
         private final String message;
+        // 키 자체에 대한 확정 결과인지 (네트워크 오류, 한도 초과 등 일시적 결과는 캐시하지 않음)
+        private final boolean definitive;
 
         public OpenAIValidationResult(boolean valid, String message) {
+            this(valid, message, false);
+        }
+
+        public OpenAIValidationResult(boolean valid, String message, boolean definitive) {
             this.valid = valid;
             this.message = message;
+            this.definitive = definitive;
         }
 
         public boolean isValid() {
@@ -109,6 +169,10 @@ public class OpenAIValidationService {
             return message;
         }
 
+        public boolean isDefinitive() {
+            return definitive;
+        }
+
         @Override
         public String toString() {
             return "OpenAIValidationResult{valid=" + valid + ", message='" + message + "'}";
@@ -0,0 +1,200 @@
+package com.assistivehub.service;
+
+import com.assistivehub.util.EncryptionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 암호화 컬럼을 현재 키의 봉투 형식으로 옮기는 백그라운드 재암호화 작업
+ *
+ * 테이블마다 id 기준 키셋 페이지네이션으로 조금씩 읽고, 복호화/암호화는 트랜잭션 밖에서 수행한 뒤
+ * 배치 단위의 짧은 트랜잭션으로만 UPDATE 합니다. 읽은 이후 값이 바뀐 행은 건너뛰므로
+ * 운영 중에도 사용자 쓰기와 충돌하지 않습니다.
+ */
+@Service
+public class ReEncryptionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReEncryptionService.class);
+
+    /**
+     * 암호화된 값을 저장하는 컬럼 목록
+     */
+    static final List<EncryptedColumn> ENCRYPTED_COLUMNS = Arrays.asList(
+            new EncryptedColumn("integrated_services", "access_token"),
+            new EncryptedColumn("slack_integrations", "user_token"),
+            new EncryptedColumn("slack_integrations", "bot_token"),
+            new EncryptedColumn("slack_integrations", "monitoring_channels"),
+            new EncryptedColumn("slack_integrations", "notification_settings"),
+            new EncryptedColumn("slack_integrations", "keywords"),
+            new EncryptedColumn("slack_integrations", "encrypted_settings"),
+            new EncryptedColumn("github_integrations", "encrypted_repositories"),
+            new EncryptedColumn("github_integrations", "encrypted_webhooks"),
+            new EncryptedColumn("github_integrations", "encrypted_notification_settings"),
+            new EncryptedColumn("github_integrations", "encrypted_sync_settings"),
+            new EncryptedColumn("github_integrations", "encrypted_settings"),
+            new EncryptedColumn("gitlab_integrations", "encrypted_projects"),
+            new EncryptedColumn("gitlab_integrations", "encrypted_webhooks"),
+            new EncryptedColumn("gitlab_integrations", "encrypted_notification_settings"),
+            new EncryptedColumn("gitlab_integrations", "encrypted_sync_settings"),
+            new EncryptedColumn("gitlab_integrations", "encrypted_settings"),
+            new EncryptedColumn("notion_integrations", "encrypted_databases"),
+            new EncryptedColumn("notion_integrations", "encrypted_pages"),
+            new EncryptedColumn("notion_integrations", "encrypted_templates"),
+            new EncryptedColumn("notion_integrations", "encrypted_sync_settings"),
+            new EncryptedColumn("notion_integrations", "encrypted_settings"),
+            new EncryptedColumn("openai_keys", "encrypted_key"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${encryption.rotation.enabled:false}")
+    private boolean enabled;
+
+    @Value("${encryption.rotation.batch-size:100}")
+    private int batchSize;
+
+    @Value("${encryption.rotation.batch-delay-ms:200}")
+    private long batchDelayMs;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Autowired
+    public ReEncryptionService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주기적으로 재암호화 실행 (encryption.rotation.enabled=true 일 때만)
+     */
+    @Scheduled(fixedDelayString = "${encryption.rotation.interval-ms:3600000}",
+            initialDelayString = "${encryption.rotation.initial-delay-ms:60000}")
+    public void scheduledReEncryption() {
+        if (enabled) {
+            reEncryptAll();
+        }
+    }
+
+    /**
+     * 모든 암호화 컬럼 재암호화
+     *
+     * @return 재암호화된 값 개수
+     */
+    public long reEncryptAll() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("재암호화 작업이 이미 실행 중입니다.");
+            return 0;
+        }
+
+        try {
+            long total = 0;
+            for (EncryptedColumn column : ENCRYPTED_COLUMNS) {
+                total += reEncryptColumn(column);
+            }
+            log.info("재암호화 완료: 키 {} 기준 {}건 갱신", encryptionUtil.getActiveKeyId(), total);
+            return total;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 한 컬럼을 키셋 페이지네이션으로 순회하며 재암호화
+     */
+    private long reEncryptColumn(EncryptedColumn column) {
+        String selectSql = "SELECT id, " + column.column + " AS encrypted_value FROM " + column.table
+                + " WHERE id > ? AND " + column.column + " IS NOT NULL ORDER BY id LIMIT ?";
+        String updateSql = "UPDATE " + column.table + " SET " + column.column + " = ?"
+                + " WHERE id = ? AND " + column.column + " = ?";
+
+        long lastId = 0;
+        long updated = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(selectSql, lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            // 복호화/암호화는 트랜잭션 밖에서 처리
+            List<Object[]> batchArgs = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                Long id = ((Number) row.get("id")).longValue();
+                String value = (String) row.get("encrypted_value");
+                lastId = id;
+
+                if (!encryptionUtil.needsReEncryption(value)) {
+                    continue;
+                }
+                try {
+                    batchArgs.add(new Object[] { encryptionUtil.reEncrypt(value), id, value });
+                } catch (Exception e) {
+                    log.warn("재암호화 건너뜀 {}.{} id={}: {}", column.table, column.column, id, e.getMessage());
+                }
+            }
+
+            if (!batchArgs.isEmpty()) {
+                int[] results = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(updateSql, batchArgs));
+                if (results != null) {
+                    for (int result : results) {
+                        if (result > 0) {
+                            updated += result;
+                        }
+                    }
+                }
+            }
+
+            if (rows.size() < batchSize) {
+                break;
+            }
+            throttle();
+        }
+
+        if (updated > 0) {
+            log.info("재암호화 {}.{}: {}건", column.table, column.column, updated);
+        }
+        return updated;
+    }
+
+    private void throttle() {
+        if (batchDelayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(batchDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("재암호화 작업이 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 암호화 컬럼 정보
+     */
+    static class EncryptedColumn {
+        private final String table;
+        private final String column;
+
+        EncryptedColumn(String table, String column) {
+            this.table = table;
+            this.column = column;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.assistivehub.service;
+
+import com.assistivehub.entity.GitHubIntegration;
+import com.assistivehub.entity.GitLabIntegration;
+import com.assistivehub.entity.NotionIntegration;
+import com.assistivehub.entity.SlackIntegration;
+import com.assistivehub.util.EncryptedSettingsDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 개별 암호화 설정 컬럼을 하나의 설정 문서(encrypted_settings)로 합치는 백그라운드 마이그레이션
+ *
+ * 재암호화 작업과 같은 방식으로 id 기준 키셋 페이지네이션으로 읽고, 복호화/암호화는 트랜잭션 밖에서 수행합니다.
+ * UPDATE 조건에 읽은 컬럼 값을 그대로 넣어 그 사이 사용자가 수정한 행은 건너뜁니다.
+ */
+@Service
+public class SettingsDocumentMigrationService {
+
+    private static final Logger log = LoggerFactory.getLogger(SettingsDocumentMigrationService.class);
+
+    /**
+     * 테이블별 설정 컬럼과 문서 섹션 이름
+     */
+    static final List<SettingsTable> SETTINGS_TABLES = Arrays.asList(
+            new SettingsTable("slack_integrations", new String[][] {
+                    { "monitoring_channels", SlackIntegration.SECTION_MONITORING_CHANNELS },
+                    { "notification_settings", SlackIntegration.SECTION_NOTIFICATION_SETTINGS },
+                    { "keywords", SlackIntegration.SECTION_KEYWORDS } }),
+            new SettingsTable("github_integrations", new String[][] {
+                    { "encrypted_repositories", GitHubIntegration.SECTION_REPOSITORIES },
+                    { "encrypted_webhooks", GitHubIntegration.SECTION_WEBHOOKS },
+                    { "encrypted_notification_settings", GitHubIntegration.SECTION_NOTIFICATION_SETTINGS },
+                    { "encrypted_sync_settings", GitHubIntegration.SECTION_SYNC_SETTINGS } }),
+            new SettingsTable("gitlab_integrations", new String[][] {
+                    { "encrypted_projects", GitLabIntegration.SECTION_PROJECTS },
+                    { "encrypted_webhooks", GitLabIntegration.SECTION_WEBHOOKS },
+                    { "encrypted_notification_settings", GitLabIntegration.SECTION_NOTIFICATION_SETTINGS },
+                    { "encrypted_sync_settings", GitLabIntegration.SECTION_SYNC_SETTINGS } }),
+            new SettingsTable("notion_integrations", new String[][] {
+                    { "encrypted_databases", NotionIntegration.SECTION_DATABASES },
+                    { "encrypted_pages", NotionIntegration.SECTION_PAGES },
+                    { "encrypted_templates", NotionIntegration.SECTION_TEMPLATES },
+                    { "encrypted_sync_settings", NotionIntegration.SECTION_SYNC_SETTINGS } }));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EncryptedSettingsDocument settingsDocument;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${integration.settings-document.migration.enabled:false}")
+    private boolean enabled;
+
+    @Value("${integration.settings-document.migration.batch-size:100}")
+    private int batchSize;
+
+    @Value("${integration.settings-document.migration.batch-delay-ms:200}")
+    private long batchDelayMs;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Autowired
+    public SettingsDocumentMigrationService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주기적으로 마이그레이션 실행 (설정 문서 사용과 마이그레이션이 모두 켜져 있을 때만)
+     */
+    @Scheduled(fixedDelayString = "${integration.settings-document.migration.interval-ms:3600000}",
+            initialDelayString = "${integration.settings-document.migration.initial-delay-ms:90000}")
+    public void scheduledMigration() {
+        if (enabled && settingsDocument.isEnabled()) {
+            migrateAll();
+        }
+    }
+
+    /**
+     * 모든 연동 테이블의 설정 컬럼을 문서로 합침
+     *
+     * @return 문서로 옮겨진 행 개수
+     */
+    public long migrateAll() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("설정 문서 마이그레이션이 이미 실행 중입니다.");
+            return 0;
+        }
+
+        try {
+            long total = 0;
+            for (SettingsTable table : SETTINGS_TABLES) {
+                total += migrateTable(table);
+            }
+            log.info("설정 문서 마이그레이션 완료: {}건", total);
+            return total;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 한 테이블을 키셋 페이지네이션으로 순회하며 설정 문서 생성
+     */
+    private long migrateTable(SettingsTable table) {
+        StringBuilder columns = new StringBuilder();
+        StringBuilder anyNotNull = new StringBuilder();
+        StringBuilder clearColumns = new StringBuilder();
+        for (String[] mapping : table.columns) {
+            columns.append(", ").append(mapping[0]);
+            anyNotNull.append(anyNotNull.length() == 0 ? "" : " OR ").append(mapping[0]).append(" IS NOT NULL");
+            clearColumns.append(", ").append(mapping[0]).append(" = NULL");
+        }
+
+        String selectSql = "SELECT id" + columns + " FROM " + table.table
+                + " WHERE id > ? AND encrypted_settings IS NULL AND (" + anyNotNull + ") ORDER BY id LIMIT ?";
+        String updatePrefix = "UPDATE " + table.table + " SET encrypted_settings = ?" + clearColumns
+                + " WHERE id = ? AND encrypted_settings IS NULL";
+
+        long lastId = 0;
+        long migrated = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(selectSql, lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            // NULL 비교 조건이 행마다 달라 SQL별로 묶어서 배치 실행
+            Map<String, List<Object[]>> batches = new LinkedHashMap<>();
+            for (Map<String, Object> row : rows) {
+                Long id = ((Number) row.get("id")).longValue();
+                lastId = id;
+
+                Map<String, String> legacyColumns = new LinkedHashMap<>();
+                StringBuilder updateSql = new StringBuilder(updatePrefix);
+                List<Object> args = new ArrayList<>();
+                for (String[] mapping : table.columns) {
+                    String value = (String) row.get(mapping[0]);
+                    legacyColumns.put(mapping[1], value);
+                    if (value == null) {
+                        updateSql.append(" AND ").append(mapping[0]).append(" IS NULL");
+                    } else {
+                        updateSql.append(" AND ").append(mapping[0]).append(" = ?");
+                        args.add(value);
+                    }
+                }
+
+                try {
+                    String document = settingsDocument.seal(settingsDocument.currentSections(null, legacyColumns));
+                    args.add(0, id);
+                    args.add(0, document);
+                    batches.computeIfAbsent(updateSql.toString(), sql -> new ArrayList<>()).add(args.toArray());
+                } catch (Exception e) {
+                    log.warn("설정 문서 마이그레이션 건너뜀 {} id={}: {}", table.table, id, e.getMessage());
+                }
+            }
+
+            if (!batches.isEmpty()) {
+                Integer updated = transactionTemplate.execute(status -> {
+                    int count = 0;
+                    for (Map.Entry<String, List<Object[]>> batch : batches.entrySet()) {
+                        for (int result : jdbcTemplate.batchUpdate(batch.getKey(), batch.getValue())) {
+                            if (result > 0) {
+                                count += result;
+                            }
+                        }
+                    }
+                    return count;
+                });
+                if (updated != null) {
+                    migrated += updated;
+                }
+            }
+
+            if (rows.size() < batchSize) {
+                break;
+            }
+            throttle();
+        }
+
+        if (migrated > 0) {
+            log.info("설정 문서 마이그레이션 {}: {}건", table.table, migrated);
+        }
+        return migrated;
+    }
+
+    private void throttle() {
+        if (batchDelayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(batchDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("설정 문서 마이그레이션이 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 설정 테이블 정보 ({컬럼 이름, 섹션 이름} 목록)
+     */
+    static class SettingsTable {
+        private final String table;
+        private final String[][] columns;
+
+        SettingsTable(String table, String[][] columns) {
+            this.table = table;
+            this.columns = columns;
+        }
+    }
+}
@@ -68,8 +68,7 @@ public class UserService implements UserDetailsService {
         User savedUser = userRepository.save(user);
 
         // JWT 토큰 생성
-        UserDetails userDetails = loadUserByUsername(savedUser.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
+        String token = jwtUtil.generateToken(savedUser);
 
         // OpenAI 키 보유 여부 확인 (신규 가입자는 항상 false)
         boolean hasOpenAIKey = openAIKeyRepository.countByUserAndIsActiveTrue(savedUser) > 0;
@@ -92,8 +91,7 @@ public class UserService implements UserDetailsService {
         userRepository.save(user);
 
         // JWT 토큰 생성
-        UserDetails userDetails = loadUserByUsername(user.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
+        String token = jwtUtil.generateToken(user);
 
         // OpenAI 키 보유 여부 확인
         boolean hasOpenAIKey = openAIKeyRepository.countByUserAndIsActiveTrue(user) > 0;
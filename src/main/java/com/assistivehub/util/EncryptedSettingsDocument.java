@@ -0,0 +1,158 @@
+package com.assistivehub.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 연동 설정을 하나의 암호화 문서(encrypted_settings)로 저장/조회
+ *
+ * 문서 형식: {"version":1,"sections":{"섹션 이름": JSON 값, ...}}
+ * 한 번의 복호화와 한 번의 JSON 파싱으로 모든 설정 섹션을 읽을 수 있습니다.
+ */
+@Component
+public class EncryptedSettingsDocument {
+
+    public static final int VERSION = 1;
+
+    private static final String VERSION_FIELD = "version";
+    private static final String SECTIONS_FIELD = "sections";
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Value("${integration.settings-document.enabled:false}")
+    private boolean enabled;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * 새로 저장하는 설정을 문서 형식으로 쓸지 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 섹션들을 하나의 문서로 직렬화 후 암호화 (값이 null인 섹션은 제외)
+     */
+    public String seal(Map<String, ?> sections) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put(VERSION_FIELD, VERSION);
+        ObjectNode sectionsNode = root.putObject(SECTIONS_FIELD);
+
+        for (Map.Entry<String, ?> entry : sections.entrySet()) {
+            if (entry.getValue() != null) {
+                sectionsNode.set(entry.getKey(), objectMapper.valueToTree(entry.getValue()));
+            }
+        }
+
+        try {
+            return encryptionUtil.encrypt(objectMapper.writeValueAsString(root));
+        } catch (Exception e) {
+            throw new RuntimeException("설정 문서 암호화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 섹션 하나를 개별 암호화 컬럼 형식(JSON 암호화)으로 변환
+     */
+    public String sealSection(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return encryptionUtil.encrypt(objectMapper.writeValueAsString(value));
+        } catch (Exception e) {
+            throw new RuntimeException("설정 정보 암호화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 암호화된 문서를 복호화하여 섹션 조회용 객체로 반환
+     */
+    public Sections open(String encryptedDocument) {
+        try {
+            JsonNode root = objectMapper.readTree(encryptionUtil.decrypt(encryptedDocument));
+            int version = root.path(VERSION_FIELD).asInt(0);
+            if (version != VERSION) {
+                throw new RuntimeException("지원하지 않는 설정 문서 버전입니다: " + version);
+            }
+            return new Sections(root.path(SECTIONS_FIELD), objectMapper);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("설정 문서 복호화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 수정 전 현재 섹션 값 조회
+     * 문서가 있으면 문서에서, 없으면 기존 개별 암호화 컬럼(섹션 이름 -> 암호화 값)에서 읽습니다.
+     */
+    public Map<String, Object> currentSections(String encryptedDocument, Map<String, String> legacyColumns) {
+        Map<String, Object> sections = new LinkedHashMap<>();
+
+        if (encryptedDocument != null) {
+            JsonNode node = open(encryptedDocument).node;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                sections.put(field.getKey(), field.getValue());
+            }
+            return sections;
+        }
+
+        for (Map.Entry<String, String> column : legacyColumns.entrySet()) {
+            String encrypted = column.getValue();
+            if (encrypted == null || encrypted.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                sections.put(column.getKey(), objectMapper.readTree(encryptionUtil.decrypt(encrypted)));
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("설정 정보 복호화 실패: " + e.getMessage(), e);
+            }
+        }
+        return sections;
+    }
+
+    /**
+     * 복호화된 문서의 섹션 조회
+     */
+    public static class Sections {
+        private final JsonNode node;
+        private final ObjectMapper objectMapper;
+
+        private Sections(JsonNode node, ObjectMapper objectMapper) {
+            this.node = node;
+            this.objectMapper = objectMapper;
+        }
+
+        public <T> T get(String name, Class<T> type) {
+            JsonNode section = node.get(name);
+            if (section == null || section.isNull()) {
+                return null;
+            }
+            return objectMapper.convertValue(section, type);
+        }
+
+        public <T> T get(String name, TypeReference<T> type) {
+            JsonNode section = node.get(name);
+            if (section == null || section.isNull()) {
+                return null;
+            }
+            return objectMapper.convertValue(section, type);
+        }
+    }
+}
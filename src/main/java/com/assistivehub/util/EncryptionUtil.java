@@ -3,25 +3,105 @@ package com.assistivehub.util;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * 민감 정보 암호화 유틸리티
+ *
+ * 새로 암호화하는 값은 키 ID와 nonce를 포함한 AES-GCM 봉투 형식("v2:" + Base64)으로 저장하고,
+ * 접두사가 없는 기존 AES/ECB 값도 그대로 복호화할 수 있습니다.
+ * 키 교체 시 이전 키를 encryption.keys에 남겨두면 재암호화가 끝날 때까지 양쪽 모두 읽을 수 있습니다.
+ */
 @Component
 public class EncryptionUtil {
 
     private static final String ALGORITHM = "AES";
-    private static final String TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final String LEGACY_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
     private static final int AES_KEY_LENGTH = 32; // AES-256 requires 32 bytes
+    private static final int GCM_NONCE_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
+
+    private static final byte ENVELOPE_VERSION = 2;
+    private static final String ENVELOPE_PREFIX = "v2:";
 
     @Value("${encryption.secret.key:MySecretEncryptionKey2024!@#}")
     private String secretKey;
 
+    // 기존 ECB 데이터를 암호화했던 키 (기본값은 현재 secret key)
+    @Value("${encryption.legacy.key:${encryption.secret.key:MySecretEncryptionKey2024!@#}}")
+    private String legacySecretKey;
+
+    // 새 데이터 암호화에 사용할 키 ID
+    @Value("${encryption.active-key-id:k1}")
+    private String activeKeyId;
+
+    // 추가 키 목록 "keyId:secret,keyId:secret" (교체 전 키 보관용)
+    @Value("${encryption.keys:}")
+    private String additionalKeys;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    // 키 ID별 AES 키 (시작 시 한 번만 계산)
+    private final Map<String, SecretKeySpec> keyRing = new HashMap<>();
+
+    private SecretKeySpec activeKeySpec;
+
+    private SecretKeySpec legacyKeySpec;
+
+    // 스레드별 Cipher 재사용 (Cipher는 스레드 안전하지 않음)
+    private final ThreadLocal<Cipher> gcmCipher = ThreadLocal.withInitial(() -> createCipher(GCM_TRANSFORMATION));
+    private final ThreadLocal<Cipher> legacyDecryptCipher = ThreadLocal.withInitial(() -> {
+        Cipher cipher = createCipher(LEGACY_TRANSFORMATION);
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, legacyKeySpec);
+        } catch (Exception e) {
+            throw new RuntimeException("Cipher 초기화 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+        return cipher;
+    });
+
+    @PostConstruct
+    public void init() {
+        keyRing.put(activeKeyId, new SecretKeySpec(getAdjustedKey(secretKey), ALGORITHM));
+
+        if (additionalKeys != null && !additionalKeys.trim().isEmpty()) {
+            for (String entry : additionalKeys.split(",")) {
+                int separator = entry.indexOf(':');
+                if (separator <= 0) {
+                    throw new IllegalStateException("encryption.keys 형식이 올바르지 않습니다. (keyId:secret)");
+                }
+                String keyId = entry.substring(0, separator).trim();
+                String secret = entry.substring(separator + 1).trim();
+                if (!keyRing.containsKey(keyId)) {
+                    keyRing.put(keyId, new SecretKeySpec(getAdjustedKey(secret), ALGORITHM));
+                }
+            }
+        }
+
+        for (String keyId : keyRing.keySet()) {
+            if (keyId.getBytes(StandardCharsets.UTF_8).length > Byte.MAX_VALUE) {
+                throw new IllegalStateException("암호화 키 ID가 너무 깁니다: " + keyId);
+            }
+        }
+
+        this.activeKeySpec = keyRing.get(activeKeyId);
+        this.legacyKeySpec = new SecretKeySpec(getAdjustedKey(legacySecretKey), ALGORITHM);
+    }
+
     /**
      * 키를 AES-256에 맞는 32바이트로 조정합니다.
      */
@@ -36,44 +116,150 @@ public class EncryptionUtil {
         }
     }
 
+    private Cipher createCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (Exception e) {
+            throw new RuntimeException("Cipher 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 텍스트를 암호화합니다.
      */
     public String encrypt(String plainText) {
-        try {
-            byte[] adjustedKey = getAdjustedKey(secretKey);
-            SecretKeySpec secretKeySpec = new SecretKeySpec(adjustedKey, ALGORITHM);
+        if (plainText == null) {
+            throw new RuntimeException("암호화 중 오류가 발생했습니다: 암호화할 값이 없습니다.");
+        }
+        byte[] envelope = encrypt(plainText.getBytes(StandardCharsets.UTF_8));
+        return ENVELOPE_PREFIX + Base64.getEncoder().encodeToString(envelope);
+    }
 
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec);
+    /**
+     * 바이트 배열을 현재 키로 암호화하여 봉투 형식 바이트를 반환합니다.
+     * 형식: [버전 1바이트][키 ID 길이 1바이트][키 ID][nonce 12바이트][GCM 암호문+태그]
+     */
+    public byte[] encrypt(byte[] plainBytes) {
+        try {
+            byte[] keyId = activeKeyId.getBytes(StandardCharsets.UTF_8);
+            byte[] nonce = new byte[GCM_NONCE_LENGTH];
+            secureRandom.nextBytes(nonce);
 
-            byte[] encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(encryptedBytes);
+            Cipher cipher = gcmCipher.get();
+            cipher.init(Cipher.ENCRYPT_MODE, activeKeySpec, new GCMParameterSpec(GCM_TAG_BITS, nonce));
+            byte[] cipherText = cipher.doFinal(plainBytes);
 
+            return ByteBuffer.allocate(2 + keyId.length + nonce.length + cipherText.length)
+                    .put(ENVELOPE_VERSION)
+                    .put((byte) keyId.length)
+                    .put(keyId)
+                    .put(nonce)
+                    .put(cipherText)
+                    .array();
         } catch (Exception e) {
+            gcmCipher.remove(); // 실패한 Cipher는 상태를 보장할 수 없으므로 폐기
             throw new RuntimeException("암호화 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
     /**
-     * 암호화된 텍스트를 복호화합니다.
+     * 암호화된 텍스트를 복호화합니다. (봉투 형식과 기존 ECB 형식 모두 지원)
      */
     public String decrypt(String encryptedText) {
+        boolean envelope = isEnvelope(encryptedText);
+        byte[] encryptedBytes;
+        try {
+            encryptedBytes = Base64.getDecoder()
+                    .decode(envelope ? encryptedText.substring(ENVELOPE_PREFIX.length()) : encryptedText);
+        } catch (Exception e) {
+            throw new RuntimeException("복호화 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+
+        byte[] decryptedBytes = envelope ? decrypt(encryptedBytes) : decryptLegacy(encryptedBytes);
+        return new String(decryptedBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 봉투 형식 바이트 배열을 복호화합니다.
+     */
+    public byte[] decrypt(byte[] envelope) {
         try {
-            byte[] adjustedKey = getAdjustedKey(secretKey);
-            SecretKeySpec secretKeySpec = new SecretKeySpec(adjustedKey, ALGORITHM);
+            ByteBuffer buffer = ByteBuffer.wrap(envelope);
+            byte version = buffer.get();
+            if (version != ENVELOPE_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 암호화 형식 버전입니다: " + version);
+            }
 
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            cipher.init(Cipher.DECRYPT_MODE, secretKeySpec);
+            byte[] keyIdBytes = new byte[buffer.get()];
+            buffer.get(keyIdBytes);
+            String keyId = new String(keyIdBytes, StandardCharsets.UTF_8);
+            SecretKeySpec keySpec = keyRing.get(keyId);
+            if (keySpec == null) {
+                throw new IllegalArgumentException("알 수 없는 암호화 키 ID입니다: " + keyId);
+            }
 
-            byte[] decryptedBytes = cipher.doFinal(Base64.getDecoder().decode(encryptedText));
-            return new String(decryptedBytes, StandardCharsets.UTF_8);
+            byte[] nonce = new byte[GCM_NONCE_LENGTH];
+            buffer.get(nonce);
 
+            Cipher cipher = gcmCipher.get();
+            cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(GCM_TAG_BITS, nonce));
+            return cipher.doFinal(envelope, buffer.position(), buffer.remaining());
         } catch (Exception e) {
+            gcmCipher.remove();
             throw new RuntimeException("복호화 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 기존 AES/ECB 형식으로 암호화된 바이트를 복호화합니다.
+     */
+    private byte[] decryptLegacy(byte[] encryptedBytes) {
+        try {
+            return legacyDecryptCipher.get().doFinal(encryptedBytes);
+        } catch (Exception e) {
+            legacyDecryptCipher.remove();
+            throw new RuntimeException("복호화 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 봉투 형식 여부 확인 (기존 ECB 값은 Base64라서 ':'를 포함하지 않음)
+     */
+    public boolean isEnvelope(String encryptedText) {
+        return encryptedText != null && encryptedText.startsWith(ENVELOPE_PREFIX);
+    }
+
+    /**
+     * 현재 키의 봉투 형식이 아니어서 재암호화가 필요한 값인지 확인
+     */
+    public boolean needsReEncryption(String encryptedText) {
+        if (encryptedText == null || encryptedText.isEmpty()) {
+            return false;
+        }
+        if (!isEnvelope(encryptedText)) {
+            return true;
+        }
+        try {
+            byte[] envelope = Base64.getDecoder().decode(encryptedText.substring(ENVELOPE_PREFIX.length()));
+            int keyIdLength = envelope[1];
+            String keyId = new String(envelope, 2, keyIdLength, StandardCharsets.UTF_8);
+            return !activeKeyId.equals(keyId);
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    /**
+     * 기존 값을 복호화한 뒤 현재 키의 봉투 형식으로 다시 암호화
+     */
+    public String reEncrypt(String encryptedText) {
+        return encrypt(decrypt(encryptedText));
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
     /**
      * 안전한 랜덤 암호화 키를 생성합니다 (32바이트)
      */
@@ -87,4 +273,4 @@ public class EncryptionUtil {
             throw new RuntimeException("키 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
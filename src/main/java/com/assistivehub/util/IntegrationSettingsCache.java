@@ -0,0 +1,121 @@
+package com.assistivehub.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 복호화 + JSON 파싱이 끝난 연동 설정 캐시
+ * 키는 (연동 종류, 엔티티 id)이고 값은 updated_at과 함께 저장되므로 설정이 저장되어 updated_at이 바뀌면 자동으로 다시 복호화한다.
+ */
+@Component
+public class IntegrationSettingsCache {
+
+    public static final String SLACK = "slack";
+    public static final String GITHUB = "github";
+    public static final String NOTION = "notion";
+
+    @Value("${integration.settings-cache.max-size:5000}")
+    private long maxSize;
+
+    @Value("${integration.settings-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private Cache<String, Entry> cache;
+
+    // updated_at이 달라 다시 복호화한 경우도 미스로 집계하기 위해 직접 센다
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 설정 조회, 없거나 updated_at이 다르면 loader로 복호화 후 저장
+     * 복호화에 실패해 loader가 null을 반환하면 저장하지 않아 다음 조회에서 다시 시도한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String type, Long id, LocalDateTime updatedAt, Supplier<T> loader) {
+        if (id == null) {
+            return loader.get();
+        }
+
+        String key = key(type, id);
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && Objects.equals(entry.updatedAt, updatedAt)) {
+            hitCount.increment();
+            return (T) entry.value;
+        }
+
+        missCount.increment();
+        T value = loader.get();
+        if (value != null) {
+            cache.put(key, new Entry(updatedAt, value));
+        } else {
+            cache.invalidate(key);
+        }
+        return value;
+    }
+
+    /**
+     * 설정 저장/삭제 시 호출
+     */
+    public void invalidate(String type, Long id) {
+        if (id != null) {
+            cache.invalidate(key(type, id));
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 적중/미스/제거 통계
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        long hits = hitCount.sum();
+        long misses = missCount.sum();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("hitCount", hits);
+        result.put("missCount", misses);
+        result.put("evictionCount", stats.evictionCount());
+        result.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        result.put("size", cache.estimatedSize());
+        result.put("maxSize", maxSize);
+        return result;
+    }
+
+    private String key(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    private static class Entry {
+        private final LocalDateTime updatedAt;
+        private final Object value;
+
+        private Entry(LocalDateTime updatedAt, Object value) {
+            this.updatedAt = updatedAt;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.assistivehub.integration.gitlab.service;
+
+import com.assistivehub.entity.GitLabIntegration;
+import com.assistivehub.integration.common.client.UpstreamClientRegistry;
+import com.assistivehub.integration.common.client.UpstreamSyncClient;
+import com.assistivehub.integration.common.sync.IntegrationSyncHandler;
+import com.assistivehub.integration.common.sync.IntegrationSyncLeases;
+import com.assistivehub.integration.common.sync.IntegrationSyncScheduler;
+import com.assistivehub.repository.GitLabIntegrationRepository;
+import com.assistivehub.util.EncryptedSettingsDocument;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * GitLabSyncService를 로컬 HTTP 스텁(GitLab API 흉내)에 대해 실행해 위치 이동, 조건부 요청, 페이지 상한,
+ * 접근 불가 프로젝트 건너뛰기, GitLab 주소별 동시 실행 제한을 확인합니다.
+ */
+class GitLabSyncServiceTest {
+
+    private static final Long INTEGRATION_ID = 1L;
+    private static final String SINCE = "2024-01-01T00:00:00Z";
+    private static final String COMMITS_PATH = "/api/v4/projects/group/project/repository/commits";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 디코딩된 경로 -> 응답
+    private final Map<String, BiFunction<RecordedRequest, HttpServerResponse, Publisher<Void>>> routes =
+            new ConcurrentHashMap<>();
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+
+    private final List<Object[]> activityRows = new CopyOnWriteArrayList<>();
+    private final List<Object[]> cursorRows = new CopyOnWriteArrayList<>();
+
+    private DisposableServer server;
+    private String baseUrl;
+
+    private GitLabIntegrationRepository repository;
+    private EncryptedSettingsDocument settingsDocument;
+    private JdbcTemplate jdbcTemplate;
+    private GitLabIntegration integration;
+    private GitLabSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((request, response) -> {
+                    RecordedRequest recorded = new RecordedRequest(request.uri(),
+                            request.requestHeaders().get("If-None-Match"));
+                    requests.add(recorded);
+                    BiFunction<RecordedRequest, HttpServerResponse, Publisher<Void>> route = routes.get(recorded.path);
+                    return route != null ? route.apply(recorded, response)
+                            : response.status(HttpResponseStatus.NOT_FOUND).send();
+                })
+                .bindNow();
+        baseUrl = "http://127.0.0.1:" + server.port();
+
+        UpstreamClientRegistry registry = mock(UpstreamClientRegistry.class);
+        when(registry.client(anyString()))
+                .thenAnswer(invocation -> WebClient.builder().baseUrl(invocation.getArgument(0)).build());
+        UpstreamSyncClient syncClient = new UpstreamSyncClient();
+        ReflectionTestUtils.setField(syncClient, "upstreamClients", registry);
+
+        integration = new GitLabIntegration();
+        integration.setId(INTEGRATION_ID);
+        integration.setGitlabUrl(baseUrl);
+        integration.setAccessToken("glpat-test");
+        integration.setEncryptedSettings("settings");
+        integration.setSyncCommits(true);
+        integration.setSyncMergeRequests(false);
+        integration.setSyncIssues(false);
+        integration.setSyncPipelines(false);
+
+        repository = mock(GitLabIntegrationRepository.class);
+        when(repository.findById(INTEGRATION_ID)).thenReturn(Optional.of(integration));
+
+        settingsDocument = mock(EncryptedSettingsDocument.class);
+        projects("group/project");
+
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            List<Object[]> rows = new ArrayList<>(invocation.<List<Object[]>>getArgument(1));
+            (sql.contains("gitlab_sync_cursors") ? cursorRows : activityRows).addAll(rows);
+            return new int[rows.size()];
+        });
+
+        service = new GitLabSyncService(mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "gitLabIntegrationRepository", repository);
+        ReflectionTestUtils.setField(service, "settingsDocument", settingsDocument);
+        ReflectionTestUtils.setField(service, "syncClient", syncClient);
+        ReflectionTestUtils.setField(service, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(service, "intervalMinutes", 60L);
+        ReflectionTestUtils.setField(service, "maxConcurrentPerInstance", 2);
+        ReflectionTestUtils.setField(service, "maxPages", 2);
+        ReflectionTestUtils.setField(service, "initialLookbackDays", 30L);
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    void advancesCursorToNewestCommitAndStoresEtag() {
+        storedCursor("group/project", "COMMIT", SINCE, null, null, null);
+        routes.put(COMMITS_PATH, (request, response) -> json(response, "\"c1\"", null,
+                commit("a1", "2024-03-02T10:00:00Z"), commit("a2", "2024-03-01T10:00:00Z")));
+
+        service.sync(INTEGRATION_ID);
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).param("since")).isEqualTo(SINCE);
+        assertThat(requests.get(0).ifNoneMatch).isNull();
+        assertThat(activityRows).extracting(row -> row[3]).containsExactly("a1", "a2");
+
+        Object[] cursor = cursorRow("group/project", "COMMIT");
+        assertThat(cursor[3]).isEqualTo("2024-03-02T10:00:00Z");
+        assertThat(cursor[4]).isEqualTo("\"c1\"");
+        assertThat(cursor[5]).isNull();
+        assertThat(cursor[6]).isNull();
+    }
+
+    @Test
+    void sendsStoredEtagAndKeepsCursorWhenNotModified() {
+        storedCursor("group/project", "COMMIT", SINCE, "\"c1\"", null, null);
+        routes.put(COMMITS_PATH, (request, response) -> "\"c1\"".equals(request.ifNoneMatch)
+                ? response.status(HttpResponseStatus.NOT_MODIFIED).send()
+                : json(response, "\"c2\"", null, commit("a1", "2024-03-02T10:00:00Z")));
+
+        service.sync(INTEGRATION_ID);
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).ifNoneMatch).isEqualTo("\"c1\"");
+        assertThat(activityRows).isEmpty();
+
+        Object[] cursor = cursorRow("group/project", "COMMIT");
+        assertThat(cursor[3]).isEqualTo(SINCE);
+        assertThat(cursor[4]).isEqualTo("\"c1\"");
+    }
+
+    @Test
+    void pageCapSavesPendingUrlAndNextSyncFinishesTheRange() {
+        storedCursor("group/project", "COMMIT", SINCE, "\"old\"", null, null);
+        String page2 = baseUrl + "/api/v4/projects/group%2Fproject/repository/commits?page=2&per_page=100";
+        String page3 = baseUrl + "/api/v4/projects/group%2Fproject/repository/commits?page=3&per_page=100";
+        routes.put(COMMITS_PATH, (request, response) -> {
+            String page = request.param("page");
+            if (page == null) {
+                return json(response, "\"p1\"", page2, commit("a1", "2024-03-03T10:00:00Z"));
+            }
+            if ("2".equals(page)) {
+                return json(response, null, page3, commit("a2", "2024-03-02T10:00:00Z"));
+            }
+            return json(response, null, null, commit("a3", "2024-03-01T10:00:00Z"));
+        });
+
+        service.sync(INTEGRATION_ID);
+
+        // max-pages(2)에 걸림: 위치는 그대로, 남은 페이지 URL과 지금까지 본 가장 최근 값 저장
+        assertThat(requests).hasSize(2);
+        assertThat(activityRows).extracting(row -> row[3]).containsExactly("a1", "a2");
+        Object[] pending = cursorRow("group/project", "COMMIT");
+        assertThat(pending[3]).isEqualTo(SINCE);
+        assertThat(pending[4]).isNull();
+        assertThat(pending[5]).isEqualTo(page3);
+        assertThat(pending[6]).isEqualTo("2024-03-03T10:00:00Z");
+
+        requests.clear();
+        activityRows.clear();
+        cursorRows.clear();
+        storedCursor("group/project", "COMMIT", (String) pending[3], (String) pending[4], (String) pending[5],
+                (String) pending[6]);
+
+        service.sync(INTEGRATION_ID);
+
+        // 남은 페이지부터 조건부 요청 없이 이어 읽고, 범위를 다 읽었으니 위치를 옮김
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).param("page")).isEqualTo("3");
+        assertThat(requests.get(0).ifNoneMatch).isNull();
+        assertThat(activityRows).extracting(row -> row[3]).containsExactly("a3");
+        Object[] cursor = cursorRow("group/project", "COMMIT");
+        assertThat(cursor[3]).isEqualTo("2024-03-03T10:00:00Z");
+        assertThat(cursor[5]).isNull();
+        assertThat(cursor[6]).isNull();
+    }
+
+    @Test
+    void skipsProjectsThatAreGoneOrForbidden() {
+        projects("gone/project", "private/project", "group/project");
+        routes.put("/api/v4/projects/private/project/repository/commits",
+                (request, response) -> response.status(HttpResponseStatus.FORBIDDEN).send());
+        routes.put(COMMITS_PATH, (request, response) -> json(response, "\"c1\"", null,
+                commit("a1", "2024-03-02T10:00:00Z")));
+
+        service.sync(INTEGRATION_ID);
+
+        // 404/403 프로젝트는 위치를 건드리지 않고, 나머지 프로젝트는 저장
+        assertThat(requests).hasSize(3);
+        assertThat(cursorRows).extracting(row -> row[1]).containsExactly("group/project");
+        assertThat(activityRows).extracting(row -> row[1]).containsExactly("group/project");
+    }
+
+    @Test
+    void failsTheSyncWhenForbiddenBecauseOfRateLimit() {
+        routes.put(COMMITS_PATH, (request, response) -> response.status(HttpResponseStatus.FORBIDDEN)
+                .header("X-RateLimit-Remaining", "0")
+                .send());
+
+        assertThatThrownBy(() -> service.sync(INTEGRATION_ID))
+                .isInstanceOf(WebClientResponseException.class);
+        assertThat(cursorRows).isEmpty();
+    }
+
+    @Test
+    void limitsConcurrentSyncsPerGitLabUrl() throws Exception {
+        List<GitLabIntegration> due = new ArrayList<>();
+        Map<Long, String> urls = new HashMap<>();
+        urls.put(1L, "https://gitlab.example.com");
+        urls.put(2L, "https://gitlab.example.com");
+        urls.put(3L, "https://GitLab.Example.com");
+        urls.put(4L, "https://other.example.com");
+        for (Map.Entry<Long, String> entry : urls.entrySet()) {
+            GitLabIntegration dueIntegration = new GitLabIntegration();
+            dueIntegration.setId(entry.getKey());
+            due.add(dueIntegration);
+            when(jdbcTemplate.queryForObject(contains("SELECT gitlab_url"), eq(String.class), eq(entry.getKey())))
+                    .thenReturn(entry.getValue());
+        }
+        when(repository.findIntegrationsNeedingSync(any())).thenReturn(due);
+
+        // 주소 대소문자는 같은 인스턴스로 취급
+        assertThat(service.getConcurrencyKey(3L)).isEqualTo("https://gitlab.example.com");
+
+        IntegrationSyncLeases leases = mock(IntegrationSyncLeases.class);
+        when(leases.acquire(anyString(), anyLong(), anyString(), any(), any(), any())).thenReturn(true);
+
+        IntegrationSyncScheduler scheduler = new IntegrationSyncScheduler();
+        ReflectionTestUtils.setField(scheduler, "handlers", Collections.<IntegrationSyncHandler>singletonList(service));
+        ReflectionTestUtils.setField(scheduler, "leases", leases);
+        ReflectionTestUtils.setField(scheduler, "workerThreads", 1);
+        ReflectionTestUtils.setField(scheduler, "maxConcurrentPerProvider", 10);
+        ReflectionTestUtils.setField(scheduler, "jitterMs", 0L);
+        ReflectionTestUtils.setField(scheduler, "leaseSeconds", 900L);
+        ReflectionTestUtils.setField(scheduler, "minGapSeconds", 300L);
+        scheduler.init();
+        // 배정된 작업은 실행하지 않고 잡고 있게 해 배정 결과만 확인 (실행이 끝나 제한이 풀리지 않도록)
+        ReflectionTestUtils.setField(scheduler, "executor", mock(ScheduledThreadPoolExecutor.class));
+        try {
+            int dispatched = scheduler.dispatchDueSyncs();
+
+            // 같은 주소 3건 중 max-concurrent-per-instance(2)건 + 다른 주소 1건
+            assertThat(dispatched).isEqualTo(3);
+            assertThat(scheduler.getStats().get("keyLimitedCount")).isEqualTo(1L);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private void projects(String... paths) {
+        List<JsonNode> projects = new ArrayList<>();
+        for (String path : paths) {
+            projects.add(objectMapper.createObjectNode().put("fullName", path).put("syncEnabled", true));
+        }
+        Map<String, Object> sections = new HashMap<>();
+        sections.put(GitLabIntegration.SECTION_PROJECTS, objectMapper.valueToTree(projects));
+        when(settingsDocument.currentSections(any(), any())).thenReturn(sections);
+    }
+
+    private void storedCursor(String projectPath, String resourceType, String value, String etag, String pendingUrl,
+            String pendingValue) {
+        doAnswer(invocation -> {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getString("project_path")).thenReturn(projectPath);
+            when(rs.getString("resource_type")).thenReturn(resourceType);
+            when(rs.getString("cursor_value")).thenReturn(value);
+            when(rs.getString("etag")).thenReturn(etag);
+            when(rs.getString("pending_url")).thenReturn(pendingUrl);
+            when(rs.getString("pending_value")).thenReturn(pendingValue);
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(contains("FROM gitlab_sync_cursors"), any(RowCallbackHandler.class),
+                eq(INTEGRATION_ID));
+    }
+
+    private Object[] cursorRow(String projectPath, String resourceType) {
+        return cursorRows.stream()
+                .filter(row -> projectPath.equals(row[1]) && resourceType.equals(row[2]))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("위치 행이 없습니다: " + projectPath + " " + resourceType));
+    }
+
+    private String commit(String id, String committedDate) {
+        return objectMapper.createObjectNode()
+                .put("id", id)
+                .put("title", "commit " + id)
+                .put("author_name", "tester")
+                .put("web_url", "https://gitlab.example.com/commit/" + id)
+                .put("committed_date", committedDate)
+                .toString();
+    }
+
+    private Publisher<Void> json(HttpServerResponse response, String etag, String nextUrl, String... items) {
+        HttpServerResponse result = response.status(HttpResponseStatus.OK)
+                .header("Content-Type", "application/json");
+        if (etag != null) {
+            result = result.header("ETag", etag);
+        }
+        if (nextUrl != null) {
+            result = result.header("Link", "<" + nextUrl + ">; rel=\"next\"");
+        }
+        return result.sendString(Mono.just("[" + String.join(",", Arrays.asList(items)) + "]"));
+    }
+
+    /**
+     * 스텁이 받은 요청
+     */
+    private static class RecordedRequest {
+        private final String path;
+        private final Map<String, List<String>> params;
+        private final String ifNoneMatch;
+
+        private RecordedRequest(String uri, String ifNoneMatch) {
+            QueryStringDecoder decoder = new QueryStringDecoder(uri);
+            this.path = decoder.path();
+            this.params = decoder.parameters();
+            this.ifNoneMatch = ifNoneMatch;
+        }
+
+        private String param(String name) {
+            List<String> values = params.get(name);
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+    }
+}